@@ -1,6 +1,7 @@
 //JAVA 24
 //RUNTIME_OPTIONS --enable-native-access=ALL-UNNAMED
 
+//DEPS com.github.ben-manes.caffeine:caffeine:3.2.3
 //DEPS com.h2database:h2:2.2.224
 //DEPS org.antlr:antlr4-runtime:4.13.2
 //DEPS org.apache.commons:commons-csv:1.14.0
@@ -17,6 +18,8 @@
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalAbbreviationLoader.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalAbbreviationPreferences.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalAbbreviationRepository.java
+//SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalNameIndex.java
+//SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/StoredAbbreviationMap.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/ltwa/*.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/util/strings/StringSimilarity.java
 
@@ -13,7 +13,6 @@ import org.jabref.gui.JabRefGUI;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.preferences.JabRefGuiPreferences;
 import org.jabref.logic.UiCommand;
-import org.jabref.logic.citationstyle.CSLStyleLoader;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
@@ -25,6 +24,8 @@ import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupOrchestrator;
 import org.jabref.migrations.PreferencesMigrations;
 
 import com.airhacks.afterburner.injection.Injector;
@@ -53,9 +54,11 @@ public class Launcher {
         try {
             initLogging(args);
 
+            StartupOrchestrator startup = new StartupOrchestrator(HeadlessExecutorService.INSTANCE);
+
             Injector.setModelOrService(BuildInfo.class, new BuildInfo());
 
-            final JabRefGuiPreferences preferences = JabRefGuiPreferences.getInstance();
+            final JabRefGuiPreferences preferences = startup.runPhase("Preferences", JabRefGuiPreferences::getInstance);
 
             ArgumentProcessor argumentProcessor = new ArgumentProcessor(
                     args,
@@ -82,19 +85,17 @@ public class Launcher {
                 configureSSL(preferences.getSSLPreferences());
             }
 
-            List<UiCommand> uiCommands = argumentProcessor.processArguments();
+            List<UiCommand> uiCommands = startup.runPhase("Command line arguments", argumentProcessor::processArguments);
             if (argumentProcessor.shouldShutDown()) {
                 systemExit();
             }
 
-            PreferencesMigrations.runMigrations(preferences);
-
-            PostgreServer postgreServer = new PostgreServer();
-            Injector.setModelOrService(PostgreServer.class, postgreServer);
+            startup.runPhase("Preferences migrations", () -> PreferencesMigrations.runMigrations(preferences));
 
-            CSLStyleLoader.loadInternalStyles();
+            // The server is started as soon as the first library needs to be indexed
+            Injector.setModelOrService(PostgreServer.class, new PostgreServer());
 
-            JabRefGUI.setup(uiCommands, preferences);
+            JabRefGUI.setup(uiCommands, preferences, startup);
             JabRefGUI.launch(JabRefGUI.class, args);
         } catch (Throwable throwable) {
             LOGGER.error("Could not launch JabRef", throwable);
@@ -2,6 +2,7 @@ package org.jabref.gui;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -36,21 +37,29 @@ import org.jabref.http.manager.HttpServerManager;
 import org.jabref.languageserver.controller.LanguageServerController;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.ai.AiService;
+import org.jabref.logic.citationstyle.CSLStyleLoader;
 import org.jabref.logic.citation.SearchCitationsRelationsService;
 import org.jabref.logic.git.util.GitHandlerRegistry;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
+import org.jabref.logic.protectedterms.ProtectedTermsPreferences;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupOrchestrator;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.logic.util.strings.StringUtil;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -71,6 +80,12 @@ public class JabRefGUI extends Application {
 
     private static List<UiCommand> uiCommands;
     private static GuiPreferences preferences;
+    private static StartupOrchestrator startup;
+
+    // Services which do not depend on the JavaFX toolkit are loaded while the toolkit starts
+    private static CompletableFuture<JournalAbbreviationRepository> journalAbbreviationRepositoryLoading;
+    private static CompletableFuture<ProtectedTermsLoader> protectedTermsLoading;
+    private static CompletableFuture<Void> citationStylesLoading;
 
     // AI Service handles chat messages etc. Therefore, it is tightly coupled to the GUI.
     private static AiService aiService;
@@ -94,9 +109,21 @@ public class JabRefGUI extends Application {
     private Stage mainStage;
 
     public static void setup(List<UiCommand> uiCommands,
-                             GuiPreferences preferences) {
+                             GuiPreferences preferences,
+                             StartupOrchestrator startup) {
         JabRefGUI.uiCommands = uiCommands;
         JabRefGUI.preferences = preferences;
+        JabRefGUI.startup = startup;
+
+        // The preferences are not thread-safe. Thus, they are read here and not in the background.
+        JournalAbbreviationPreferences journalAbbreviationPreferences = preferences.getJournalAbbreviationPreferences();
+        ProtectedTermsPreferences protectedTermsPreferences = preferences.getProtectedTermsPreferences();
+        journalAbbreviationRepositoryLoading = startup.startPhase("Journal abbreviations",
+                () -> JournalAbbreviationLoader.loadRepository(journalAbbreviationPreferences));
+        protectedTermsLoading = startup.startPhase("Protected terms",
+                () -> new ProtectedTermsLoader(protectedTermsPreferences));
+        citationStylesLoading = startup.startPhase("Citation styles", CSLStyleLoader::loadInternalStyles);
+        startup.startPhase("Clearing old search indices", IndexManager::clearOldSearchIndices);
     }
 
     @Override
@@ -121,6 +148,7 @@ public class JabRefGUI extends Application {
                     gitHandlerRegistry);
 
             openWindow();
+            startup.reachMilestone("First window shown");
 
             startBackgroundTasks();
 
@@ -143,6 +171,7 @@ public class JabRefGUI extends Application {
             });
 
             setupProxy();
+            URLDownload.setResponseCache(new HttpResponseCache(Directories.getHttpCacheDirectory(), HttpResponseCache.DEFAULT_MAX_SIZE));
         } catch (Throwable throwable) {
             LOGGER.error("Error during initialization", throwable);
             throw throwable;
@@ -165,16 +194,19 @@ public class JabRefGUI extends Application {
         DirectoryMonitor directoryMonitor = new DirectoryMonitor();
         Injector.setModelOrService(DirectoryMonitor.class, directoryMonitor);
 
+        // Shared by all LaTeX citation lookups, so that an unchanged LaTeX file is parsed only once
+        Injector.setModelOrService(CachingLatexParser.class, new CachingLatexParser());
+
         gitHandlerRegistry = new GitHandlerRegistry();
         Injector.setModelOrService(GitHandlerRegistry.class, gitHandlerRegistry);
 
         BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
-        JournalAbbreviationRepository journalAbbreviationRepository = JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences());
+        JournalAbbreviationRepository journalAbbreviationRepository = journalAbbreviationRepositoryLoading.join();
         Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
         Injector.setModelOrService(JournalAbbreviationRepository.class, journalAbbreviationRepository);
-        Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
-
-        IndexManager.clearOldSearchIndices();
+        Injector.setModelOrService(ProtectedTermsLoader.class, protectedTermsLoading.join());
+        // The internal styles are not guarded against concurrent access. Thus, loading has to be finished before the UI uses them.
+        citationStylesLoading.join();
 
         JabRefGUI.remoteListenerServerManager = new RemoteListenerServerManager();
         Injector.setModelOrService(RemoteListenerServerManager.class, JabRefGUI.remoteListenerServerManager);
@@ -329,9 +361,17 @@ public class JabRefGUI extends Application {
             mainFrame.updateVerticalDividerPosition();
         });
 
+        boolean openLastEdited = uiCommands.stream().noneMatch(UiCommand.BlankWorkspace.class::isInstance)
+                && preferences.getWorkspacePreferences().shouldOpenLastEdited();
+
+        // Each library (opened now or later, or newly created) needs the search server, so it is started as soon as the
+        // window is shown. The libraries create their index as soon as the server is ready.
+        Injector.instantiateModelOrService(PostgreServer.class)
+                .startInBackground()
+                .thenRun(() -> startup.reachMilestone("Search server ready"));
+
         // Open last edited databases
-        if (uiCommands.stream().noneMatch(UiCommand.BlankWorkspace.class::isInstance)
-                && preferences.getWorkspacePreferences().shouldOpenLastEdited()) {
+        if (openLastEdited) {
             mainFrame.openLastEditedDatabases();
         }
 
@@ -491,6 +531,12 @@ public class JabRefGUI extends Application {
                 LOGGER.trace("LanguageServerController shut down");
             });
 
+            executor.submit(() -> {
+                LOGGER.trace("Closing journal abbreviation repository");
+                Injector.instantiateModelOrService(JournalAbbreviationRepository.class).close();
+                LOGGER.trace("Journal abbreviation repository closed");
+            });
+
             executor.submit(() -> {
                 LOGGER.trace("Stopping background tasks");
                 Unirest.shutDown();
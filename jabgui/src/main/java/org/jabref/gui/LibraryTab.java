@@ -60,6 +60,7 @@ import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.command.CommandSelectionTab;
+import org.jabref.logic.exporter.DirtyEntriesTracker;
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
@@ -127,6 +128,7 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
     // All subscribers needing "coarse" change events should use this filter
     // See https://devdocs.jabref.org/code-howtos/eventbus.html for details
     private CoarseChangeFilter coarseChangeFilter;
+    private DirtyEntriesTracker dirtyEntriesTracker;
 
     private MainTableDataModel tableModel;
     private FileAnnotationCache annotationCache;
@@ -251,6 +253,9 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
 
         this.getDatabase().registerListener(new UpdateTimestampListener(preferences));
 
+        // the save actions are applied only to the entries changed since the last save
+        this.dirtyEntriesTracker = new DirtyEntriesTracker(bibDatabaseContext);
+
         autoRenameFileOnEntryChange = new AutoRenameFileOnEntryChange(bibDatabaseContext, preferences.getFilePreferences());
         coarseChangeFilter.registerListener(autoRenameFileOnEntryChange);
 
@@ -774,6 +779,10 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         return loading;
     }
 
+    public DirtyEntriesTracker getDirtyEntriesTracker() {
+        return dirtyEntriesTracker;
+    }
+
     public CountingUndoManager getUndoManager() {
         return undoManager;
     }
@@ -798,6 +807,13 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         return annotationCache;
     }
 
+    /**
+     * Records that the library file has been saved by JabRef (and not changed by another program)
+     */
+    public void markFileSaved() {
+        changeMonitor.ifPresent(DatabaseChangeMonitor::markSaved);
+    }
+
     public void resetChangeMonitor() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         assert bibDatabaseContext.getDatabasePath().isEmpty() || fileUpdateMonitor != null;
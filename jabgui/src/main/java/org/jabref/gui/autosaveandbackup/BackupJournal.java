@@ -0,0 +1,282 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.util.BackupFileType;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// The journal of the changes of the entries of a library since the latest backup of the library.
+///
+/// Each line of the journal is one record. The first line identifies the backup the journal belongs to. The other
+/// lines are the changes in the order they happened:
+///
+/// - `add <number> <type> (<field> <value>)*`: an entry was added
+/// - `remove <number>`: an entry was removed
+/// - `set <number> <field> <value>`: a field was set
+/// - `clear <number> <field>`: a field was removed
+/// - `type <number> <type>`: the type of an entry was changed
+/// - `saved <count>`: the library was saved, containing the changes of the first `count` records (not counting these save records)
+///
+/// The parts of a record are separated by tabs. An entry is identified by its number: the entries of the backup are
+/// numbered in the order they appear in the backup file, added entries get the subsequent numbers.
+///
+/// A record which is not terminated by a line break (e.g., because JabRef was killed while writing it) is ignored.
+class BackupJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String HEADER = "JabRef backup journal";
+
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String SET = "set";
+    private static final String CLEAR = "clear";
+    private static final String TYPE = "type";
+    private static final String SAVED = "saved";
+
+    private BackupJournal() {
+    }
+
+    /// Determines the journal belonging to the given backup file
+    static Path getJournalPath(Path backupPath) {
+        String extension = "." + BackupFileType.JOURNAL.getExtensions().getFirst();
+        return backupPath.resolveSibling(FileUtil.getBaseName(backupPath) + extension);
+    }
+
+    /// Creates an empty journal for the given backup file. An existing journal is overwritten.
+    ///
+    /// @param entryCount the number of entries written to the backup file
+    static void create(Path journalPath, Path backupPath, int entryCount) throws IOException {
+        String header = join(HEADER, String.valueOf(Files.size(backupPath)), String.valueOf(Files.getLastModifiedTime(backupPath).toMillis()), String.valueOf(entryCount));
+        Files.writeString(journalPath, header + "\n", StandardCharsets.UTF_8);
+    }
+
+    /// Appends the given records to the journal. The records are written at once and forced to the disk before this
+    /// method returns. Thus, many changes cost one write only ("group commit").
+    static void append(Path journalPath, List<String> records) throws IOException {
+        StringBuilder text = new StringBuilder();
+        records.forEach(record -> text.append(record).append('\n'));
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(text.toString());
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    static String entryAdded(int entryNumber, BibEntry entry) {
+        List<String> parts = new ArrayList<>();
+        parts.add(ADD);
+        parts.add(String.valueOf(entryNumber));
+        parts.add(entry.getType().getName());
+        entry.getFieldMap().forEach((field, value) -> {
+            parts.add(field.getName());
+            parts.add(value);
+        });
+        return join(parts.toArray(String[]::new));
+    }
+
+    static String entryRemoved(int entryNumber) {
+        return join(REMOVE, String.valueOf(entryNumber));
+    }
+
+    /// @param newValue the new value of the field, `null` if the field was removed
+    static String fieldChanged(int entryNumber, Field field, @Nullable String newValue) {
+        if (field == InternalField.TYPE_HEADER) {
+            return join(TYPE, String.valueOf(entryNumber), newValue);
+        }
+        if (newValue == null) {
+            return join(CLEAR, String.valueOf(entryNumber), field.getName());
+        }
+        return join(SET, String.valueOf(entryNumber), field.getName(), newValue);
+    }
+
+    /// @param recordCount the number of change records of the journal which are contained in the saved library
+    static String saved(int recordCount) {
+        return join(SAVED, String.valueOf(recordCount));
+    }
+
+    /// Checks whether the journal contains changes of the given backup. Only the positions in the journal are compared:
+    /// the journal contains changes if it ends behind its header.
+    static boolean hasRecords(Path journalPath, Path backupPath) throws IOException {
+        if (Files.notExists(journalPath)) {
+            return false;
+        }
+        String header;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            header = reader.readLine();
+        }
+        if ((header == null) || !belongsTo(split(header), backupPath)) {
+            return false;
+        }
+        long recordsStart = header.getBytes(StandardCharsets.UTF_8).length + 1;
+        return Files.size(journalPath) > recordsStart;
+    }
+
+    /// Checks whether the journal contains changes of the given backup which are not saved to the library, i.e., changes
+    /// recorded after the changes contained in the latest save of the library
+    static boolean hasUnsavedRecords(Path journalPath, Path backupPath) throws IOException {
+        List<List<String>> records = readRecords(journalPath);
+        if (records.isEmpty() || !belongsTo(records.getFirst(), backupPath)) {
+            return false;
+        }
+        int changeCount = 0;
+        int savedChangeCount = 0;
+        for (List<String> record : records.subList(1, records.size())) {
+            if (!SAVED.equals(record.getFirst())) {
+                changeCount++;
+                continue;
+            }
+            try {
+                savedChangeCount = Integer.parseInt(record.get(1));
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                LOGGER.warn("Ignoring malformed record {} of journal {}", record, journalPath, e);
+            }
+        }
+        return changeCount > savedChangeCount;
+    }
+
+    /// Applies the changes recorded in the journal to the given library read from the backup file
+    static void replay(Path journalPath, Path backupPath, BibDatabase database) throws IOException {
+        List<List<String>> records = readRecords(journalPath);
+        if (records.isEmpty()) {
+            return;
+        }
+        List<String> header = records.getFirst();
+        List<BibEntry> backupEntries = database.getEntries();
+        if (!belongsTo(header, backupPath) || !String.valueOf(backupEntries.size()).equals(header.get(3))) {
+            LOGGER.warn("Journal {} does not belong to backup {}. Ignoring it.", journalPath, backupPath);
+            return;
+        }
+
+        Map<Integer, BibEntry> entries = new HashMap<>();
+        for (int i = 0; i < backupEntries.size(); i++) {
+            entries.put(i, backupEntries.get(i));
+        }
+        for (List<String> record : records.subList(1, records.size())) {
+            if (SAVED.equals(record.getFirst())) {
+                continue;
+            }
+            try {
+                apply(record, entries, database);
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                LOGGER.warn("Ignoring malformed record {} of journal {}", record, journalPath, e);
+            }
+        }
+    }
+
+    /// @return the complete records of the journal, starting with its header. Empty if there is no journal.
+    private static List<List<String>> readRecords(Path journalPath) throws IOException {
+        if (Files.notExists(journalPath)) {
+            return List.of();
+        }
+        String content = Files.readString(journalPath, StandardCharsets.UTF_8);
+        int end = content.lastIndexOf('\n');
+        if (end < 0) {
+            return List.of();
+        }
+        return content.substring(0, end).lines().map(BackupJournal::split).toList();
+    }
+
+    private static void apply(List<String> record, Map<Integer, BibEntry> entries, BibDatabase database) {
+        int entryNumber = Integer.parseInt(record.get(1));
+        Optional<BibEntry> entry = Optional.ofNullable(entries.get(entryNumber));
+        switch (record.getFirst()) {
+            case ADD -> {
+                BibEntry addedEntry = new BibEntry(EntryTypeFactory.parse(record.get(2)));
+                for (int i = 3; i + 1 < record.size(); i += 2) {
+                    addedEntry.setField(FieldFactory.parseField(record.get(i)), record.get(i + 1));
+                }
+                database.insertEntry(addedEntry);
+                entries.put(entryNumber, addedEntry);
+            }
+            case REMOVE -> {
+                entry.ifPresent(database::removeEntry);
+                entries.remove(entryNumber);
+            }
+            case SET -> entry.ifPresent(value -> value.setField(FieldFactory.parseField(record.get(2)), record.get(3)));
+            case CLEAR -> entry.ifPresent(value -> value.clearField(FieldFactory.parseField(record.get(2))));
+            case TYPE -> entry.ifPresent(value -> value.setType(EntryTypeFactory.parse(record.get(2))));
+            default -> LOGGER.warn("Ignoring unknown journal record {}", record);
+        }
+    }
+
+    private static boolean belongsTo(List<String> header, Path backupPath) throws IOException {
+        return (header.size() == 4)
+                && HEADER.equals(header.getFirst())
+                && String.valueOf(Files.size(backupPath)).equals(header.get(1))
+                && String.valueOf(Files.getLastModifiedTime(backupPath).toMillis()).equals(header.get(2));
+    }
+
+    private static String join(String... parts) {
+        StringBuilder result = new StringBuilder();
+        for (String part : parts) {
+            if (!result.isEmpty()) {
+                result.append('\t');
+            }
+            escape(part, result);
+        }
+        return result.toString();
+    }
+
+    private static List<String> split(String record) {
+        return Arrays.stream(record.split("\t", -1)).map(BackupJournal::unescape).toList();
+    }
+
+    private static void escape(String value, StringBuilder result) {
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '\\' -> result.append("\\\\");
+                case '\t' -> result.append("\\t");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                default -> result.append(c);
+            }
+        }
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c == '\\') && (i + 1 < value.length())) {
+                i++;
+                c = switch (value.charAt(i)) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> value.charAt(i);
+                };
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+}
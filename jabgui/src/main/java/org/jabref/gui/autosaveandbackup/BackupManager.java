@@ -8,8 +8,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -29,6 +33,9 @@ import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
@@ -36,13 +43,20 @@ import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +65,14 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * A backup is a complete copy of the library. Afterwards, the changes of the entries are appended to the
+ * {@link BackupJournal journal} of the backup only. The journal is written once per second with all changes since the
+ * last write. A new complete backup is written only if a change cannot be journaled (e.g., a change of the groups) or
+ * if the journal grew too long. Restoring a backup applies the journal to the backup.
+ * <p>
+ * When the library is saved, the journal records which of its changes are contained in the saved library. Only the
+ * changes recorded afterwards make the backup differ from the library.
  */
 public class BackupManager {
 
@@ -60,6 +82,11 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    private static final int DELAY_BETWEEN_JOURNAL_WRITES_IN_MILLISECONDS = 1000;
+
+    /// Number of changes after which the journal is compacted into a new backup
+    private static final int MAXIMUM_JOURNAL_RECORD_COUNT = 10_000;
+
     private static final Set<BackupManager> RUNNING_INSTANCES = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -74,6 +101,24 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // The state of the journal, guarded by "this"
+    // The numbers of the entries used in the journal, see BackupJournal
+    private final Map<BibEntry, Integer> entryNumbers = new IdentityHashMap<>();
+    private int nextEntryNumber;
+    private List<String> pendingJournalRecords = new ArrayList<>();
+    private int journalRecordCount;
+    // true as soon as a backup was started. Subsequent changes of entries are journaled.
+    private boolean journaling = false;
+    // The journal of the latest backup, null as long as no backup was written
+    private @Nullable Path journalPath;
+    // Incremented with each new journal
+    private int journalGeneration;
+    // The state of the journal when the currently running save started, null if no save is running
+    private @Nullable SavePoint saveStartPoint;
+
+    // Writing a backup and writing the journal must not interleave
+    private final Object backupFilesLock = new Object();
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, CoarseChangeFilter coarseChangeFilter, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.coarseChangeFilter = coarseChangeFilter;
@@ -134,10 +179,30 @@ public class BackupManager {
         RUNNING_INSTANCES.removeIf(instance -> instance.bibDatabaseContext == bibDatabaseContext);
     }
 
+    /**
+     * Remembers the changes journaled so far for the library which is associated with the given {@link BibDatabaseContext}.
+     * To be called before the library is saved to its file. See {@link #librarySaved(BibDatabaseContext)}.
+     */
+    public static void librarySaving(BibDatabaseContext bibDatabaseContext) {
+        RUNNING_INSTANCES.stream().filter(instance -> instance.bibDatabaseContext == bibDatabaseContext).forEach(BackupManager::rememberSaveStart);
+    }
+
+    /**
+     * Records in the journal that the changes journaled before the save started are saved to the file of the library.
+     * Thus, these changes do not make the backup differ from the library anymore.
+     */
+    public static void librarySaved(BibDatabaseContext bibDatabaseContext) {
+        RUNNING_INSTANCES.stream().filter(instance -> instance.bibDatabaseContext == bibDatabaseContext).forEach(BackupManager::journalSave);
+    }
+
     /**
      * Checks whether a backup file exists for the given database file. If it exists, it is checked whether it is
      * newer and different from the original.
      * <p>
+     * If the journal of the backup contains changes, the backup differs if the journal is newer than the original and
+     * contains changes recorded after the latest save of the library. Only the records of the journal are checked
+     * then, the contents of the files are not compared.
+     * <p>
      * In case a discarded file is present, the method also returns <code>false</code>, See also {@link #discardBackup(Path)}.
      *
      * @param originalPath Path to the file a backup should be checked for. Example: jabref.bib.
@@ -157,11 +222,23 @@ public class BackupManager {
             return false;
         }
         return getLatestBackupPath(originalPath, backupDir).map(latestBackupPath -> {
+            Path latestJournalPath = BackupJournal.getJournalPath(latestBackupPath);
+            boolean journalHasRecords;
+            try {
+                journalHasRecords = BackupJournal.hasRecords(latestJournalPath, latestBackupPath);
+            } catch (IOException e) {
+                LOGGER.debug("Could not read backup journal {}", latestJournalPath, e);
+                // User has to investigate in this case
+                return true;
+            }
+            // The journal is modified with each change recorded
+            Path latestChangePath = journalHasRecords ? latestJournalPath : latestBackupPath;
+
             FileTime latestBackupFileLastModifiedTime;
             try {
-                latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestChangePath);
             } catch (IOException e) {
-                LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
+                LOGGER.debug("Could not get timestamp of backup file {}", latestChangePath, e);
                 // If we cannot get the timestamp, we do show any warning
                 return false;
             }
@@ -178,6 +255,20 @@ public class BackupManager {
                 // We treat the backup as non-different (even if it could differ)
                 return false;
             }
+            if (journalHasRecords) {
+                boolean journalHasUnsavedRecords;
+                try {
+                    journalHasUnsavedRecords = BackupJournal.hasUnsavedRecords(latestJournalPath, latestBackupPath);
+                } catch (IOException e) {
+                    LOGGER.debug("Could not read backup journal {}", latestJournalPath, e);
+                    // User has to investigate in this case
+                    return true;
+                }
+                if (journalHasUnsavedRecords) {
+                    LOGGER.info("Backup journal {} contains changes not saved to file {}", latestJournalPath, originalPath);
+                }
+                return journalHasUnsavedRecords;
+            }
             try {
                 boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
                 if (result) {
@@ -193,18 +284,43 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Reads the latest backup file and applies the changes of its journal.
+     *
+     * @param originalPath Path to the file the backup belongs to
+     * @return the library as it was backed up, empty if there is no backup file
+     */
+    public static Optional<ParserResult> loadBackup(Path originalPath, Path backupDir, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
+        if (backupPath.isEmpty()) {
+            return Optional.empty();
+        }
+        ParserResult parserResult = OpenDatabase.loadDatabase(backupPath.get(), importFormatPreferences, new DummyFileUpdateMonitor());
+        BackupJournal.replay(BackupJournal.getJournalPath(backupPath.get()), backupPath.get(), parserResult.getDatabase());
+        return Optional.of(parserResult);
+    }
+
+    /**
+     * Restores the backup file by overwriting the original one. If the journal of the backup contains changes, the
+     * library with the changes applied is written. Otherwise, the backup file is copied.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
-    public static void restoreBackup(Path originalPath, Path backupDir) {
+    public static void restoreBackup(Path originalPath, Path backupDir, CliPreferences preferences, BibEntryTypesManager entryTypesManager) {
         Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
         if (backupPath.isEmpty()) {
             LOGGER.error("There is no backup file");
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (!BackupJournal.hasRecords(BackupJournal.getJournalPath(backupPath.get()), backupPath.get())) {
+                Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            }
+            Optional<ParserResult> backup = loadBackup(originalPath, backupDir, preferences.getImportFormatPreferences());
+            if (backup.isPresent()) {
+                // The entries are kept in the order of the backup file
+                writeLibrary(backup.get().getDatabaseContext(), originalPath, SaveOrder.getDefaultSaveOrder(), preferences, entryTypesManager);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
@@ -216,67 +332,132 @@ public class BackupManager {
 
     /**
      * This method is called as soon as the scheduler says: "Do the backup"
+     * <p>
+     * The changes of the entries made afterwards are recorded in the journal of the new backup.
      *
      * <em>SIDE EFFECT: Deletes oldest backup file</em>
      *
      * @param backupPath the full path to the file where the library should be backed up to
      */
     void performBackup(Path backupPath) {
-        if (!needsBackup) {
-            return;
-        }
+        synchronized (backupFilesLock) {
+            if (!isBackupNeeded()) {
+                return;
+            }
+
+            // We opted for "while" to delete backups in case there are more than 10
+            while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
+                Path oldestBackupFile = backupFilesQueue.poll();
+                try {
+                    Files.delete(oldestBackupFile);
+                    Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
+                } catch (IOException e) {
+                    LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
+                }
+            }
+
+            // code similar to org.jabref.gui.exporter.SaveDatabaseAction.saveDatabase
+            SelfContainedSaveOrder saveOrder = bibDatabaseContext
+                    .getMetaData().getSaveOrder()
+                    .map(so -> {
+                        if (so.getOrderType() == SaveOrder.OrderType.TABLE) {
+                            // We need to "flatten out" SaveOrder.OrderType.TABLE as BibWriter does not have access to preferences
+                            List<TableColumn<BibEntryTableViewModel, ?>> sortOrder = libraryTab.getMainTable().getSortOrder();
+                            return new SelfContainedSaveOrder(
+                                    SaveOrder.OrderType.SPECIFIED,
+                                    sortOrder.stream()
+                                             .filter(col -> col instanceof MainTableColumn<?>)
+                                             .map(column -> ((MainTableColumn<?>) column).getModel())
+                                             .flatMap(model -> model.getSortCriteria().stream())
+                                             .toList());
+                        } else {
+                            return SelfContainedSaveOrder.of(so);
+                        }
+                    })
+                    .orElse(SaveOrder.getDefaultSaveOrder());
+
+            BibDatabaseContext bibDatabaseContextClone = startJournal(saveOrder);
+            // BibDatabaseWriter.writeDatabase writes the non-empty entries only
+            int entryCount = (int) bibDatabaseContextClone.getDatabase().getEntries().stream().filter(entry -> !entry.isEmpty()).count();
 
-        // We opted for "while" to delete backups in case there are more than 10
-        while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
-            Path oldestBackupFile = backupFilesQueue.poll();
             try {
-                Files.delete(oldestBackupFile);
+                writeLibrary(bibDatabaseContextClone, backupPath, saveOrder, preferences, entryTypesManager);
+                if (!backupFilesQueue.contains(backupPath)) {
+                    backupFilesQueue.add(backupPath);
+                }
+
+                Path newJournalPath = BackupJournal.getJournalPath(backupPath);
+                BackupJournal.create(newJournalPath, backupPath, entryCount);
+                synchronized (this) {
+                    journalPath = newJournalPath;
+                }
             } catch (IOException e) {
-                LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
+                logIfCritical(backupPath, e);
+                synchronized (this) {
+                    // The changes have to be contained in the next backup
+                    journaling = false;
+                    journalPath = null;
+                    needsBackup = true;
+                }
             }
         }
+    }
 
-        // code similar to org.jabref.gui.exporter.SaveDatabaseAction.saveDatabase
-        SelfContainedSaveOrder saveOrder = bibDatabaseContext
-                .getMetaData().getSaveOrder()
-                .map(so -> {
-                    if (so.getOrderType() == SaveOrder.OrderType.TABLE) {
-                        // We need to "flatten out" SaveOrder.OrderType.TABLE as BibWriter does not have access to preferences
-                        List<TableColumn<BibEntryTableViewModel, ?>> sortOrder = libraryTab.getMainTable().getSortOrder();
-                        return new SelfContainedSaveOrder(
-                                SaveOrder.OrderType.SPECIFIED,
-                                sortOrder.stream()
-                                         .filter(col -> col instanceof MainTableColumn<?>)
-                                         .map(column -> ((MainTableColumn<?>) column).getModel())
-                                         .flatMap(model -> model.getSortCriteria().stream())
-                                         .toList());
-                    } else {
-                        return SelfContainedSaveOrder.of(so);
-                    }
-                })
-                .orElse(SaveOrder.getDefaultSaveOrder());
-        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
-                .withMakeBackup(false)
-                .withSaveOrder(saveOrder)
-                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+    private synchronized boolean isBackupNeeded() {
+        return needsBackup;
+    }
 
-        // "Clone" the database context
+    /**
+     * "Clones" the database context and numbers the entries in the order they are written to the backup. All changes
+     * of entries recorded afterwards are journaled.
+     *
+     * @return the clone to write to the backup
+     */
+    private synchronized BibDatabaseContext startJournal(SelfContainedSaveOrder saveOrder) {
         // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
-        List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::new)
-                                                .toList();
+        List<BibEntry> entries = bibDatabaseContext.getDatabase().getEntries();
+        Map<BibEntry, BibEntry> originals = new IdentityHashMap<>();
+        List<BibEntry> list = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            BibEntry clone = new BibEntry(entry);
+            originals.put(clone, entry);
+            list.add(clone);
+        }
         BibDatabase bibDatabaseClone = new BibDatabase(list);
         bibDatabaseContext.getDatabase().getStringValues().stream().map(BibtexString::clone)
                           .map(BibtexString.class::cast)
                           .forEach(bibDatabaseClone::addString);
-        BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
+
+        // BibDatabaseWriter.writeDatabase writes the non-empty entries in save order
+        entryNumbers.clear();
+        List<BibEntry> writtenEntries = list.stream().filter(entry -> !entry.isEmpty()).toList();
+        for (BibEntry entry : BibDatabaseWriter.getSortedEntries(writtenEntries, saveOrder)) {
+            entryNumbers.put(originals.get(entry), entryNumbers.size());
+        }
+        nextEntryNumber = entryNumbers.size();
+        pendingJournalRecords = new ArrayList<>();
+        journalRecordCount = 0;
+        journalGeneration++;
+        journalPath = null;
+        journaling = true;
+        needsBackup = false;
+        entries.stream().filter(BibEntry::isEmpty).forEach(this::journalAddedEntry);
+
+        return new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
+    }
+
+    private static void writeLibrary(BibDatabaseContext bibDatabaseContext, Path path, SelfContainedSaveOrder saveOrder, CliPreferences preferences, BibEntryTypesManager entryTypesManager) throws IOException {
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withMakeBackup(false)
+                .withSaveOrder(saveOrder)
+                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
         // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
+        try (Writer writer = new AtomicFileWriter(path, encoding, false)) {
             BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
             new BibDatabaseWriter(
                     bibWriter,
@@ -285,14 +466,36 @@ public class BackupManager {
                     preferences.getCitationKeyPatternPreferences(),
                     entryTypesManager)
                     // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .writeDatabase(bibDatabaseContextClone);
-            backupFilesQueue.add(backupPath);
+                    .writeDatabase(bibDatabaseContext);
+        }
+    }
 
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
-        } catch (IOException e) {
-            logIfCritical(backupPath, e);
+    /**
+     * Writes the changes recorded since the last write to the journal. All of them are written at once.
+     */
+    void writeJournal() {
+        synchronized (backupFilesLock) {
+            Path path;
+            List<String> records;
+            synchronized (this) {
+                if ((journalPath == null) || pendingJournalRecords.isEmpty()) {
+                    return;
+                }
+                path = journalPath;
+                records = pendingJournalRecords;
+                pendingJournalRecords = new ArrayList<>();
+            }
+            try {
+                BackupJournal.append(path, records);
+            } catch (IOException e) {
+                LOGGER.error("Could not write backup journal {}", path, e);
+                synchronized (this) {
+                    // The changes have to be contained in the next backup
+                    journaling = false;
+                    journalPath = null;
+                    needsBackup = true;
+                }
+            }
         }
     }
 
@@ -329,12 +532,77 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (journaling && (event instanceof EntriesEvent entriesEvent) && journal(entriesEvent)) {
+            return;
+        }
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
     }
 
+    /**
+     * Records the change in the journal. Each change is recorded, even if it is filtered out by the {@link CoarseChangeFilter}.
+     *
+     * @return <code>false</code> if the change cannot be journaled
+     */
+    private boolean journal(EntriesEvent event) {
+        switch (event) {
+            case EntriesAddedEvent addedEvent ->
+                    addedEvent.getBibEntries().forEach(this::journalAddedEntry);
+            case EntriesRemovedEvent removedEvent ->
+                    removedEvent.getBibEntries().stream()
+                                .map(entryNumbers::remove)
+                                .filter(Objects::nonNull)
+                                .forEach(entryNumber -> addJournalRecord(BackupJournal.entryRemoved(entryNumber)));
+            case FieldChangedEvent fieldChangedEvent -> {
+                Integer entryNumber = entryNumbers.get(fieldChangedEvent.getBibEntry());
+                // Entries not numbered are not part of the library (anymore). The internal id is not written to the library.
+                if ((entryNumber != null) && (fieldChangedEvent.getField() != InternalField.INTERNAL_ID_FIELD)) {
+                    addJournalRecord(BackupJournal.fieldChanged(entryNumber, fieldChangedEvent.getField(), fieldChangedEvent.getNewValue()));
+                }
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void journalAddedEntry(BibEntry entry) {
+        // The entry might have been contained in the backup already
+        if (!entryNumbers.containsKey(entry)) {
+            int entryNumber = nextEntryNumber++;
+            entryNumbers.put(entry, entryNumber);
+            addJournalRecord(BackupJournal.entryAdded(entryNumber, entry));
+        }
+    }
+
+    private void addJournalRecord(String record) {
+        pendingJournalRecords.add(record);
+        journalRecordCount++;
+        if (journalRecordCount >= MAXIMUM_JOURNAL_RECORD_COUNT) {
+            // Compact the journal into a new backup
+            needsBackup = true;
+        }
+    }
+
+    private synchronized void rememberSaveStart() {
+        saveStartPoint = journaling ? new SavePoint(journalGeneration, journalRecordCount) : null;
+    }
+
+    private synchronized void journalSave() {
+        // If a new journal was started during the save, the changes of the save are contained in the new backup already
+        if ((saveStartPoint != null) && journaling && (saveStartPoint.journalGeneration() == journalGeneration)) {
+            // Not counted as a change, as the journal does not need to be compacted because of it
+            pendingJournalRecords.add(BackupJournal.saved(saveStartPoint.journalRecordCount()));
+            if (!executor.isShutdown()) {
+                executor.execute(this::writeJournal);
+            }
+        }
+        saveStartPoint = null;
+    }
+
     private void startBackupTask(Path backupDir) {
         fillQueue(backupDir);
 
@@ -344,6 +612,11 @@ public class BackupManager {
                 DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS,
                 DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS,
                 TimeUnit.SECONDS);
+        executor.scheduleWithFixedDelay(
+                this::writeJournal,
+                DELAY_BETWEEN_JOURNAL_WRITES_IN_MILLISECONDS,
+                DELAY_BETWEEN_JOURNAL_WRITES_IN_MILLISECONDS,
+                TimeUnit.MILLISECONDS);
     }
 
     private void fillQueue(Path backupDir) {
@@ -353,10 +626,13 @@ public class BackupManager {
         bibDatabaseContext.getDatabasePath().ifPresent(databasePath -> {
             // code similar to {@link org.jabref.logic.util.io.BackupFileUtil.getPathOfLatestExisingBackupFile}
             final String prefix = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName();
+            final String extension = "." + BackupFileType.BACKUP.getExtensions().getFirst();
             try {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // the journals are deleted together with their backup
+                                              .filter(p -> p.getFileName().toString().endsWith(extension))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -378,7 +654,11 @@ public class BackupManager {
 
         if (createBackup) {
             // Ensure that backup is a recent one
+            writeJournal();
             determineBackupPathForNewBackup(backupDir).ifPresent(this::performBackup);
         }
     }
+
+    private record SavePoint(int journalGeneration, int journalRecordCount) {
+    }
 }
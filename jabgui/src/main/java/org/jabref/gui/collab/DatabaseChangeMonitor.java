@@ -114,6 +114,13 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
         }
     }
 
+    /**
+     * Records that JabRef has saved the library, so that the save is not taken as a change by another program
+     */
+    public void markSaved() {
+        database.getDatabasePath().ifPresent(fileMonitor::markAsUnchanged);
+    }
+
     public void addListener(DatabaseChangeListener listener) {
         listeners.add(listener);
     }
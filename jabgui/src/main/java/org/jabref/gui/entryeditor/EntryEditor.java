@@ -62,6 +62,7 @@ import org.jabref.logic.importer.EntryBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.importer.fileformat.pdf.PdfMergeMetadataImporter;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.entry.BibEntry;
@@ -114,6 +115,7 @@ public class EntryEditor extends BorderPane implements PreviewControls, AdaptVis
     @Inject private ThemeManager themeManager;
     @Inject private FileUpdateMonitor fileMonitor;
     @Inject private DirectoryMonitor directoryMonitor;
+    @Inject private CachingLatexParser latexParser;
     @Inject private CountingUndoManager undoManager;
     @Inject private BibEntryTypesManager bibEntryTypesManager;
     @Inject private KeyBindingRepository keyBindingRepository;
@@ -345,7 +347,7 @@ public class EntryEditor extends BorderPane implements PreviewControls, AdaptVis
                 keyBindingRepository,
                 stateManager);
         tabs.add(sourceTab);
-        tabs.add(new LatexCitationsTab(preferences, dialogService, stateManager, directoryMonitor));
+        tabs.add(new LatexCitationsTab(preferences, dialogService, stateManager, directoryMonitor, latexParser));
         tabs.add(new FulltextSearchResultsTab(stateManager, preferences, dialogService, taskExecutor, this));
         tabs.add(new AiSummaryTab(aiService, dialogService, stateManager, this, preferences));
         tabs.add(new AiChatTab(aiService, dialogService, preferences, stateManager, this, taskExecutor));
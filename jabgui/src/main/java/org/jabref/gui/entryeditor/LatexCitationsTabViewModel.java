@@ -3,7 +3,9 @@ package org.jabref.gui.entryeditor;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.beans.property.BooleanProperty;
@@ -30,7 +32,7 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.DirectoryMonitor;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -68,7 +70,7 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
     private final StringProperty searchError = new SimpleStringProperty("");
     private final BooleanProperty updateStatusOnCreate = new SimpleBooleanProperty(false);
 
-    private final DefaultLatexParser latexParser;
+    private final CachingLatexParser latexParser;
     private final LatexParserResults latexFiles;
     private final DirectoryMonitor directoryMonitor;
     private final FileAlterationListener listener;
@@ -79,12 +81,13 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
     public LatexCitationsTabViewModel(GuiPreferences preferences,
                                       DialogService dialogService,
-                                      DirectoryMonitor directoryMonitor) {
+                                      DirectoryMonitor directoryMonitor,
+                                      CachingLatexParser latexParser) {
         this.preferences = preferences;
         this.dialogService = dialogService;
         this.directoryMonitor = directoryMonitor;
 
-        this.latexParser = new DefaultLatexParser();
+        this.latexParser = latexParser;
         this.latexFiles = new LatexParserResults();
         this.listener = new CitationsAlterationListener();
 
@@ -194,7 +197,13 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         return preferences.getEntryEditorPreferences().shouldShowLatexCitationsTab();
     }
 
+    /**
+     * Collects the files created or changed during one check of the directory. These files are parsed at once (in
+     * parallel) when the check ends.
+     */
     private class CitationsAlterationListener implements FileAlterationListener {
+        private final List<Path> filesToParse = new ArrayList<>();
+
         @Override
         public void onStart(FileAlterationObserver observer) {
             if (!updateStatusOnCreate.get()) {
@@ -204,21 +213,23 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
         @Override
         public void onStop(FileAlterationObserver observer) {
+            if (!filesToParse.isEmpty()) {
+                parseFiles();
+            }
             if (!updateStatusOnCreate.get()) {
                 updateStatusOnCreate.set(true);
                 updateStatus();
             }
         }
 
-        @Override
-        public void onFileCreate(File file) {
-            Path path = file.toPath();
-            LatexParserResult result = latexParser.parse(path).get();
-            latexFiles.add(path, result);
+        private void parseFiles() {
+            LatexParserResults results = latexParser.parse(List.copyOf(filesToParse));
+            filesToParse.clear();
+            latexFiles.addAll(results);
 
             Optional<String> citationKey = currentEntry.getCitationKey();
             if (citationKey.isPresent()) {
-                Collection<Citation> citations = result.getCitationsByKey(citationKey.get());
+                Collection<Citation> citations = results.getCitationsByKey(citationKey.get());
                 UiTaskExecutor.runInJavaFXThread(() -> citationList.addAll(citations));
             }
 
@@ -227,12 +238,19 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
             }
         }
 
+        @Override
+        public void onFileCreate(File file) {
+            filesToParse.add(file.toPath());
+        }
+
         @Override
         public void onFileDelete(File file) {
-            LatexParserResult result = latexFiles.remove(file.toPath());
+            Path path = file.toPath();
+            latexParser.invalidate(path);
+            LatexParserResult result = latexFiles.remove(path);
 
             Optional<String> citationKey = currentEntry.getCitationKey();
-            if (citationKey.isPresent()) {
+            if ((result != null) && citationKey.isPresent()) {
                 Collection<Citation> citations = result.getCitationsByKey(citationKey.get());
                 UiTaskExecutor.runInJavaFXThread(() -> citationList.removeAll(citations));
                 updateStatus();
@@ -243,7 +261,6 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         public void onFileChange(File file) {
             onFileDelete(file);
             onFileCreate(file);
-            updateStatus();
         }
 
         @Override
@@ -237,11 +237,14 @@ public class SaveDatabaseAction {
             // Make sure to remember which encoding we used
             libraryTab.getBibDatabaseContext().getMetaData().setEncoding(encoding, ChangePropagation.DO_NOT_POST_EVENT);
 
+            BackupManager.librarySaving(libraryTab.getBibDatabaseContext());
             boolean success = saveDatabase(targetPath, false, encoding, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, getSaveOrder());
 
             if (success) {
                 libraryTab.getUndoManager().markUnchanged();
                 libraryTab.resetChangedProperties();
+                libraryTab.markFileSaved();
+                BackupManager.librarySaved(libraryTab.getBibDatabaseContext());
             }
             dialogService.notify(Localization.lang("Library saved"));
             return success;
@@ -261,14 +264,16 @@ public class SaveDatabaseAction {
                 = new SelfContainedSaveConfiguration(saveOrder, false, saveType, preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
         BibDatabaseContext bibDatabaseContext = libraryTab.getBibDatabaseContext();
         synchronized (bibDatabaseContext) {
+            BibDatabaseWriter databaseWriter;
             try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding, saveConfiguration.shouldMakeBackup())) {
                 BibWriter bibWriter = new BibWriter(fileWriter, bibDatabaseContext.getDatabase().getNewLineSeparator());
-                BibDatabaseWriter databaseWriter = new BibDatabaseWriter(
+                databaseWriter = new BibDatabaseWriter(
                         bibWriter,
                         saveConfiguration,
                         preferences.getFieldPreferences(),
                         preferences.getCitationKeyPatternPreferences(),
                         entryTypesManager);
+                databaseWriter.setDirtyEntriesTracker(libraryTab.getDirtyEntriesTracker());
 
                 if (selectedOnly) {
                     databaseWriter.writePartOfDatabase(bibDatabaseContext, libraryTab.getSelectedEntries());
@@ -286,6 +291,10 @@ public class SaveDatabaseAction {
             } catch (IOException ex) {
                 throw new SaveException("Problems saving: " + ex, ex);
             }
+            if (!selectedOnly) {
+                // The file now is the library file, thus unchanged entries can be copied from their new positions at the next save
+                databaseWriter.updateParsedSerializationPositions();
+            }
             return true;
         }
     }
@@ -1,28 +1,25 @@
 package org.jabref.gui.exporter;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.TransformerException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
-import org.jabref.gui.fieldeditors.WriteMetadataToSinglePdfAction;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
-import org.jabref.logic.exporter.SaveException;
-import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.exporter.EmbeddedBibFilePdfExporter;
+import org.jabref.logic.exporter.LinkedPdfsMetadataWriter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
-import org.jabref.logic.util.io.FileUtil;
 import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilWriter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -45,14 +42,12 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
     private final TaskExecutor taskExecutor;
     private final FilePreferences filePreferences;
     private final XmpPreferences xmpPreferences;
-    private final JournalAbbreviationRepository abbreviationRepository;
 
     public WriteMetadataToLinkedPdfsAction(DialogService dialogService,
                                            FieldPreferences fieldPreferences,
                                            FilePreferences filePreferences,
                                            XmpPreferences xmpPreferences,
                                            BibEntryTypesManager entryTypesManager,
-                                           JournalAbbreviationRepository abbreviationRepository,
                                            TaskExecutor taskExecutor,
                                            StateManager stateManager) {
         this.stateManager = stateManager;
@@ -62,7 +57,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
         this.taskExecutor = taskExecutor;
         this.filePreferences = filePreferences;
         this.xmpPreferences = xmpPreferences;
-        this.abbreviationRepository = abbreviationRepository;
 
         this.executable.bind(needsDatabase(stateManager));
     }
@@ -97,7 +91,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
         new WriteMetaDataTask(
                 databaseContext,
                 entries,
-                abbreviationRepository,
                 entryTypesManager,
                 fieldPreferences,
                 filePreferences,
@@ -111,7 +104,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
 
         private final BibDatabaseContext databaseContext;
         private final List<BibEntry> entries;
-        private final JournalAbbreviationRepository abbreviationRepository;
         private final BibEntryTypesManager entryTypesManager;
         private final FieldPreferences fieldPreferences;
         private final FilePreferences filePreferences;
@@ -126,7 +118,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
 
         public WriteMetaDataTask(BibDatabaseContext databaseContext,
                                  List<BibEntry> entries,
-                                 JournalAbbreviationRepository abbreviationRepository,
                                  BibEntryTypesManager entryTypesManager,
                                  FieldPreferences fieldPreferences,
                                  FilePreferences filePreferences,
@@ -135,7 +126,6 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
                                  DialogService dialogService) {
             this.databaseContext = databaseContext;
             this.entries = entries;
-            this.abbreviationRepository = abbreviationRepository;
             this.entryTypesManager = entryTypesManager;
             this.fieldPreferences = fieldPreferences;
             this.filePreferences = filePreferences;
@@ -152,53 +142,27 @@ public class WriteMetadataToLinkedPdfsAction extends SimpleCommand {
                 return null;
             }
 
-            for (int i = 0; i < entries.size(); i++) {
-                BibEntry entry = entries.get(i);
-                updateProgress(i, entries.size());
-
-                // Make a list of all PDFs linked from this entry:
-                List<Path> files = entry.getFiles().stream()
-                                        .map(file -> file.findIn(stateManager.getActiveDatabase().get(), filePreferences))
-                                        .filter(Optional::isPresent)
-                                        .map(Optional::get)
-                                        .filter(FileUtil::isPDFFile)
-                                        .toList();
-                if (files.isEmpty()) {
-                    LOGGER.debug("Skipped empty entry '{}'",
-                            entry.getCitationKey().orElse(entry.getAuthorTitleYear(16)));
-                    skipped++;
-                } else {
-                    for (Path file : files) {
-                        updateMessage(Localization.lang("Writing metadata to %0", file.getFileName()));
-
-                        if (Files.exists(file)) {
-                            try {
-                                WriteMetadataToSinglePdfAction.writeMetadataToFile(
-                                        file,
-                                        entry,
-                                        databaseContext,
-                                        abbreviationRepository,
-                                        entryTypesManager,
-                                        fieldPreferences,
-                                        filePreferences,
-                                        xmpPreferences);
-                                entriesChanged++;
-                            } catch (IOException
-                                     | TransformerException
-                                     | SaveException
-                                     | ParserConfigurationException e) {
-                                LOGGER.error("Error while writing XMP data to pdf '{}'", file, e);
-                                failedWrittenFiles.add(file);
-                                errors++;
-                            }
-                        } else {
-                            LOGGER.debug("Skipped non existing pdf '{}'", file);
-                            skipped++;
-                        }
-                    }
-                }
-                updateMessage(Localization.lang("Processing..."));
-            }
+            Map<Path, List<BibEntry>> entriesByFile = LinkedPdfsMetadataWriter.findLinkedPdfs(databaseContext, entries, filePreferences);
+            Set<BibEntry> entriesWithFiles = entriesByFile.values().stream()
+                                                          .flatMap(List::stream)
+                                                          .collect(Collectors.toSet());
+            skipped = entries.size() - entriesWithFiles.size();
+
+            LinkedPdfsMetadataWriter metadataWriter = new LinkedPdfsMetadataWriter(
+                    new XmpUtilWriter(xmpPreferences),
+                    new EmbeddedBibFilePdfExporter(databaseContext.getMode(), entryTypesManager, fieldPreferences),
+                    true,
+                    true);
+            AtomicInteger finishedFiles = new AtomicInteger();
+            LinkedPdfsMetadataWriter.Report report = metadataWriter.write(databaseContext, entriesByFile, result -> {
+                updateProgress(finishedFiles.incrementAndGet(), entriesByFile.size());
+                updateMessage(Localization.lang("Writing metadata to %0", result.file().getFileName()));
+            });
+
+            entriesChanged = (int) report.count(LinkedPdfsMetadataWriter.Status.WRITTEN);
+            skipped += (int) report.count(LinkedPdfsMetadataWriter.Status.UNCHANGED);
+            errors = (int) report.count(LinkedPdfsMetadataWriter.Status.FAILED);
+            report.getFailures().forEach(failure -> failedWrittenFiles.add(failure.file()));
 
             updateMessage(Localization.lang("Finished"));
             dialogService.notify(Localization.lang("Finished writing metadata for library %0 (%1 succeeded, %2 skipped, %3 errors).",
@@ -15,6 +15,7 @@ import org.jabref.gui.externalfiletype.UnknownExternalFileType;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectorySnapshot;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -22,6 +23,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +56,9 @@ public class AutoSetFileLinksUtil {
     private final AutoLinkPreferences autoLinkPreferences;
     private final ExternalApplicationsPreferences externalApplicationsPreferences;
 
+    /// The files of the directories, taken once for all entries linked by [#linkAssociatedFiles]
+    private @Nullable DirectorySnapshot directorySnapshot;
+
     public AutoSetFileLinksUtil(BibDatabaseContext databaseContext,
                                 ExternalApplicationsPreferences externalApplicationsPreferences,
                                 FilePreferences filePreferences,
@@ -70,11 +75,19 @@ public class AutoSetFileLinksUtil {
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, BiConsumer<LinkedFile, BibEntry> onAddLinkedFile) {
         LinkFilesResult result = new LinkFilesResult();
 
+        // The directories are walked once for all entries instead of once per entry
+        Optional<DirectorySnapshot> snapshot = Optional.empty();
+        try {
+            snapshot = Optional.of(takeDirectorySnapshot());
+        } catch (IOException e) {
+            LOGGER.warn("Could not take a snapshot of the directories {}. Searching the directories for each entry.", directories, e);
+        }
+
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = findAssociatedNotLinkedFiles(entry, snapshot);
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -96,6 +109,21 @@ public class AutoSetFileLinksUtil {
     ///
     /// NOTE: This method does not check if the file is already linked to another entry.
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
+        return findAssociatedNotLinkedFiles(entry, Optional.empty());
+    }
+
+    /// Takes a snapshot of the directories or updates the snapshot taken before
+    private DirectorySnapshot takeDirectorySnapshot() throws IOException {
+        if (directorySnapshot == null) {
+            directorySnapshot = DirectorySnapshot.of(directories);
+        } else {
+            directorySnapshot.refresh();
+        }
+        return directorySnapshot;
+    }
+
+    /// @param snapshot the snapshot to find the files in, searching the directories if empty
+    private List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry, Optional<DirectorySnapshot> snapshot) throws IOException {
         List<LinkedFile> linkedFiles = new ArrayList<>();
 
         List<String> extensions = externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
@@ -103,9 +131,10 @@ public class AutoSetFileLinksUtil {
         LOGGER.debug("Searching for extensions {} in directories {}", extensions, directories);
 
         // Run the search operation
-        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
+        FileFinder fileFinder = snapshot.map(value -> FileFinders.constructFromConfiguration(autoLinkPreferences, value))
+                                        .orElseGet(() -> FileFinders.constructFromConfiguration(autoLinkPreferences));
         List<Path> result = new ArrayList<>(fileFinder.findAssociatedFiles(entry, directories, extensions));
-        result.addAll(findByBrokenLinkName(entry));
+        result.addAll(findByBrokenLinkName(entry, snapshot));
 
         // Collect the found files that are not yet linked
         for (Path foundFile : result) {
@@ -136,7 +165,7 @@ public class AutoSetFileLinksUtil {
         return linkedFiles;
     }
 
-    private List<Path> findByBrokenLinkName(BibEntry entry) throws IOException {
+    private List<Path> findByBrokenLinkName(BibEntry entry, Optional<DirectorySnapshot> snapshot) throws IOException {
         List<Path> matches = new ArrayList<>();
 
         for (LinkedFile brokenLink : entry.getFiles()) {
@@ -147,6 +176,14 @@ public class AutoSetFileLinksUtil {
             String wantedBase = FileUtil.getBaseName(brokenLink.getLink());
 
             for (Path directory : directories) {
+                if (snapshot.isPresent() && snapshot.get().contains(directory)) {
+                    snapshot.get().getFilesWithNamePrefix(wantedBase).stream()
+                            .filter(path -> path.startsWith(directory))
+                            .filter(path -> FileUtil.getBaseName(path).equalsIgnoreCase(wantedBase))
+                            .findFirst()
+                            .ifPresent(matches::add);
+                    continue;
+                }
                 try (Stream<Path> walk = Files.walk(directory)) {
                     walk.filter(path -> !Files.isDirectory(path))
                         .filter(path -> FileUtil.getBaseName(path).equalsIgnoreCase(wantedBase))
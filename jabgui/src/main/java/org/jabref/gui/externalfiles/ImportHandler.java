@@ -6,8 +6,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javax.swing.undo.CompoundEdit;
 import javax.swing.undo.UndoManager;
@@ -115,10 +119,19 @@ public class ImportHandler {
             public List<ImportFilesResultItemViewModel> call() {
                 counter = 1;
                 CompoundEdit compoundEdit = new CompoundEdit();
+
+                // Several PDF files are imported in the background while the files are processed one after another
+                Iterator<Future<ParserResult>> pdfImports = Collections.emptyIterator();
+                if (files.size() > 1) {
+                    List<Path> pdfFiles = files.stream().filter(FileUtil::isPDFFile).toList();
+                    pdfImports = contentImporter.importPDFContent(pdfFiles, bibDatabaseContext, filePreferences).iterator();
+                }
+
                 for (final Path file : files) {
                     final List<BibEntry> entriesToAdd = new ArrayList<>();
 
                     if (isCancelled()) {
+                        pdfImports.forEachRemaining(pdfImport -> pdfImport.cancel(true));
                         break;
                     }
 
@@ -144,7 +157,7 @@ public class ImportHandler {
                                     dialogService.showCustomDialogAndWait(dialog).ifPresent(pdfEntriesInFile::add);
                                 });
                             } else {
-                                ParserResult pdfImporterResult = contentImporter.importPDFContent(file, bibDatabaseContext, filePreferences);
+                                ParserResult pdfImporterResult = getPdfImporterResult(pdfImports.next());
                                 pdfEntriesInFile = pdfImporterResult.getDatabase().getEntries();
                                 if (pdfImporterResult.hasWarnings()) {
                                     addResultToList(file, false, Localization.lang("Error reading PDF content: %0", pdfImporterResult.getErrorMessage()));
@@ -208,6 +221,18 @@ public class ImportHandler {
                 return results;
             }
 
+            private ParserResult getPdfImporterResult(Future<ParserResult> pdfImport) {
+                try {
+                    return pdfImport.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return ParserResult.fromError(e);
+                } catch (ExecutionException e) {
+                    LOGGER.error("Error importing PDF", e.getCause());
+                    return ParserResult.fromErrorMessage(e.getCause().getLocalizedMessage());
+                }
+            }
+
             private void addResultToList(Path newFile, boolean success, String logMessage) {
                 ImportFilesResultItemViewModel result = new ImportFilesResultItemViewModel(newFile, success, logMessage);
                 results.add(result);
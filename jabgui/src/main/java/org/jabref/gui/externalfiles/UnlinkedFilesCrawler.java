@@ -8,10 +8,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 
 import javafx.scene.control.CheckBoxTreeItem;
 
@@ -29,11 +28,17 @@ import org.slf4j.LoggerFactory;
 ///
 /// The result is used to create *new* entries. The user has then to use the duplicate check to merge the entries.
 ///
+/// The directories are searched in parallel. Directories on network shares mostly wait for the file system, thus, more
+/// directories are searched at the same time than there are processors.
+///
 /// Related: {@link org.jabref.gui.externalfiles.AutoSetFileLinksUtil#findAssociatedNotLinkedFiles}
 public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnlinkedFilesCrawler.class);
 
+    /// Number of directories searched at the same time
+    private static final int PARALLELISM = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
     private final Path directory;
     private final Filter<Path> fileFilter;
     private final DateRange dateFilter;
@@ -41,6 +46,9 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
 
+    private Consumer<FileNodeViewModel> onSubdirectorySearched = _ -> {
+    };
+
     public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         this.directory = directory;
         this.fileFilter = fileFilter;
@@ -50,6 +58,14 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
         this.filePreferences = filePreferences;
     }
 
+    /// Sets the consumer of the partial results: each subdirectory of the searched directory containing unlinked files
+    /// is passed as soon as it is searched, i.e., before the whole directory is searched. The consumer is called on the
+    /// searching threads.
+    public UnlinkedFilesCrawler onSubdirectorySearched(Consumer<FileNodeViewModel> onSubdirectorySearched) {
+        this.onSubdirectorySearched = onSubdirectorySearched;
+        return this;
+    }
+
     @Override
     public FileNodeViewModel call() throws IOException {
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext, filePreferences);
@@ -66,9 +82,7 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
      * The user objects that are attached to the nodes is the {@link FileNodeViewModel}, which wraps the {@link
      * File}-Object. <br>
      * <br>
-     * For ensuring the capability to cancel the work of this recursive method, the first position in the integer array
-     * 'state' must be set to 1, to keep the recursion running. When the states value changes, the method will resolve
-     * its recursion and return what it has saved so far.
+     * If this task is cancelled, the directories not searched yet are skipped and the files found so far are returned.
      * <br>
      * The files are filtered according to the {@link DateRange} filter value
      * and then sorted according to the {@link ExternalFileSorter} value.
@@ -83,63 +97,122 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
             throw new IOException("Invalid directory for searching: %s".formatted(directory));
         }
 
-        FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
-
-        // Map from isDirectory (true/false) to full path
-        // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
-        // Filters:
-        //   1. UnlinkedPDFFileFilter
-        //   2. GitIgnoreFilter
-        ChainedFilters filters = new ChainedFilters(List.of(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory)));
-        Map<Boolean, List<Path>> directoryAndFilePartition;
-        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(directory, filters);
-             Stream<Path> filesStream = StreamSupport.stream(dirStream.spliterator(), false)) {
-            directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
-        } catch (IOException e) {
-            LOGGER.error("Error while searching files", e);
-            return fileNodeViewModelForCurrentDirectory;
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        try {
+            return pool.invoke(new DirectorySearch(directory, unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory), 0));
+        } finally {
+            pool.shutdownNow();
         }
-        List<Path> subDirectories = directoryAndFilePartition.get(true);
-        List<Path> files = directoryAndFilePartition.get(false);
+    }
 
-        // at this point, only unlinked PDFs AND unignored files are contained
+    /// Searches one directory. Its subdirectories are searched by forked searches.
+    private class DirectorySearch extends RecursiveTask<FileNodeViewModel> {
 
-        // initially, we find no files at all
-        int fileCountOfSubdirectories = 0;
+        private final Path directory;
+        private final UnlinkedPDFFileFilter unlinkedPDFFileFilter;
+        private final GitIgnoreFileFilter gitIgnoreFileFilter;
+        /// 0 for the searched directory, 1 for its subdirectories, ...
+        private final int depth;
 
-        // now we crawl into the found subdirectories first (!)
-        for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
-            if (!subRoot.getChildren().isEmpty()) {
-                fileCountOfSubdirectories += subRoot.getFileCount();
-                fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
-            }
+        DirectorySearch(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter, GitIgnoreFileFilter gitIgnoreFileFilter, int depth) {
+            this.directory = directory;
+            this.unlinkedPDFFileFilter = unlinkedPDFFileFilter;
+            this.gitIgnoreFileFilter = gitIgnoreFileFilter;
+            this.depth = depth;
         }
-        // now we have the data of all subdirectories
-        // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
 
-        // now we handle the files in the current directory
+        @Override
+        protected FileNodeViewModel compute() {
+            FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
+            if (isCancelled()) {
+                return fileNodeViewModelForCurrentDirectory;
+            }
 
-        // filter files according to last edited date.
-        // Note that we do not use the "StreamSupport.stream" filtering functionality, because refactoring the code to that would lead to more code
-        List<Path> resultingFiles = new ArrayList<>();
-        for (Path path : files) {
-            if (FileFilterUtils.filterByDate(path, dateFilter)) {
-                resultingFiles.add(path);
+            List<Path> entries = new ArrayList<>();
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(directory)) {
+                dirStream.forEach(entries::add);
+            } catch (IOException e) {
+                LOGGER.error("Error while searching files", e);
+                return fileNodeViewModelForCurrentDirectory;
             }
-        }
 
-        // sort files according to last edited date.
-        resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+            // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
+            // Filters:
+            //   1. UnlinkedPDFFileFilter
+            //   2. GitIgnoreFilter
+            // The filters access the file system, thus, they are evaluated in parallel (in the pool of this task)
+            ChainedFilters filters = new ChainedFilters(List.of(unlinkedPDFFileFilter, gitIgnoreFileFilter));
+            List<FilteredPath> filteredPaths = entries.parallelStream()
+                                                      .filter(path -> accept(filters, path))
+                                                      .map(path -> new FilteredPath(path, Files.isDirectory(path)))
+                                                      .toList();
+
+            // at this point, only unlinked PDFs AND unignored files are contained
+
+            // now we crawl into the found subdirectories first (!)
+            List<DirectorySearch> subDirectorySearches = filteredPaths.stream()
+                                                                      .filter(FilteredPath::isDirectory)
+                                                                      .map(path -> new DirectorySearch(path.path(), unlinkedPDFFileFilter, getGitIgnoreFileFilter(path.path()), depth + 1))
+                                                                      .toList();
+            subDirectorySearches.forEach(RecursiveTask::fork);
+
+            // meanwhile, we handle the files in the current directory
+            // filter files according to last edited date.
+            List<Path> resultingFiles = filteredPaths.parallelStream()
+                                                     .filter(path -> !path.isDirectory())
+                                                     .map(FilteredPath::path)
+                                                     .filter(path -> FileFilterUtils.filterByDate(path, dateFilter))
+                                                     .toList();
+
+            // sort files according to last edited date.
+            resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+
+            // initially, we find no files at all
+            int fileCountOfSubdirectories = 0;
+
+            // collect the subdirectories in the order they were listed
+            for (DirectorySearch subDirectorySearch : subDirectorySearches) {
+                FileNodeViewModel subRoot = subDirectorySearch.join();
+                if (!subRoot.getChildren().isEmpty()) {
+                    fileCountOfSubdirectories += subRoot.getFileCount();
+                    fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
+                }
+            }
+            // now we have the data of all subdirectories
+            // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
+
+            // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
+            fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
+
+            // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
+            fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
+                                                                                    .map(FileNodeViewModel::new)
+                                                                                    .toList());
 
-        // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
-        fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
+            if ((depth == 1) && !fileNodeViewModelForCurrentDirectory.getChildren().isEmpty()) {
+                onSubdirectorySearched.accept(fileNodeViewModelForCurrentDirectory);
+            }
+            return fileNodeViewModelForCurrentDirectory;
+        }
 
-        // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
-        fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
-                                                                                .map(FileNodeViewModel::new)
-                                                                                .toList());
+        /// A subdirectory without own .gitignore file is filtered by the .gitignore file of this directory
+        private GitIgnoreFileFilter getGitIgnoreFileFilter(Path subDirectory) {
+            if (Files.exists(subDirectory.resolve(".gitignore"))) {
+                return new GitIgnoreFileFilter(subDirectory);
+            }
+            return gitIgnoreFileFilter;
+        }
+
+        private static boolean accept(ChainedFilters filters, Path path) {
+            try {
+                return filters.accept(path);
+            } catch (IOException e) {
+                LOGGER.error("Could not apply filter", e);
+                return false;
+            }
+        }
+    }
 
-        return fileNodeViewModelForCurrentDirectory;
+    private record FilteredPath(Path path, boolean isDirectory) {
     }
 }
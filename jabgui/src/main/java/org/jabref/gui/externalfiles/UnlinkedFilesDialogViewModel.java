@@ -34,6 +34,7 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.FileDialogConfiguration;
 import org.jabref.gui.util.FileNodeViewModel;
+import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.externalfiles.DateRange;
 import org.jabref.logic.externalfiles.ExternalFileSorter;
 import org.jabref.logic.l10n.Localization;
@@ -126,13 +127,19 @@ public class UnlinkedFilesDialogViewModel {
         progressValueProperty.unbind();
         progressTextProperty.unbind();
 
+        // Shows the subdirectories searched so far until the search is finished
+        FileNodeViewModel partialTreeRoot = new FileNodeViewModel(directory);
         findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, selectedDateFilter, selectedSortFilter, bibDatabase, preferences.getFilePreferences())
+                .onSubdirectorySearched(subdirectory -> UiTaskExecutor.runInJavaFXThread(() -> {
+                    partialTreeRoot.setFileCount(partialTreeRoot.getFileCount() + subdirectory.getFileCount());
+                    partialTreeRoot.getChildren().add(subdirectory);
+                }))
                 .onRunning(() -> {
                     progressValueProperty.set(ProgressIndicator.INDETERMINATE_PROGRESS);
                     progressTextProperty.setValue(Localization.lang("Searching file system..."));
                     progressTextProperty.bind(findUnlinkedFilesTask.messageProperty());
                     taskActiveProperty.setValue(true);
-                    treeRootProperty.setValue(Optional.empty());
+                    treeRootProperty.setValue(Optional.of(partialTreeRoot));
                 })
                 .onFinished(() -> {
                     progressValueProperty.set(0);
@@ -54,6 +54,7 @@ import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
+import org.jabref.model.search.query.SearchResults;
 
 import com.google.common.eventbus.Subscribe;
 import com.tobiasdiez.easybind.EasyBind;
@@ -598,8 +599,9 @@ public class GroupNodeViewModel {
         public void listen(IndexAddedOrUpdatedEvent event) {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> BackgroundTask.wrap(() -> {
+                    SearchResults results = indexManager.matches(event.entries(), searchGroup.getSearchQuery());
                     for (BibEntry entry : event.entries()) {
-                        searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
+                        searchGroup.updateMatches(entry, results.isMatched(entry));
                     }
                 }).onFinished(() -> {
                     for (BibEntry entry : event.entries()) {
@@ -1,5 +1,6 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,8 +44,6 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
-
 public class MainTableDataModel {
     private final Logger LOGGER = LoggerFactory.getLogger(MainTableDataModel.class);
 
@@ -234,18 +233,22 @@ public class MainTableDataModel {
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent indexAddedOrUpdatedEvent) {
-            indexAddedOrUpdatedEvent.entries().forEach(entry -> BackgroundTask.wrap(() -> {
-                int index = bibDatabaseContext.getDatabase().indexOf(entry);
-                if (index >= 0) {
+            List<BibEntry> entries = indexAddedOrUpdatedEvent.entries();
+            BackgroundTask.wrap(() -> {
+                // All entries are matched at once, as an event may contain thousands of entries (e.g., after an import)
+                Optional<SearchQuery> searchQuery = searchQueryProperty.get();
+                SearchResults results = searchQuery.map(query -> indexManager.search(query, entries)).orElse(null);
+                boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+
+                List<Integer> indices = new ArrayList<>(entries.size());
+                for (BibEntry entry : entries) {
+                    int index = bibDatabaseContext.getDatabase().indexOf(entry);
+                    if (index < 0) {
+                        continue;
+                    }
                     BibEntryTableViewModel viewModel = entriesViewModel.get(index);
-                    boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
                     boolean isMatched;
-                    if (searchQueryProperty.get().isPresent()) {
-                        SearchQuery searchQuery = searchQueryProperty.get().get();
-                        String newSearchExpression = "(" + ENTRY_ID + "= " + entry.getId() + ") AND (" + searchQuery.getSearchExpression() + ")";
-                        SearchQuery entryQuery = new SearchQuery(newSearchExpression, searchQuery.getSearchFlags());
-                        SearchResults results = indexManager.search(entryQuery);
-
+                    if (results != null) {
                         isMatched = results.isMatched(entry);
                         viewModel.hasFullTextResultsProperty().set(results.hasFulltextResults(entry));
                     } else {
@@ -255,13 +258,14 @@ public class MainTableDataModel {
 
                     updateEntrySearchMatch(viewModel, isMatched, isFloatingMode);
                     updateEntryGroupMatch(viewModel, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
+                    indices.add(index);
                 }
-                return index;
-            }).onSuccess(index -> {
-                if (index >= 0) {
+                return indices;
+            }).onSuccess(indices -> {
+                for (int index : indices) {
                     FilteredListProxy.refilterListReflection(entriesFiltered, index, index + 1);
                 }
-            }).executeWith(taskExecutor));
+            }).executeWith(taskExecutor);
         }
 
         @Subscribe
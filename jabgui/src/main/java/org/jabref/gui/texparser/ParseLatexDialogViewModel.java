@@ -27,7 +27,7 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.logic.texparser.TexBibEntriesResolver;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
@@ -51,6 +51,7 @@ public class ParseLatexDialogViewModel extends AbstractViewModel {
     private final TaskExecutor taskExecutor;
     private final CliPreferences preferences;
     private final FileUpdateMonitor fileMonitor;
+    private final CachingLatexParser latexParser;
     private final StringProperty latexFileDirectory;
     private final Validator latexDirectoryValidator;
     private final ObjectProperty<FileNodeViewModel> root;
@@ -63,12 +64,14 @@ public class ParseLatexDialogViewModel extends AbstractViewModel {
                                      DialogService dialogService,
                                      TaskExecutor taskExecutor,
                                      CliPreferences preferences,
-                                     FileUpdateMonitor fileMonitor) {
+                                     FileUpdateMonitor fileMonitor,
+                                     CachingLatexParser latexParser) {
         this.databaseContext = databaseContext;
         this.dialogService = dialogService;
         this.taskExecutor = taskExecutor;
         this.preferences = preferences;
         this.fileMonitor = fileMonitor;
+        this.latexParser = latexParser;
         this.latexFileDirectory = new SimpleStringProperty(databaseContext.getMetaData().getLatexFileDirectory(preferences.getFilePreferences().getUserAndHost())
                                                                           .orElse(FileUtil.getInitialDirectory(databaseContext, preferences.getFilePreferences().getWorkingDirectory()))
                                                                           .toAbsolutePath().toString());
@@ -207,7 +210,7 @@ public class ParseLatexDialogViewModel extends AbstractViewModel {
                 preferences.getImportFormatPreferences(),
                 fileMonitor);
 
-        BackgroundTask.wrap(() -> entriesResolver.resolve(new DefaultLatexParser().parse(fileList)))
+        BackgroundTask.wrap(() -> entriesResolver.resolve(latexParser.parse(fileList)))
                       .onRunning(() -> searchInProgress.set(true))
                       .onFinished(() -> searchInProgress.set(false))
                       .onSuccess(result -> dialogService.showCustomDialogAndWait(
@@ -1,24 +1,42 @@
 package org.jabref.gui.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.WatchServiceUnavailableException;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.util.FileUpdateListener;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,47 +44,97 @@ import org.slf4j.LoggerFactory;
  * This class monitors a set of files for changes. Upon detecting a change it notifies the registered {@link
  * FileUpdateListener}s.
  * <p>
+ * Editors and version control systems write a file in several steps, each causing an event. Thus, the events of a file
+ * are coalesced: the listeners are notified once the file did not cause any further event for the quiet period.
+ * Furthermore, the listeners are notified only if the content of the file differs from its known state, i.e., the
+ * state when the listener was added or the file was marked as unchanged (see {@link #markAsUnchanged(Path)}). The
+ * content is compared by the size and the modification time of the file first and by a hash of the content if these
+ * differ. Thus, JabRef's own saves and touching a file do not cause notifications.
+ * <p>
+ * Adding a listener and marking a file as unchanged are called on the JavaFX thread, too. Thus, they only read the
+ * size and the modification time of the file; the hash of its content is computed in the background.
+ * <p>
  * Implementation based on <a href="https://stackoverflow.com/questions/16251273/can-i-watch-for-single-file-change-with-watchservice-not-the-whole-directory">https://stackoverflow.com/questions/16251273/can-i-watch-for-single-file-change-with-watchservice-not-the-whole-directory</a>.
  */
 public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
+    private static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(200);
+
     private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
+    /// The known state of the monitored files
+    private final Map<Path, FileFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final Duration quietPeriod;
+    private final Executor hashExecutor;
     private volatile WatchService watcher;
     private final AtomicBoolean notShutdown = new AtomicBoolean(true);
     private final AtomicReference<Optional<JabRefException>> filesystemMonitorFailure = new AtomicReference<>(Optional.empty());
 
+    private final AtomicLong deliveredNotificationCount = new AtomicLong();
+    private final AtomicLong suppressedEventCount = new AtomicLong();
+    private final AtomicLong unchangedContentCount = new AtomicLong();
+
+    public DefaultFileUpdateMonitor() {
+        this(DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * @param quietPeriod the time a file must not cause any further event before the listeners are notified about its change
+     */
+    public DefaultFileUpdateMonitor(Duration quietPeriod) {
+        this(quietPeriod, HeadlessExecutorService.INSTANCE::execute);
+    }
+
+    /**
+     * @param hashExecutor executes the computation of the content hashes of newly monitored files
+     */
+    DefaultFileUpdateMonitor(Duration quietPeriod, Executor hashExecutor) {
+        this.quietPeriod = quietPeriod;
+        this.hashExecutor = hashExecutor;
+    }
+
     @Override
     public void run() {
         try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
             this.watcher = watcher;
             filesystemMonitorFailure.set(Optional.empty());
 
+            // The changed files, each with the time (System.nanoTime) its quiet period ends
+            Map<Path, Long> pendingChanges = new HashMap<>();
+
             while (notShutdown.get()) {
                 WatchKey key;
                 try {
-                    key = watcher.take();
+                    if (pendingChanges.isEmpty()) {
+                        key = watcher.take();
+                    } else {
+                        long nextQuietPeriodEnd = Collections.min(pendingChanges.values());
+                        key = watcher.poll(Math.max(0, nextQuietPeriodEnd - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    }
                 } catch (InterruptedException | ClosedWatchServiceException e) {
                     return;
                 }
 
-                for (WatchEvent<?> event : key.pollEvents()) {
-                    WatchEvent.Kind<?> kind = event.kind();
-
-                    if (kind == StandardWatchEventKinds.OVERFLOW) {
-                        Thread.yield();
-                        continue;
-                    } else if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                        // We only handle "ENTRY_CREATE" and "ENTRY_MODIFY" here, so the context is always a Path
-                        @SuppressWarnings("unchecked")
-                        WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                        Path path = ((Path) key.watchable()).resolve(ev.context());
-                        notifyAboutChange(path);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        WatchEvent.Kind<?> kind = event.kind();
+
+                        if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
+                            // We only handle "ENTRY_CREATE" and "ENTRY_MODIFY" here, so the context is always a Path
+                            @SuppressWarnings("unchecked")
+                            WatchEvent<Path> ev = (WatchEvent<Path>) event;
+                            Path path = ((Path) key.watchable()).resolve(ev.context());
+                            if (listeners.containsKey(path) && (pendingChanges.put(path, System.nanoTime() + quietPeriod.toNanos()) != null)) {
+                                // Coalesced with the previous event of the file
+                                suppressedEventCount.incrementAndGet();
+                            }
+                        }
                     }
                     key.reset();
                 }
-                Thread.yield();
+
+                notifyAboutQuietChanges(pendingChanges);
             }
         } catch (IOException e) {
             JabRefException exception = new WatchServiceUnavailableException(
@@ -76,12 +144,45 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         }
     }
 
+    /**
+     * @return whether the watch service is created, i.e., whether listeners can be added
+     */
+    boolean isWatching() {
+        return watcher != null;
+    }
+
     @Override
     public boolean isActive() {
         return filesystemMonitorFailure.get().isEmpty();
     }
 
+    /**
+     * Notifies about the changes whose quiet period is over
+     */
+    private void notifyAboutQuietChanges(Map<Path, Long> pendingChanges) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, Long>> iterator = pendingChanges.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Long> pendingChange = iterator.next();
+            if (now - pendingChange.getValue() >= 0) {
+                iterator.remove();
+                notifyAboutChange(pendingChange.getKey());
+            }
+        }
+    }
+
     private void notifyAboutChange(Path path) {
+        FileFingerprint knownFingerprint = fingerprints.get(path);
+        Optional<FileFingerprint> currentFingerprint = determineFingerprint(path, knownFingerprint);
+        currentFingerprint.ifPresentOrElse(fingerprint -> fingerprints.put(path, fingerprint), () -> fingerprints.remove(path));
+        if ((knownFingerprint != null) && currentFingerprint.isPresent() && currentFingerprint.get().hasSameContent(knownFingerprint)) {
+            LOGGER.debug("Content of {} is unchanged, not notifying", path);
+            suppressedEventCount.incrementAndGet();
+            unchangedContentCount.incrementAndGet();
+            return;
+        }
+
+        deliveredNotificationCount.incrementAndGet();
         listeners.get(path).forEach(FileUpdateListener::fileUpdated);
     }
 
@@ -91,6 +192,9 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
             // We can't watch files directly, so monitor their parent directory for updates
             Path directory = file.toAbsolutePath().getParent();
             directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            if (!fingerprints.containsKey(file)) {
+                markAsUnchanged(file);
+            }
             listeners.put(file, listener);
         } else {
             LOGGER.warn("Not adding listener {} to file {} because the file update monitor isn't active", listener, file);
@@ -100,6 +204,86 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
         listeners.remove(path, listener);
+        if (!listeners.containsKey(path)) {
+            fingerprints.remove(path);
+        }
+    }
+
+    @Override
+    public void markAsUnchanged(Path file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine the fingerprint of {}", file, e);
+            fingerprints.remove(file);
+            return;
+        }
+        FileFingerprint fingerprintWithoutHash = new FileFingerprint(attributes.size(), attributes.lastModifiedTime(), null);
+        fingerprints.put(file, fingerprintWithoutHash);
+
+        hashExecutor.execute(() -> determineFingerprint(file, null)
+                // If the file was modified in the meantime, the hash is not the one of the unchanged content
+                .filter(fingerprint -> fingerprint.hasSameAttributes(fingerprintWithoutHash))
+                .ifPresent(fingerprint -> fingerprints.replace(file, fingerprintWithoutHash, fingerprint)));
+    }
+
+    /**
+     * @param knownFingerprint the known fingerprint of the file. It is reused if the size and the modification time did not change.
+     * @return the fingerprint of the given file, empty if the file cannot be read
+     */
+    private static Optional<FileFingerprint> determineFingerprint(Path file, @Nullable FileFingerprint knownFingerprint) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if ((knownFingerprint != null)
+                    && (knownFingerprint.size() == attributes.size())
+                    && knownFingerprint.lastModifiedTime().equals(attributes.lastModifiedTime())) {
+                return Optional.of(knownFingerprint);
+            }
+            return Optional.of(new FileFingerprint(attributes.size(), attributes.lastModifiedTime(), hash(file)));
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine the fingerprint of {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is supported by every Java platform", e);
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * @return the number of notifications about changed files, each notifying all listeners of the file
+     */
+    public long getDeliveredNotificationCount() {
+        return deliveredNotificationCount.get();
+    }
+
+    /**
+     * @return the number of events of monitored files which did not cause a notification, because they were coalesced
+     * with a further event or did not change the content of the file
+     */
+    public long getSuppressedEventCount() {
+        return suppressedEventCount.get();
+    }
+
+    /**
+     * @return the number of changes of monitored files which did not cause a notification, because the content of the file did not change
+     */
+    public long getUnchangedContentCount() {
+        return unchangedContentCount.get();
     }
 
     @Override
@@ -113,5 +297,26 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         } catch (IOException e) {
             LOGGER.error("error closing watcher", e);
         }
+        LOGGER.debug("File update monitor delivered {} notifications and suppressed {} events", getDeliveredNotificationCount(), getSuppressedEventCount());
+    }
+
+    /**
+     * @param contentHash the hash of the content, {@code null} as long as it has not been computed
+     */
+    private record FileFingerprint(long size, FileTime lastModifiedTime, byte @Nullable [] contentHash) {
+
+        boolean hasSameAttributes(FileFingerprint other) {
+            return (size == other.size) && lastModifiedTime.equals(other.lastModifiedTime);
+        }
+
+        /**
+         * Without the hash of both files, only files with the same size and modification time count as having the same content
+         */
+        boolean hasSameContent(FileFingerprint other) {
+            if (hasSameAttributes(other)) {
+                return true;
+            }
+            return (contentHash != null) && (other.contentHash != null) && (size == other.size) && Arrays.equals(contentHash, other.contentHash);
+        }
     }
 }
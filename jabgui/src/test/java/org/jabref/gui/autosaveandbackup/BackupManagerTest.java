@@ -11,6 +11,7 @@ import java.util.Optional;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
@@ -18,7 +19,10 @@ import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
@@ -38,6 +42,7 @@ import static org.mockito.Mockito.when;
 class BackupManagerTest {
 
     Path backupDir;
+    BackupManager backupManager;
 
     @BeforeEach
     void setup(@TempDir Path tempDir) {
@@ -192,4 +197,150 @@ class BackupManagerTest {
         // due to timing issues we cannot test that reliable
         assertEquals(fullBackupPath.get(), files.getFirst());
     }
+
+    @Test
+    void changesAfterBackupAreRestoredFromJournal(@TempDir Path customDir) throws IOException {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+        Files.writeString(bibFile, "");
+        Files.setLastModifiedTime(bibFile, FileTime.fromMillis(0));
+
+        BibEntry changedEntry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("changed")
+                .withField(StandardField.TITLE, "Old title");
+        BibEntry removedEntry = new BibEntry(StandardEntryType.Book)
+                .withCitationKey("removed");
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(changedEntry, removedEntry)));
+        databaseContext.setDatabasePath(bibFile);
+
+        CliPreferences preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.getBackupDirectory()).thenReturn(backupDir);
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+
+        BackupManager manager = BackupManager.start(
+                mock(LibraryTab.class),
+                databaseContext,
+                new CoarseChangeFilter(databaseContext),
+                new BibEntryTypesManager(),
+                preferences);
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.determineBackupPathForNewBackup(backupDir).ifPresent(manager::performBackup);
+
+        // These changes are journaled only
+        changedEntry.setField(StandardField.TITLE, "New title");
+        databaseContext.getDatabase().removeEntry(removedEntry);
+        databaseContext.getDatabase().insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("added"));
+        manager.writeJournal();
+
+        boolean backupDiffers = BackupManager.backupFileDiffers(bibFile, backupDir);
+        List<BibEntry> restoredEntries = BackupManager.loadBackup(bibFile, backupDir, importFormatPreferences).orElseThrow().getDatabase().getEntries();
+        BackupManager.shutdown(databaseContext, backupDir, false);
+
+        assertTrue(backupDiffers);
+        assertEquals(List.of(
+                        new BibEntry(StandardEntryType.Article)
+                                .withCitationKey("changed")
+                                .withField(StandardField.TITLE, "New title"),
+                        new BibEntry(StandardEntryType.Misc)
+                                .withCitationKey("added")),
+                restoredEntries);
+    }
+
+    @Test
+    void changesSavedBeforeCloseDoNotLeadToDiff(@TempDir Path customDir) throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+        BibDatabaseContext databaseContext = startJournaling(customDir, entry);
+
+        entry.setField(StandardField.TITLE, "New title");
+        saveLibrary(databaseContext);
+        BackupManager.shutdown(databaseContext, backupDir, true);
+
+        assertFalse(BackupManager.backupFileDiffers(databaseContext.getDatabasePath().orElseThrow(), backupDir));
+    }
+
+    @Test
+    void changesSavedBeforeCloseWithoutBackupDoNotLeadToDiff(@TempDir Path customDir) throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+        BibDatabaseContext databaseContext = startJournaling(customDir, entry);
+
+        entry.setField(StandardField.TITLE, "New title");
+        backupManager.writeJournal();
+        saveLibrary(databaseContext);
+        BackupManager.shutdown(databaseContext, backupDir, false);
+
+        assertFalse(BackupManager.backupFileDiffers(databaseContext.getDatabasePath().orElseThrow(), backupDir));
+    }
+
+    @Test
+    void changesAfterSaveLeadToDiff(@TempDir Path customDir) throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+        BibDatabaseContext databaseContext = startJournaling(customDir, entry);
+
+        entry.setField(StandardField.TITLE, "Saved title");
+        saveLibrary(databaseContext);
+        entry.setField(StandardField.TITLE, "Unsaved title");
+        BackupManager.shutdown(databaseContext, backupDir, true);
+
+        assertTrue(BackupManager.backupFileDiffers(databaseContext.getDatabasePath().orElseThrow(), backupDir));
+    }
+
+    @Test
+    void changesDuringSaveLeadToDiff(@TempDir Path customDir) throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+        BibDatabaseContext databaseContext = startJournaling(customDir, entry);
+
+        BackupManager.librarySaving(databaseContext);
+        entry.setField(StandardField.TITLE, "Title changed while saving");
+        writeLibraryFile(databaseContext);
+        BackupManager.librarySaved(databaseContext);
+        BackupManager.shutdown(databaseContext, backupDir, true);
+
+        assertTrue(BackupManager.backupFileDiffers(databaseContext.getDatabasePath().orElseThrow(), backupDir));
+    }
+
+    /**
+     * Starts a backup manager for a library containing the given entry and writes the backup. Subsequent changes are journaled.
+     */
+    private BibDatabaseContext startJournaling(Path customDir, BibEntry entry) throws IOException {
+        backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(entry)));
+        databaseContext.setDatabasePath(customDir.resolve("Bibfile.bib"));
+        writeLibraryFile(databaseContext);
+
+        CliPreferences preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.getBackupDirectory()).thenReturn(backupDir);
+
+        backupManager = BackupManager.start(
+                mock(LibraryTab.class),
+                databaseContext,
+                new CoarseChangeFilter(databaseContext),
+                new BibEntryTypesManager(),
+                preferences);
+        backupManager.listen(new MetaDataChangedEvent(new MetaData()));
+        backupManager.determineBackupPathForNewBackup(backupDir).ifPresent(backupManager::performBackup);
+        return databaseContext;
+    }
+
+    private static void saveLibrary(BibDatabaseContext databaseContext) throws IOException {
+        BackupManager.librarySaving(databaseContext);
+        writeLibraryFile(databaseContext);
+        BackupManager.librarySaved(databaseContext);
+    }
+
+    /**
+     * Simulates writing the library. The file is older than the backup and its journal, as when the journal is written
+     * within the same second as the library.
+     */
+    private static void writeLibraryFile(BibDatabaseContext databaseContext) throws IOException {
+        Path bibFile = databaseContext.getDatabasePath().orElseThrow();
+        Files.writeString(bibFile, databaseContext.getEntries().toString());
+        Files.setLastModifiedTime(bibFile, FileTime.fromMillis(0));
+    }
 }
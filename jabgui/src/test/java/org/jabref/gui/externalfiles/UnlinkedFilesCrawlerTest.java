@@ -3,6 +3,10 @@ package org.jabref.gui.externalfiles;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
@@ -97,4 +101,33 @@ class UnlinkedFilesCrawlerTest {
             assertEquals(fileNodeViewModel.getFileCount(), count - 1);
         }
     }
+
+    @Test
+    void subdirectoriesAreSearchedAndPassedAsPartialResults(@TempDir Path testRoot) throws IOException {
+        Path firstDir = Files.createDirectories(testRoot.resolve("first"));
+        Files.createFile(firstDir.resolve("a.pdf"));
+        Path nestedDir = Files.createDirectories(testRoot.resolve("second").resolve("nested"));
+        Files.createFile(nestedDir.resolve("b.pdf"));
+        Files.createFile(nestedDir.resolve("c.pdf"));
+        Files.createDirectories(testRoot.resolve("empty"));
+
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
+        when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
+        Set<Path> partialResults = ConcurrentHashMap.newKeySet();
+
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class))
+                .onSubdirectorySearched(subdirectory -> partialResults.add(subdirectory.getPath()));
+        FileNodeViewModel fileNodeViewModel = unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
+
+        assertEquals(3, fileNodeViewModel.getFileCount());
+        assertEquals(Set.of(firstDir, testRoot.resolve("second")), partialResults);
+        assertEquals(Set.of(firstDir, testRoot.resolve("second")),
+                fileNodeViewModel.getChildren().stream().map(FileNodeViewModel::getPath).collect(Collectors.toSet()));
+        assertEquals(List.of(nestedDir),
+                fileNodeViewModel.getChildren().stream()
+                                 .filter(child -> child.getPath().equals(testRoot.resolve("second")))
+                                 .flatMap(child -> child.getChildren().stream())
+                                 .map(FileNodeViewModel::getPath)
+                                 .toList());
+    }
 }
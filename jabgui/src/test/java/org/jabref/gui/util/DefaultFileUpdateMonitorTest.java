@@ -0,0 +1,122 @@
+package org.jabref.gui.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Since the DefaultFileUpdateMonitor runs in a separate thread, the tests wait for the notifications (or for the
+ * monitor to skip them) with a deadline.
+ */
+class DefaultFileUpdateMonitorTest {
+
+    private static final Duration DEADLINE = Duration.ofSeconds(10);
+
+    @TempDir
+    private Path tempFolder;
+
+    private DefaultFileUpdateMonitor fileUpdateMonitor;
+    private Thread thread;
+    private Path file;
+    private final AtomicInteger notificationCount = new AtomicInteger();
+    private final CountDownLatch notified = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fileUpdateMonitor.shutdown();
+        thread.join();
+    }
+
+    @Test
+    void burstOfChangesIsNotifiedOnce() throws IOException, InterruptedException {
+        startMonitoring(Runnable::run);
+
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(file, "@Misc{changed" + i + "}");
+        }
+
+        assertTrue(notified.await(DEADLINE.toMillis(), TimeUnit.MILLISECONDS));
+        assertEquals(1, notificationCount.get());
+        assertEquals(1, fileUpdateMonitor.getDeliveredNotificationCount());
+    }
+
+    @Test
+    void touchIsNotNotified() throws IOException, InterruptedException {
+        startMonitoring(Runnable::run);
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+        Files.writeString(file, "@Misc{first}");
+
+        awaitCondition(() -> fileUpdateMonitor.getUnchangedContentCount() > 0);
+        assertEquals(0, notificationCount.get());
+    }
+
+    @Test
+    void changeMarkedAsUnchangedIsNotNotified() throws IOException, InterruptedException {
+        startMonitoring(Runnable::run);
+
+        Files.writeString(file, "@Misc{savedByJabRef}");
+        fileUpdateMonitor.markAsUnchanged(file);
+
+        awaitCondition(() -> fileUpdateMonitor.getUnchangedContentCount() > 0);
+        assertEquals(0, notificationCount.get());
+    }
+
+    @Test
+    void addingListenerDoesNotHashFile() throws IOException, InterruptedException {
+        List<Runnable> hashTasks = new ArrayList<>();
+        startMonitoring(hashTasks::add);
+
+        assertEquals(1, hashTasks.size());
+    }
+
+    @Test
+    void changeBeforeHashIsComputedIsNotified() throws IOException, InterruptedException {
+        List<Runnable> hashTasks = new ArrayList<>();
+        startMonitoring(hashTasks::add);
+
+        Files.writeString(file, "@Misc{changedBeforeHashing}");
+        hashTasks.forEach(Runnable::run);
+
+        assertTrue(notified.await(DEADLINE.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private void startMonitoring(Executor hashExecutor) throws IOException, InterruptedException {
+        file = tempFolder.resolve("library.bib");
+        Files.writeString(file, "@Misc{first}");
+
+        fileUpdateMonitor = new DefaultFileUpdateMonitor(Duration.ofMillis(100), hashExecutor);
+        thread = new Thread(fileUpdateMonitor);
+        thread.start();
+        awaitCondition(fileUpdateMonitor::isWatching);
+
+        fileUpdateMonitor.addListenerForFile(file, () -> {
+            notificationCount.incrementAndGet();
+            notified.countDown();
+        });
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + DEADLINE.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - deadline < 0, "Condition not met within " + DEADLINE);
+            Thread.sleep(10);
+        }
+    }
+}
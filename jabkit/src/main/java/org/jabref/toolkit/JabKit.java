@@ -18,9 +18,11 @@ import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
@@ -94,6 +96,7 @@ public class JabKit {
 
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
+            URLDownload.setResponseCache(new HttpResponseCache(Directories.getHttpCacheDirectory(), HttpResponseCache.DEFAULT_MAX_SIZE));
 
             Injector.setModelOrService(FileUpdateMonitor.class, new DummyFileUpdateMonitor());
 
@@ -1,8 +1,16 @@
 package org.jabref.toolkit.cli;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -16,8 +24,11 @@ import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportException;
+import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.os.OS;
@@ -27,6 +38,7 @@ import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.slf4j.Logger;
@@ -160,6 +172,76 @@ public class ArgumentProcessor implements Runnable {
                                               BibEntryTypesManager entryTypesManager,
                                               BibDatabaseContext bibDatabaseContext,
                                               Path outputFile) {
+        writeBibFile(cliPreferences, entryTypesManager, outputFile, databaseWriter -> databaseWriter.writeDatabase(bibDatabaseContext));
+    }
+
+    /**
+     * Copies a BibTeX file to another BibTeX file entry by entry. In contrast to importing and saving the library, the
+     * entries are never held in memory together. Thus, this works for libraries of any size.
+     * <p>
+     * The input is read twice: The first pass collects everything which is written in front of or after the entries
+     * (database ID, preamble, strings, epilog). The second pass writes each entry as soon as it is parsed.
+     * <p>
+     * As in {@link #saveDatabase(CliPreferences, BibEntryTypesManager, BibDatabase, Path)}, the metadata of the input is
+     * not written. Citation keys are not generated.
+     *
+     * @return {@code false} if the file cannot be copied this way, because entries have to be reordered (cross-references).
+     * Then, nothing has been written.
+     */
+    protected static boolean streamBibtexFile(CliPreferences cliPreferences,
+                                              BibEntryTypesManager entryTypesManager,
+                                              Path inputFile,
+                                              Path outputFile,
+                                              boolean porcelain) {
+        if (!porcelain) {
+            System.out.println(Localization.lang("Importing %0", inputFile));
+        }
+        ImportFormatPreferences importFormatPreferences = cliPreferences.getImportFormatPreferences();
+        Charset encoding;
+        ParserResult headerAndFooter;
+        try {
+            encoding = BibtexImporter.getEncoding(inputFile);
+            BibtexParser firstPass = new BibtexParser(importFormatPreferences);
+            try (Reader reader = openBibFile(inputFile, encoding)) {
+                // Referenced entries have to be written after the referring ones, which requires sorting all entries
+                if (firstPass.streamEntries(reader).anyMatch(entry -> entry.hasField(StandardField.CROSSREF))) {
+                    return false;
+                }
+            }
+            headerAndFooter = firstPass.getParserResult();
+        } catch (IOException | UncheckedIOException ex) {
+            LOGGER.error("Error opening file '{}'", inputFile, ex);
+            System.out.println(Localization.lang("Unable to open file '%0'.", inputFile));
+            return true;
+        }
+        if (headerAndFooter.isInvalid()) {
+            System.out.println(Localization.lang("Input file '%0' is invalid and could not be parsed.", inputFile));
+            return true;
+        }
+        if (headerAndFooter.hasWarnings()) {
+            System.out.println(headerAndFooter.getErrorMessage());
+        }
+
+        BibDatabaseContext bibDatabaseContext = new BibDatabaseContext(headerAndFooter.getDatabase());
+        writeBibFile(cliPreferences, entryTypesManager, outputFile, databaseWriter -> {
+            try (Reader reader = openBibFile(inputFile, encoding)) {
+                databaseWriter.writeDatabase(bibDatabaseContext, new BibtexParser(importFormatPreferences).streamEntries(reader).iterator());
+            }
+        });
+        return true;
+    }
+
+    private static Reader openBibFile(Path file, Charset encoding) throws IOException {
+        // Same as BibtexImporter: unreadable characters are replaced
+        CharsetDecoder decoder = encoding.newDecoder();
+        decoder.onMalformedInput(CodingErrorAction.REPLACE);
+        return new BufferedReader(new InputStreamReader(Files.newInputStream(file), decoder));
+    }
+
+    private static void writeBibFile(CliPreferences cliPreferences,
+                                     BibEntryTypesManager entryTypesManager,
+                                     Path outputFile,
+                                     DatabaseWriterAction writeAction) {
         try {
             if (!FileUtil.isBibFile(outputFile)) {
                 System.err.println(Localization.lang("Invalid output file type provided."));
@@ -174,7 +256,7 @@ public class ArgumentProcessor implements Runnable {
                         cliPreferences.getFieldPreferences(),
                         cliPreferences.getCitationKeyPatternPreferences(),
                         entryTypesManager);
-                databaseWriter.writeDatabase(bibDatabaseContext);
+                writeAction.write(databaseWriter);
 
                 // Show just a warning message if encoding did not work for all characters:
                 if (fileWriter.hasEncodingProblems()) {
@@ -183,11 +265,16 @@ public class ArgumentProcessor implements Runnable {
                 }
                 System.out.println(Localization.lang("Saved %0.", outputFile));
             }
-        } catch (IOException ex) {
+        } catch (IOException | UncheckedIOException ex) {
             System.err.println(Localization.lang("Could not save file.") + "\n" + ex.getLocalizedMessage());
         }
     }
 
+    @FunctionalInterface
+    private interface DatabaseWriterAction {
+        void write(BibDatabaseWriter databaseWriter) throws IOException;
+    }
+
     public static List<Pair<String, String>> getAvailableImportFormats(CliPreferences preferences) {
         ImportFormatReader importFormatReader = new ImportFormatReader(
                 preferences.getImporterPreferences(),
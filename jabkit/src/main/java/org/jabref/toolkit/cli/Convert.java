@@ -14,6 +14,7 @@ import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.toolkit.cli.converter.CygWinPathConverter;
 
@@ -52,6 +53,15 @@ public class Convert implements Runnable {
 
     @Override
     public void run() {
+        if (canStream() && ArgumentProcessor.streamBibtexFile(
+                argumentProcessor.cliPreferences,
+                argumentProcessor.entryTypesManager,
+                inputFile,
+                outputFile,
+                sharedOptions.porcelain)) {
+            return;
+        }
+
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(inputFile, inputFormat, argumentProcessor.cliPreferences, sharedOptions.porcelain);
         if (parserResult.isEmpty()) {
             System.out.println(Localization.lang("Unable to open file '%0'.", inputFile));
@@ -75,6 +85,23 @@ public class Convert implements Runnable {
         exportFile(parserResult.get(), outputFile, outputFormat);
     }
 
+    /// BibTeX to BibTeX conversions are done entry by entry, so that libraries larger than the available memory can be converted.
+    /// Generating citation keys before saving needs all entries to ensure unique keys.
+    private boolean canStream() {
+        return isBibtexInput()
+                && "bibtex".equalsIgnoreCase(outputFormat)
+                && (outputFile != null)
+                && !argumentProcessor.cliPreferences.getCitationKeyPatternPreferences().shouldGenerateCiteKeysBeforeSaving();
+    }
+
+    /// Without an explicit input format (or with "*" for guessing), a file with the ".bib" extension is read as BibTeX.
+    private boolean isBibtexInput() {
+        if ((inputFormat == null) || "*".equals(inputFormat)) {
+            return FileUtil.isBibFile(inputFile);
+        }
+        return "bibtex".equalsIgnoreCase(inputFormat);
+    }
+
     protected void exportFile(@NonNull ParserResult parserResult, @NonNull Path outputFile, String format) {
         if (!sharedOptions.porcelain) {
             System.out.println(Localization.lang("Exporting '%0'.", outputFile));
@@ -1,31 +1,29 @@
 package org.jabref.toolkit.cli;
 
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.TransformerException;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.exporter.EmbeddedBibFilePdfExporter;
-import org.jabref.logic.exporter.SaveException;
-import org.jabref.logic.exporter.XmpPdfExporter;
+import org.jabref.logic.exporter.LinkedPdfsMetadataWriter;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilWriter;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.toolkit.cli.converter.CygWinPathConverter;
 
-import com.airhacks.afterburner.injection.Injector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,9 +93,9 @@ class PdfUpdate implements Runnable {
                 pdf.argumentProcessor.cliPreferences.getLibraryPreferences().getDefaultBibDatabaseMode(),
                 pdf.argumentProcessor.cliPreferences.getCustomEntryTypesRepository(),
                 pdf.argumentProcessor.cliPreferences.getFieldPreferences(),
-                Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
                 formats.contains("xmp"),
-                formats.contains("bibtex-attachment"));
+                formats.contains("bibtex-attachment"),
+                sharedOptions.porcelain);
     }
 
     private static void writeMetadataToPdf(List<ParserResult> loaded,
@@ -108,130 +106,98 @@ class PdfUpdate implements Runnable {
                                            BibDatabaseMode databaseMode,
                                            BibEntryTypesManager entryTypesManager,
                                            FieldPreferences fieldPreferences,
-                                           JournalAbbreviationRepository abbreviationRepository,
                                            boolean writeXMP,
-                                           boolean embeddBibfile) {
+                                           boolean embeddBibfile,
+                                           boolean porcelain) {
         ParserResult pr = loaded.getLast();
         BibDatabaseContext databaseContext = pr.getDatabaseContext();
 
-        XmpPdfExporter xmpPdfExporter = new XmpPdfExporter(xmpPreferences);
-        EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter = new EmbeddedBibFilePdfExporter(databaseMode, entryTypesManager, fieldPreferences);
-
+        List<BibEntry> entries = new ArrayList<>();
         if (citationKeys.contains("all")) {
-            for (BibEntry entry : databaseContext.getEntries()) {
-                writeMetadataToPDFsOfEntry(
-                        databaseContext,
-                        entry.getCitationKey().orElse("<no cite key defined>"),
-                        entry,
-                        filePreferences,
-                        xmpPdfExporter,
-                        embeddedBibFilePdfExporter,
-                        abbreviationRepository,
-                        writeXMP,
-                        embeddBibfile);
+            entries.addAll(databaseContext.getEntries());
+        } else {
+            for (String citeKey : citationKeys) {
+                List<BibEntry> bibEntryList = databaseContext.getDatabase().getEntriesByCitationKey(citeKey);
+                if (bibEntryList.isEmpty()) {
+                    LOGGER.error("Skipped - Cannot find {} in library.", citeKey);
+                }
+                entries.addAll(bibEntryList);
             }
-            return;
         }
+        Map<Path, List<BibEntry>> entriesByFile = LinkedPdfsMetadataWriter.findLinkedPdfs(databaseContext, entries, filePreferences);
+        List<Path> requestedFiles = citationKeys.contains("all") ? List.of() : addEntriesByFileNames(databaseContext, files, filePreferences, entriesByFile, writeXMP, embeddBibfile);
 
-        writeMetadataToPdfByCitekey(
-                databaseContext,
-                citationKeys,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
-                writeXMP,
-                embeddBibfile);
-        writeMetadataToPdfByFileNames(
-                databaseContext,
-                files,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
+        LinkedPdfsMetadataWriter metadataWriter = new LinkedPdfsMetadataWriter(
+                new XmpUtilWriter(xmpPreferences),
+                new EmbeddedBibFilePdfExporter(databaseMode, entryTypesManager, fieldPreferences),
                 writeXMP,
                 embeddBibfile);
-    }
-
-    private static void writeMetadataToPDFsOfEntry(BibDatabaseContext databaseContext,
-                                                   String citeKey,
-                                                   BibEntry entry,
-                                                   FilePreferences filePreferences,
-                                                   XmpPdfExporter xmpPdfExporter,
-                                                   EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                                   JournalAbbreviationRepository abbreviationRepository,
-                                                   boolean writeXMP,
-                                                   boolean embedBibfile) {
-        try {
-            if (writeXMP) {
-                if (xmpPdfExporter.exportToAllFilesOfEntry(
-                        databaseContext,
-                        filePreferences,
-                        entry,
-                        List.of(entry),
-                        abbreviationRepository)) {
-                    System.out.println(Localization.lang("Successfully written XMP metadata on at least one linked file of %0.", citeKey));
-                } else {
-                    System.out.println(Localization.lang("Cannot write XMP metadata on any linked files of %0. Make sure there is at least one linked file and the path is correct.", citeKey));
+        LinkedPdfsMetadataWriter.Report report = metadataWriter.write(databaseContext, entriesByFile, _ -> {
+        });
+
+        Set<Path> writtenFiles = report.results().stream()
+                                       .filter(result -> result.status() != LinkedPdfsMetadataWriter.Status.FAILED)
+                                       .map(LinkedPdfsMetadataWriter.FileResult::file)
+                                       .collect(Collectors.toSet());
+        for (BibEntry entry : entries) {
+            boolean writtenToAFile = entriesByFile.entrySet().stream()
+                                                  .anyMatch(fileEntries -> fileEntries.getValue().contains(entry) && writtenFiles.contains(fileEntries.getKey()));
+            printEntryResult(entry.getCitationKey().orElse("<no cite key defined>"), writtenToAFile, writeXMP, embeddBibfile);
+        }
+        for (Path file : requestedFiles) {
+            if (writtenFiles.contains(file)) {
+                if (writeXMP) {
+                    System.out.println(Localization.lang("Successfully written XMP metadata of at least one entry to %0.", file));
                 }
-            }
-            if (embedBibfile) {
-                if (embeddedBibFilePdfExporter.exportToAllFilesOfEntry(
-                        databaseContext,
-                        filePreferences,
-                        entry,
-                        List.of(entry),
-                        abbreviationRepository)) {
-                    System.out.println(Localization.lang("Successfully embedded metadata on at least one linked file of %0.", citeKey));
-                } else {
-                    System.out.println(Localization.lang("Cannot embed metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.", citeKey));
+                if (embeddBibfile) {
+                    System.out.println(Localization.lang("Successfully embedded XMP metadata of at least one entry to %0.", file));
                 }
             }
-        } catch (IOException
-                 | ParserConfigurationException
-                 | SaveException
-                 | TransformerException e) {
-            LOGGER.error("Failed writing metadata on a linked file of {}.", citeKey);
+        }
+        for (LinkedPdfsMetadataWriter.FileResult failure : report.getFailures()) {
+            LOGGER.error("Failed writing metadata to {}: {}", failure.file(), failure.errorMessage().orElse(""));
+        }
+
+        if (!porcelain) {
+            System.out.println(Localization.lang("Updated %0 of %1 PDF files in %2 seconds (%3 already up to date, %4 failed).",
+                    String.valueOf(report.count(LinkedPdfsMetadataWriter.Status.WRITTEN)),
+                    String.valueOf(report.results().size()),
+                    String.format("%.1f", report.duration().toMillis() / 1000.0),
+                    String.valueOf(report.count(LinkedPdfsMetadataWriter.Status.UNCHANGED)),
+                    String.valueOf(report.count(LinkedPdfsMetadataWriter.Status.FAILED))));
         }
     }
 
-    private static void writeMetadataToPdfByCitekey(BibDatabaseContext databaseContext,
-                                                    List<String> citeKeys,
-                                                    FilePreferences filePreferences,
-                                                    XmpPdfExporter xmpPdfExporter,
-                                                    EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                                    JournalAbbreviationRepository abbreviationRepository,
-                                                    boolean writeXMP,
-                                                    boolean embeddBibfile) {
-        for (String citeKey : citeKeys) {
-            List<BibEntry> bibEntryList = databaseContext.getDatabase().getEntriesByCitationKey(citeKey);
-            if (bibEntryList.isEmpty()) {
-                LOGGER.error("Skipped - Cannot find {} in library.", citeKey);
-                continue;
+    private static void printEntryResult(String citeKey, boolean writtenToAFile, boolean writeXMP, boolean embedBibfile) {
+        if (writeXMP) {
+            if (writtenToAFile) {
+                System.out.println(Localization.lang("Successfully written XMP metadata on at least one linked file of %0.", citeKey));
+            } else {
+                System.out.println(Localization.lang("Cannot write XMP metadata on any linked files of %0. Make sure there is at least one linked file and the path is correct.", citeKey));
             }
-            for (BibEntry entry : bibEntryList) {
-                writeMetadataToPDFsOfEntry(
-                        databaseContext,
-                        citeKey,
-                        entry,
-                        filePreferences,
-                        xmpPdfExporter,
-                        embeddedBibFilePdfExporter,
-                        abbreviationRepository,
-                        writeXMP,
-                        embeddBibfile);
+        }
+        if (embedBibfile) {
+            if (writtenToAFile) {
+                System.out.println(Localization.lang("Successfully embedded metadata on at least one linked file of %0.", citeKey));
+            } else {
+                System.out.println(Localization.lang("Cannot embed metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.", citeKey));
             }
         }
     }
 
-    private static void writeMetadataToPdfByFileNames(BibDatabaseContext databaseContext,
-                                                      List<Path> pdfs,
-                                                      FilePreferences filePreferences,
-                                                      XmpPdfExporter xmpPdfExporter,
-                                                      EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                                      JournalAbbreviationRepository abbreviationRepository,
-                                                      boolean writeXMP,
-                                                      boolean embeddBibfile) {
+    /**
+     * Adds the given PDF files and the entries linking to them to the files to write
+     *
+     * @return the files which are linked to an entry
+     */
+    private static List<Path> addEntriesByFileNames(BibDatabaseContext databaseContext,
+                                                    List<Path> pdfs,
+                                                    FilePreferences filePreferences,
+                                                    Map<Path, List<BibEntry>> entriesByFile,
+                                                    boolean writeXMP,
+                                                    boolean embeddBibfile) {
+        Map<Path, List<BibEntry>> allLinkedPdfs = LinkedPdfsMetadataWriter.findLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences);
+        List<Path> linkedFiles = new ArrayList<>();
         for (Path filePath : pdfs) {
             if (!filePath.isAbsolute()) {
                 filePath = FileUtil.find(filePath.toString(), databaseContext.getFileDirectories(filePreferences)).orElse(
@@ -240,30 +206,26 @@ class PdfUpdate implements Runnable {
 
             if (!Files.exists(filePath)) {
                 LOGGER.error("Skipped - PDF {} does not exist", filePath);
-                return;
+                continue;
             }
 
-            try {
+            Path file = filePath.toAbsolutePath().normalize();
+            List<BibEntry> linkingEntries = allLinkedPdfs.get(file);
+            if (linkingEntries == null) {
                 if (writeXMP) {
-                    if (xmpPdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                        System.out.println(Localization.lang("Successfully written XMP metadata of at least one entry to %0.", filePath));
-                    } else {
-                        System.out.println(Localization.lang("File %0 is not linked to any entry in library.", filePath));
-                    }
+                    System.out.println(Localization.lang("File %0 is not linked to any entry in library.", filePath));
                 }
                 if (embeddBibfile) {
-                    if (embeddedBibFilePdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                        System.out.println(Localization.lang("Successfully embedded XMP metadata of at least one entry to %0.", filePath));
-                    } else {
-                        System.out.println(Localization.lang("File %0 is not linked to any entry in library.", filePath));
-                    }
+                    System.out.println(Localization.lang("File %0 is not linked to any entry in library.", filePath));
                 }
-            } catch (IOException
-                     | ParserConfigurationException
-                     | SaveException
-                     | TransformerException e) {
-                LOGGER.error("Error writing entry to {}.", filePath);
+                continue;
             }
+            List<BibEntry> entriesOfFile = entriesByFile.computeIfAbsent(file, _ -> new ArrayList<>());
+            linkingEntries.stream()
+                          .filter(entry -> !entriesOfFile.contains(entry))
+                          .forEach(entriesOfFile::add);
+            linkedFiles.add(file);
         }
+        return linkedFiles;
     }
 }
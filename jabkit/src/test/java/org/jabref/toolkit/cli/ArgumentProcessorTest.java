@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -65,6 +66,38 @@ class ArgumentProcessorTest extends AbstractJabKitTest {
         BibEntryAssert.assertEquals(expectedEntries, outputBib, bibtexImporter);
     }
 
+    @Test
+    void streamBibtexFileWritesAllEntriesInOrder(@TempDir Path tempDir) throws IOException {
+        Path originBib = getClassResourceAsPath("origin.bib");
+        Path outputBib = tempDir.resolve("output.bib");
+
+        assertTrue(ArgumentProcessor.streamBibtexFile(preferences, entryTypesManager, originBib, outputBib, true));
+
+        BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+        List<String> keys = bibtexImporter.importDatabase(outputBib).getDatabase().getEntries().stream()
+                                          .map(entry -> entry.getCitationKey().orElse(""))
+                                          .toList();
+        assertEquals(List.of("Newton1999", "Darwin1888", "Einstein1920"), keys);
+    }
+
+    @Test
+    void streamBibtexFileDeclinesCrossReferences(@TempDir Path tempDir) throws IOException {
+        Path inputBib = tempDir.resolve("input.bib");
+        Files.writeString(inputBib, """
+                @InBook{part,
+                  crossref = {whole},
+                }
+
+                @Book{whole,
+                  title = {Whole},
+                }
+                """);
+        Path outputBib = tempDir.resolve("output.bib");
+
+        assertFalse(ArgumentProcessor.streamBibtexFile(preferences, entryTypesManager, inputBib, outputBib, true));
+        assertFalse(Files.exists(outputBib));
+    }
+
     @Test
     void convertBibtexToTableRefsAsBib(@TempDir Path tempDir) throws URISyntaxException {
         Path originBib = getClassResourceAsPath("origin.bib");
@@ -53,6 +53,21 @@ public class ConvertTest extends AbstractJabKitTest {
         assertTrue(Files.readString(outputPath).contains("Darwin1888"));
     }
 
+    @Test
+    void bibFileWithoutInputFormatIsConverted(@TempDir Path tempDir) throws IOException {
+        Path origin = getClassResourceAsPath("origin.bib").toAbsolutePath();
+        Path newPath = tempDir.resolve("origin.bib");
+        Files.copy(origin, newPath);
+        Path outputPath = tempDir.resolve("output.bib");
+
+        commandLine.execute("convert",
+                "--input=" + newPath,
+                "--output-format=bibtex",
+                "--output=" + outputPath);
+
+        assertTrue(Files.readString(outputPath).contains("Darwin1888"));
+    }
+
     @Test
     void wrongOutputFormatFails(@TempDir Path tempDir) throws IOException {
         Path origin = getClassResourceAsPath("origin.bib").toAbsolutePath();
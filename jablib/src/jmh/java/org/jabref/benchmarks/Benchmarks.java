@@ -3,8 +3,10 @@ package org.jabref.benchmarks;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -19,6 +21,7 @@ import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.util.strings.StringPool;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -32,11 +35,13 @@ import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.mockito.Answers;
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -46,39 +51,52 @@ import static org.mockito.Mockito.mock;
 @State(Scope.Thread)
 public class Benchmarks {
 
+    private static final int NUMBER_OF_ENTRIES = 1000;
+
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private final StringPool sharedStringPool = new StringPool();
 
     @Setup
     public void init() throws IOException {
         Injector.setModelOrService(CliPreferences.class, JabRefCliPreferences.getInstance());
 
         Random randomizer = new Random();
-        for (int i = 0; i < 1000; i++) {
-            BibEntry entry = new BibEntry();
-            entry.setCitationKey("id" + i);
-            entry.setField(StandardField.TITLE, "This is my title " + i);
-            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
-            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
-            entry.setField(StandardField.KEYWORDS, "testkeyword");
-            entry.setField(StandardField.YEAR, "1" + i);
-            entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
-            database.insertEntry(entry);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            database.insertEntry(createEntry(i, randomizer));
         }
 
         bibtexString = getOutputWriter().toString();
+        new BibtexParser(Injector.instantiateModelOrService(CliPreferences.class).getImportFormatPreferences(), new DummyFileUpdateMonitor(), sharedStringPool)
+                .parse(new StringReader(bibtexString));
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
     }
 
+    private static BibEntry createEntry(int i, Random randomizer) {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("id" + i);
+        entry.setField(StandardField.TITLE, "This is my title " + i);
+        entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+        entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+        entry.setField(StandardField.KEYWORDS, "testkeyword");
+        entry.setField(StandardField.YEAR, "1" + i);
+        entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
+        return entry;
+    }
+
     private StringWriter getOutputWriter() throws IOException {
+        return getOutputWriter(database, false, ForkJoinPool.commonPool());
+    }
+
+    private static StringWriter getOutputWriter(BibDatabase database, boolean reformat, ForkJoinPool workerPool) throws IOException {
         StringWriter outputWriter = new StringWriter();
         BibWriter bibWriter = new BibWriter(outputWriter, OS.NEWLINE);
-        SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+        SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, reformat);
         FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
         CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS);
 
@@ -88,6 +106,7 @@ public class Benchmarks {
                 fieldPreferences,
                 citationKeyPatternPreferences,
                 new BibEntryTypesManager());
+        databaseWriter.setWorkerPool(workerPool);
         databaseWriter.writePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
         return outputWriter;
     }
@@ -99,11 +118,32 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    /// Parsing a library once more with the pool of an earlier parse run, as done when opening several libraries in a session.
+    /// Run with `-prof gc` to compare the allocation rate with [#parse()].
+    @Benchmark
+    public ParserResult parseWithSharedStringPool() throws IOException {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor(), sharedStringPool);
+        return parser.parse(new StringReader(bibtexString));
+    }
+
     @Benchmark
     public String write() throws IOException {
         return getOutputWriter().toString();
     }
 
+    /// Writes a library reformatting all entries one after another in the calling thread.
+    /// Compare with [#writeReformattedInParallel(LargeLibrary)] for the different library sizes.
+    @Benchmark
+    public String writeReformatted(LargeLibrary library) throws IOException {
+        return getOutputWriter(library.database, true, null).toString();
+    }
+
+    @Benchmark
+    public String writeReformattedInParallel(LargeLibrary library) throws IOException {
+        return getOutputWriter(library.database, true, ForkJoinPool.commonPool()).toString();
+    }
+
     @Benchmark
     public List<BibEntry> search() {
         // TODO: Create Benchmark for LuceneSearch
@@ -116,6 +156,37 @@ public class Benchmarks {
         return List.of();
     }
 
+    /// Measures the heap footprint of entries.
+    ///
+    /// Run with `-prof gc`: `gc.alloc.rate.norm` divided by the number of entries (1000) gives the bytes allocated per entry.
+    /// For the retained size per entry, run this class with the argument `footprint` (see [#main(String[])]).
+    @Benchmark
+    public List<BibEntry> entryFootprint() {
+        Random randomizer = new Random(0);
+        List<BibEntry> entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(createEntry(i, randomizer));
+        }
+        return entries;
+    }
+
+    /// Prints the retained heap per entry of a library with the given number of entries
+    public static void measureRetainedEntryFootprint(int numberOfEntries) {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+
+        Random randomizer = new Random(0);
+        BibDatabase library = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            library.insertEntry(createEntry(i, randomizer));
+        }
+
+        System.gc();
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("Retained heap per entry: %d bytes (%d entries)%n", (after - before) / numberOfEntries, library.getEntryCount());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -145,7 +216,30 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    /// Libraries of different sizes for the benchmarks writing large libraries
+    @State(Scope.Benchmark)
+    public static class LargeLibrary {
+
+        @Param({"1000", "10000", "100000"})
+        public int numberOfEntries;
+
+        private final BibDatabase database = new BibDatabase();
+
+        @Setup
+        public void init() {
+            Random randomizer = new Random(0);
+            for (int i = 0; i < numberOfEntries; i++) {
+                database.insertEntry(createEntry(i, randomizer));
+            }
+        }
+    }
+
+    /// Runs the JMH benchmarks. `footprint [numberOfEntries]` measures the retained heap per entry instead (default: 100 000 entries).
     public static void main(String[] args) throws IOException {
+        if ((args.length > 0) && "footprint".equals(args[0])) {
+            measureRetainedEntryFootprint(args.length > 1 ? Integer.parseInt(args[1]) : 100_000);
+            return;
+        }
         Main.main(args);
     }
 }
@@ -0,0 +1,134 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.LinkedFilesConstants;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/// Measures the latency of searching the linked files index while the index is rebuilt in the background.
+/// `indexing = false` is the baseline.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LinkedFilesIndexBenchmarks {
+
+    @Param({"false", "true"})
+    public boolean indexing;
+
+    @Param({"200"})
+    public int numberOfFiles;
+
+    private Path pdfDirectory;
+    private BibDatabaseContext databaseContext;
+    private DefaultLinkedFilesIndexer indexer;
+    private Thread indexingThread;
+    private BackgroundTask<Void> indexingTask;
+
+    @Setup
+    public void init() throws IOException {
+        pdfDirectory = Files.createTempDirectory("jabref-benchmark-pdfs");
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < numberOfFiles; i++) {
+            Path pdfFile = pdfDirectory.resolve("paper" + i + ".pdf");
+            try (PDDocument document = new PDDocument()) {
+                for (int page = 0; page < 5; page++) {
+                    PDPage pdPage = new PDPage();
+                    document.addPage(pdPage);
+                    try (PDPageContentStream contentStream = new PDPageContentStream(document, pdPage)) {
+                        contentStream.beginText();
+                        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                        contentStream.newLineAtOffset(25, 500);
+                        contentStream.showText("Paper " + i + " page " + page + " about evolution, natural selection and benchmarks");
+                        contentStream.endText();
+                    }
+                }
+                document.save(pdfFile.toFile());
+            }
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("paper" + i)
+                    .withFiles(List.of(new LinkedFile("", pdfFile.toAbsolutePath(), StandardFileType.PDF.getName()))));
+        }
+
+        // An unsaved library gets an index of its own, which is deleted when the index is closed
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(entries);
+        indexer = new DefaultLinkedFilesIndexer(databaseContext, JabRefCliPreferences.getInstance().getFilePreferences());
+        indexer.rebuildIndex(BackgroundTask.wrap(() -> {
+        }));
+        indexer.getSearcherManager().maybeRefreshBlocking();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIndexing() {
+        if (!indexing) {
+            return;
+        }
+        BackgroundTask<Void> task = BackgroundTask.wrap(() -> {
+        });
+        indexingTask = task;
+        indexingThread = new Thread(() -> {
+            while (!task.isCancelled()) {
+                indexer.rebuildIndex(task);
+            }
+        });
+        indexingThread.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopIndexing() throws InterruptedException {
+        if (indexingThread != null) {
+            indexingTask.cancel();
+            indexingThread.join();
+            indexingThread = null;
+        }
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        indexer.closeAndWait();
+        FileUtils.deleteDirectory(pdfDirectory.toFile());
+    }
+
+    @Benchmark
+    public TopDocs search() throws IOException {
+        IndexSearcher searcher = indexer.acquireSearcher();
+        try {
+            return searcher.search(new TermQuery(new Term(LinkedFilesConstants.CONTENT.toString(), "paper")), 10);
+        } finally {
+            indexer.getSearcherManager().release(searcher);
+        }
+    }
+}
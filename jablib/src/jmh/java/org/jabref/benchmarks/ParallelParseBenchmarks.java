@@ -0,0 +1,68 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/// Measures how parsing a large library scales with the number of threads.
+/// [#parseSequentially()] is the baseline.
+@State(Scope.Benchmark)
+public class ParallelParseBenchmarks {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"100000"})
+    public int numberOfEntries;
+
+    private String bibtexString;
+    private ImportFormatPreferences importFormatPreferences;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void init() {
+        importFormatPreferences = JabRefCliPreferences.getInstance().getImportFormatPreferences();
+        pool = new ForkJoinPool(parallelism);
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("@String{acm = {Association for Computing Machinery}}\n\n");
+        for (int i = 0; i < numberOfEntries; i++) {
+            builder.append("@Article{key").append(i).append(",\n")
+                   .append("  author    = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i).append("},\n")
+                   .append("  title     = {This is my {Title} ").append(i).append("},\n")
+                   .append("  journal   = {Journal Title ").append(i % 100).append("},\n")
+                   .append("  publisher = acm,\n")
+                   .append("  year      = ").append(1950 + (i % 75)).append(",\n")
+                   .append("  keywords  = {testkeyword, other keyword},\n")
+                   .append("}\n\n");
+        }
+        bibtexString = builder.toString();
+    }
+
+    @TearDown
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ParserResult parseSequentially() throws IOException {
+        return new BibtexParser(importFormatPreferences).parse(new StringReader(bibtexString));
+    }
+
+    @Benchmark
+    public ParserResult parseInParallel() throws IOException {
+        return new BibtexParser(importFormatPreferences).parseInParallel(new StringReader(bibtexString), pool);
+    }
+}
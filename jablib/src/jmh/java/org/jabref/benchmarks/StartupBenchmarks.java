@@ -0,0 +1,104 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jabref.logic.citationstyle.CSLStyleLoader;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationPreferences;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.protectedterms.ProtectedTermsLoader;
+import org.jabref.logic.protectedterms.ProtectedTermsPreferences;
+import org.jabref.logic.search.DatabaseSearcher;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupOrchestrator;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/// Measures the startup phases which are independent of the JavaFX toolkit.
+///
+/// - Time to first window: the services which have to be loaded before the main window can be shown.
+///   [#loadServicesSequentially()] is the baseline for [#loadServicesConcurrently()].
+/// - Time to first search: starting the search server, indexing a library and running the first query.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class StartupBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 1000;
+
+    private JabRefCliPreferences preferences;
+    private JournalAbbreviationPreferences journalAbbreviationPreferences;
+    private ProtectedTermsPreferences protectedTermsPreferences;
+    private BibDatabaseContext databaseContext;
+    private PostgreServer postgreServer;
+
+    @Setup
+    public void init() {
+        preferences = JabRefCliPreferences.getInstance();
+        journalAbbreviationPreferences = preferences.getJournalAbbreviationPreferences();
+        protectedTermsPreferences = preferences.getProtectedTermsPreferences();
+
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA" + i)
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 75))));
+        }
+        databaseContext = new BibDatabaseContext(database);
+    }
+
+    @Setup(Level.Invocation)
+    public void createPostgreServer() {
+        postgreServer = new PostgreServer();
+    }
+
+    @TearDown(Level.Invocation)
+    public void shutdownPostgreServer() {
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    public Object loadServicesSequentially() {
+        JournalAbbreviationRepository repository = JournalAbbreviationLoader.loadRepository(journalAbbreviationPreferences);
+        ProtectedTermsLoader protectedTermsLoader = new ProtectedTermsLoader(protectedTermsPreferences);
+        CSLStyleLoader.loadInternalStyles();
+        return List.of(repository, protectedTermsLoader);
+    }
+
+    @Benchmark
+    public Object loadServicesConcurrently() {
+        StartupOrchestrator startup = new StartupOrchestrator(HeadlessExecutorService.INSTANCE);
+        CompletableFuture<JournalAbbreviationRepository> repository = startup.startPhase("Journal abbreviations",
+                () -> JournalAbbreviationLoader.loadRepository(journalAbbreviationPreferences));
+        CompletableFuture<ProtectedTermsLoader> protectedTermsLoader = startup.startPhase("Protected terms",
+                () -> new ProtectedTermsLoader(protectedTermsPreferences));
+        startup.startPhase("Citation styles", CSLStyleLoader::loadInternalStyles);
+        startup.awaitStartedPhases();
+        return List.of(repository.join(), protectedTermsLoader.join());
+    }
+
+    @Benchmark
+    public List<BibEntry> timeToFirstSearch() throws IOException {
+        return new DatabaseSearcher(databaseContext, new CurrentThreadTaskExecutor(), preferences, postgreServer)
+                .getMatches(new SearchQuery("title = \"title 42\""));
+    }
+}
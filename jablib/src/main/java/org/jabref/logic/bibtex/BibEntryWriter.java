@@ -68,7 +68,10 @@ public class BibEntryWriter {
     public void write(BibEntry entry, BibWriter out, BibDatabaseMode bibDatabaseMode, boolean reformat) throws IOException {
         // if the entry has not been modified, write it as it was
         if (!reformat && !entry.hasChanged()) {
-            out.write(entry.getParsedSerialization());
+            out.writeUnchanged(entry.getParsedSerialization(),
+                    entry.getParsedSerializationPosition(),
+                    entry.getParsedSerializationBytePosition(),
+                    entry.getParsedSerializationFileVersion());
             out.finishBlock();
             return;
         }
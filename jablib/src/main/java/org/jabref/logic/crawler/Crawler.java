@@ -2,7 +2,6 @@ package org.jabref.logic.crawler;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.exporter.SaveException;
@@ -10,7 +9,6 @@ import org.jabref.logic.git.SlrGitHandler;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.study.QueryResult;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -59,16 +57,29 @@ public class Crawler {
      * <p>
      * The whole process works as follows:
      * <ol>
-     *     <li>Then the search is executed</li>
      *     <li>The repository changes to the search branch</li>
-     *     <li>Afterwards, the results are persisted on the search branch.</li>
+     *     <li>Then the search is executed. The result of each catalog is persisted on the search branch as soon as it arrives.</li>
+     *     <li>Afterwards, the aggregated results are persisted on the search branch.</li>
      *     <li>Finally, the changes are merged into the work branch</li>
      * </ol>
+     * If the crawl is interrupted, the results persisted so far are discarded and nothing is committed.
      *
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
+     * @throws JabRefException Thrown if the crawl was interrupted. The interrupted status of the thread is kept.
      */
     public void performCrawl() throws IOException, GitAPIException, SaveException, JabRefException {
-        List<QueryResult> results = studyFetcher.crawl();
-        studyRepository.persist(results);
+        studyRepository.startPersisting(studyRepository.getSearchQueryStrings());
+        try {
+            studyFetcher.crawl(studyRepository::persistFetchResult);
+        } catch (InterruptedException e) {
+            try {
+                // Restored only afterwards, as JGit's file operations fail on an interrupted thread
+                studyRepository.abortPersisting();
+            } finally {
+                Thread.currentThread().interrupt();
+            }
+            throw new JabRefException("Crawling was interrupted", e);
+        }
+        studyRepository.finishPersisting();
     }
 }
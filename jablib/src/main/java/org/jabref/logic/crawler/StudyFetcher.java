@@ -1,9 +1,20 @@
 package org.jabref.logic.crawler;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
+import org.jabref.logic.exporter.SaveException;
+import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.SearchBasedFetcher;
@@ -18,62 +29,176 @@ import org.slf4j.LoggerFactory;
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * Each (query, E-Library) pair and each page of a paged fetcher is fetched on its own virtual thread.
+ * The number of concurrent requests to a single E-Library is limited, and failed requests are retried with exponential backoff.
  */
 class StudyFetcher {
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_CATALOG = 2;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(2);
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final int maxConcurrentRequestsPerCatalog;
+    private final Duration initialBackoff;
+
+    /**
+     * Receives the result of one E-Library for one query. Is called on the crawling thread in the order of the queries and the fetchers.
+     */
+    @FunctionalInterface
+    interface FetchResultConsumer {
+        void accept(String query, FetchResult fetchResult) throws IOException, SaveException;
+    }
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_CATALOG, DEFAULT_INITIAL_BACKOFF);
+    }
+
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers,
+                 List<String> searchQueries,
+                 int maxConcurrentRequestsPerCatalog,
+                 Duration initialBackoff) throws IllegalArgumentException {
+        if (maxConcurrentRequestsPerCatalog < 1) {
+            throw new IllegalArgumentException("At least one request per catalog has to be allowed");
+        }
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.maxConcurrentRequestsPerCatalog = maxConcurrentRequestsPerCatalog;
+        this.initialBackoff = initialBackoff;
     }
 
     /**
      * Each Map Entry contains the results for one search term for all libraries.
      * Each entry of the internal map contains the results for a given library.
      * If any library API is not available, its corresponding entry is missing from the internal map.
+     *
+     * @throws InterruptedException if the crawl was interrupted before all results were available
      */
-    public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .toList();
-    }
+    public List<QueryResult> crawl() throws InterruptedException {
+        Map<String, List<FetchResult>> results = new LinkedHashMap<>();
+        searchQueries.forEach(query -> results.put(query, new ArrayList<>()));
+        try {
+            crawl((query, fetchResult) -> results.get(query).add(fetchResult));
+        } catch (IOException | SaveException e) {
+            // Cannot happen, the consumer does not do any I/O
+            throw new IllegalStateException(e);
+        }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+        return results.entrySet().stream()
+                      .map(result -> new QueryResult(result.getKey(), result.getValue()))
+                      .toList();
     }
 
     /**
-     * Queries all catalogs on the given searchQuery.
+     * Queries all catalogs on all queries concurrently and hands over the results to the consumer on the calling thread.
+     * The results are handed over in the order of the queries and, for each query, in the order of the catalogs, so that the
+     * persisted results do not depend on which catalog answers first. Returns after all results have been consumed.
+     * <p>
+     * If the calling thread is interrupted, the remaining requests are cancelled and no further results are handed over.
      *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * @throws IOException          if the consumer failed to persist a result
+     * @throws SaveException        if the consumer failed to persist a result
+     * @throws InterruptedException if the crawl was interrupted
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .toList();
+    public void crawl(FetchResultConsumer resultConsumer) throws IOException, SaveException, InterruptedException {
+        Map<String, Semaphore> permitsPerCatalog = new HashMap<>();
+        activeFetchers.forEach(fetcher -> permitsPerCatalog.put(fetcher.getName(), new Semaphore(maxConcurrentRequestsPerCatalog)));
+
+        // Not closed using try-with-resources: page requests are submitted by the running tasks, thus the executor must not be shut down before all tasks are done
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<PendingResult> pendingResults = new ArrayList<>();
+            for (String searchQuery : searchQueries) {
+                for (SearchBasedFetcher fetcher : activeFetchers) {
+                    Semaphore permits = permitsPerCatalog.get(fetcher.getName());
+                    pendingResults.add(new PendingResult(searchQuery,
+                            executor.submit(() -> performSearchOnQueryForFetcher(searchQuery, fetcher, permits, executor))));
+                }
+            }
+
+            for (PendingResult pendingResult : pendingResults) {
+                FetchResult fetchResult = pendingResult.fetchResult().get();
+                if (fetchResult != null) {
+                    resultConsumer.accept(pendingResult.query(), fetchResult);
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // In case of a failure, the remaining requests are not needed anymore
+            executor.shutdownNow();
+        }
     }
 
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
+    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher, Semaphore permits, ExecutorService executor) throws InterruptedException {
         try {
             List<BibEntry> fetchResult = new ArrayList<>();
             if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
                 int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / basedFetcher.getPageSize());
+                List<Future<List<BibEntry>>> pageResults = new ArrayList<>(pages);
                 for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(basedFetcher.performSearchPaged(searchQuery, page).getContent());
+                    int pageNumber = page;
+                    pageResults.add(executor.submit(() -> withRetries(fetcher, permits, () -> basedFetcher.performSearchPaged(searchQuery, pageNumber).getContent())));
+                }
+                // Keep the order of the pages
+                for (Future<List<BibEntry>> pageResult : pageResults) {
+                    fetchResult.addAll(pageResult.get());
                 }
             } else {
-                fetchResult = fetcher.performSearch(searchQuery);
+                fetchResult = withRetries(fetcher, permits, () -> fetcher.performSearch(searchQuery));
             }
             return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
         } catch (FetcherException e) {
             LOGGER.warn("{} API request failed", fetcher.getName(), e);
             return null;
+        } catch (ExecutionException e) {
+            LOGGER.warn("{} API request failed", fetcher.getName(), e.getCause());
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FetcherCall<T> {
+        T call() throws FetcherException;
+    }
+
+    private <T> T withRetries(SearchBasedFetcher fetcher, Semaphore permits, FetcherCall<T> fetcherCall) throws FetcherException, InterruptedException {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            permits.acquire();
+            try {
+                return fetcherCall.call();
+            } catch (FetcherException e) {
+                if ((attempt >= MAX_ATTEMPTS) || !isTransient(e)) {
+                    throw e;
+                }
+                LOGGER.debug("{} API request failed (attempt {} of {}), retrying in {}", fetcher.getName(), attempt, MAX_ATTEMPTS, backoff, e);
+            } finally {
+                permits.release();
+            }
+            Thread.sleep(backoff);
+            backoff = backoff.multipliedBy(2);
         }
     }
+
+    /**
+     * Client errors (4xx) will not go away by retrying - except for being rate limited.
+     */
+    private static boolean isTransient(FetcherException e) {
+        if (e instanceof FetcherClientException) {
+            return e.getHttpResponse().map(response -> response.statusCode() == HTTP_TOO_MANY_REQUESTS).orElse(false);
+        }
+        return true;
+    }
+
+    private record PendingResult(String query, Future<FetchResult> fetchResult) {
+    }
 }
@@ -7,7 +7,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -70,6 +74,14 @@ public class StudyRepository {
     private final CliPreferences preferences;
     private final FileUpdateMonitor fileUpdateMonitor;
     private final BibEntryTypesManager bibEntryTypesManager;
+    private final DatabaseMerger merger;
+
+    /**
+     * New entries per query received since {@link #startPersisting(List)}
+     */
+    private final Map<String, BibDatabase> newQueryResultEntries = new LinkedHashMap<>();
+    // The result files written since startPersisting, reverted by abortPersisting
+    private final Set<Path> writtenResultFiles = new LinkedHashSet<>();
 
     /**
      * Creates a study repository.
@@ -92,6 +104,7 @@ public class StudyRepository {
         this.fileUpdateMonitor = fileUpdateMonitor;
         this.studyDefinitionFile = Path.of(repositoryPath.toString(), STUDY_DEFINITION_FILE_NAME);
         this.bibEntryTypesManager = bibEntryTypesManager;
+        this.merger = new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator());
 
         if (Files.notExists(repositoryPath)) {
             throw new IOException("The given repository does not exists.");
@@ -220,14 +233,79 @@ public class StudyRepository {
      * </ol>
      */
     public void persist(List<QueryResult> crawlResults) throws IOException, GitAPIException, SaveException, JabRefException {
-        updateWorkAndSearchBranch();
+        startPersisting(crawlResults.stream().map(QueryResult::getQuery).toList());
+        for (QueryResult result : crawlResults) {
+            for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
+                persistFetchResult(result.getQuery(), fetcherResult);
+            }
+        }
+        finishPersisting();
+    }
 
+    /**
+     * Prepares the repository for receiving results using {@link #persistFetchResult(String, FetchResult)}:
+     * Updates the work and search branch and checks out the search branch.
+     * <p>
+     * Precondition: Currently checking out work branch
+     *
+     * @param queries the queries the results are persisted for. Their result files are written even if no fetcher delivers a result.
+     */
+    public synchronized void startPersisting(List<String> queries) throws IOException, GitAPIException {
+        updateWorkAndSearchBranch();
         gitHandler.checkoutBranch(SEARCH_BRANCH);
-        persistResults(crawlResults);
+        newQueryResultEntries.clear();
+        writtenResultFiles.clear();
+        queries.forEach(query -> newQueryResultEntries.put(query, new BibDatabase()));
+    }
+
+    /**
+     * Persists the result of a single fetcher for a single query into its fetcher result file.
+     * This allows writing results while the crawl is still running.
+     * <p>
+     * Precondition: {@link #startPersisting(List)} was called
+     */
+    public synchronized void persistFetchResult(String query, FetchResult fetcherResult) throws IOException, SaveException {
+        BibDatabase fetcherEntries = fetcherResult.getFetchResult();
+        BibDatabaseContext existingFetcherResult = getFetcherResultEntries(query, fetcherResult.getFetcherName());
+
+        // Merge new entries into fetcher result file
+        merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
+
+        // Create citation keys for all entries that do not have one
+        generateCiteKeys(existingFetcherResult, fetcherEntries);
+
+        // Aggregate each fetcher result into the query result
+        merger.merge(newQueryResultEntries.computeIfAbsent(query, _ -> new BibDatabase()), fetcherEntries);
+
+        writeResultToFile(getPathToFetcherResultFile(query, fetcherResult.getFetcherName()), existingFetcherResult);
+    }
+
+    /**
+     * Discards all results persisted since {@link #startPersisting(List)} without committing them and checks out the work branch again.
+     * Only the result files written by this repository are reverted; other changes in the study directory are kept.
+     * <p>
+     * Precondition: {@link #startPersisting(List)} was called
+     */
+    public synchronized void abortPersisting() throws IOException, GitAPIException {
+        newQueryResultEntries.clear();
+        gitHandler.revertFiles(List.copyOf(writtenResultFiles));
+        writtenResultFiles.clear();
+        gitHandler.checkoutBranch(WORK_BRANCH);
+    }
+
+    /**
+     * Writes the aggregated query and study result files, commits them on the search branch, and patches them onto the work branch.
+     * See {@link #persist(List)} for details.
+     * <p>
+     * Precondition: {@link #startPersisting(List)} was called
+     */
+    public synchronized void finishPersisting() throws IOException, GitAPIException, SaveException {
+        persistQueryAndStudyResults();
         try {
             // First commit changes to search branch and update remote
             String commitMessage = "Conducted search: " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
             boolean newSearchResults = gitHandler.createCommitOnCurrentBranch(commitMessage, false);
+            writtenResultFiles.clear();
             gitHandler.checkoutBranch(WORK_BRANCH);
             if (!newSearchResults) {
                 return;
@@ -380,40 +458,25 @@ public class StudyRepository {
     }
 
     /**
-     * Persists the crawling results in the local file based repository.
-     *
-     * @param crawlResults The results that shall be persisted.
+     * Merges the results collected by {@link #persistFetchResult(String, FetchResult)} into the query result files and the study result file.
      */
-    private void persistResults(List<QueryResult> crawlResults) throws IOException, SaveException {
-        DatabaseMerger merger = new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator());
+    private void persistQueryAndStudyResults() throws IOException, SaveException {
         BibDatabase newStudyResultEntries = new BibDatabase();
 
-        for (QueryResult result : crawlResults) {
-            BibDatabase queryResultEntries = new BibDatabase();
-            for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
-                BibDatabase fetcherEntries = fetcherResult.getFetchResult();
-                BibDatabaseContext existingFetcherResult = getFetcherResultEntries(result.getQuery(), fetcherResult.getFetcherName());
-
-                // Merge new entries into fetcher result file
-                merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
-
-                // Create citation keys for all entries that do not have one
-                generateCiteKeys(existingFetcherResult, fetcherEntries);
-
-                // Aggregate each fetcher result into the query result
-                merger.merge(queryResultEntries, fetcherEntries);
-
-                writeResultToFile(getPathToFetcherResultFile(result.getQuery(), fetcherResult.getFetcherName()), existingFetcherResult);
-            }
-            BibDatabaseContext existingQueryEntries = getQueryResultEntries(result.getQuery());
+        for (Map.Entry<String, BibDatabase> newQueryResult : newQueryResultEntries.entrySet()) {
+            String query = newQueryResult.getKey();
+            BibDatabase queryResultEntries = newQueryResult.getValue();
+            BibDatabaseContext existingQueryEntries = getQueryResultEntries(query);
 
             // Merge new entries into query result file
             merger.merge(existingQueryEntries.getDatabase(), queryResultEntries);
             // Aggregate all new entries for every query into the study result
             merger.merge(newStudyResultEntries, queryResultEntries);
 
-            writeResultToFile(getPathToQueryResultFile(result.getQuery()), existingQueryEntries);
+            writeResultToFile(getPathToQueryResultFile(query), existingQueryEntries);
         }
+        newQueryResultEntries.clear();
+
         BibDatabaseContext existingStudyResultEntries = getStudyResultEntries();
 
         // Merge new entries into study result file
@@ -429,6 +492,7 @@ public class StudyRepository {
     }
 
     private void writeResultToFile(Path pathToFile, BibDatabaseContext context) throws SaveException {
+        writtenResultFiles.add(pathToFile);
         try (AtomicFileWriter fileWriter = new AtomicFileWriter(pathToFile, StandardCharsets.UTF_8)) {
             SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
                     .withSaveOrder(context.getMetaData().getSaveOrder().map(SelfContainedSaveOrder::of).orElse(SaveOrder.getDefaultSaveOrder()))
@@ -4,8 +4,11 @@ import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -80,7 +83,8 @@ public class AtomicFileOutputStream extends FilterOutputStream {
      */
     public AtomicFileOutputStream(Path path, boolean keepBackup) throws IOException {
         // Files.newOutputStream(getPathOfTemporaryFile(path)) leads to a "sun.nio.ch.ChannelOutputStream", which does not offer "lock"
-        this(path, getPathOfTemporaryFile(path), Files.newOutputStream(getPathOfTemporaryFile(path)), keepBackup);
+        // A FileOutputStream offers its FileChannel, which is also required for zero-copy transfers (see transferFrom)
+        this(path, getPathOfTemporaryFile(path), new FileOutputStream(getPathOfTemporaryFile(path).toFile()), keepBackup);
     }
 
     /**
@@ -150,6 +154,30 @@ public class AtomicFileOutputStream extends FilterOutputStream {
         }
     }
 
+    /**
+     * Copies the given bytes of the source directly to the temporary file. If the temporary file is written using a
+     * {@link FileOutputStream} (the default), the bytes are transferred between the file channels without passing them
+     * through the JVM heap if the platform supports it.
+     */
+    public void transferFrom(FileChannel source, long position, long count) throws IOException {
+        try {
+            out.flush();
+            WritableByteChannel target = (out instanceof FileOutputStream stream) ? stream.getChannel() : Channels.newChannel(out);
+            long transferred = 0;
+            while (transferred < count) {
+                long bytes = source.transferTo(position + transferred, count - transferred, target);
+                if (bytes <= 0) {
+                    throw new IOException("Source file ended before position " + (position + count));
+                }
+                transferred += bytes;
+            }
+        } catch (IOException exception) {
+            cleanup();
+            errorDuringWrite = true;
+            throw exception;
+        }
+    }
+
     /**
      * Closes the write process to the temporary file but does not commit to the target file.
      */
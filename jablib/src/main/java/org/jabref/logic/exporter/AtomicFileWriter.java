@@ -2,12 +2,24 @@ package org.jabref.logic.exporter;
 
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Writer that similar to the built-in {@link java.io.FileWriter} but uses the {@link AtomicFileOutputStream} as the
@@ -15,24 +27,54 @@ import java.util.TreeSet;
  * contents of the target file.
  * Moreover, this writer checks if the chosen encoding supports all text that is written. Characters whose encoding
  * was problematic can be retrieved by {@link #getEncodingProblems()}.
+ * <p>
+ * Text which has not changed since the target file was read can be copied directly from the target file using
+ * {@link #writeFromTargetFile(String, long, long, long)}. This saves encoding the text and copying its bytes through
+ * the heap. If the text was written to the target file by this class, its byte position is known (see
+ * {@link #getBytePosition()} and {@link #getWrittenFileVersion()}). Then, the bytes are copied from that position
+ * without reading the file in front of it, as long as the file has not been modified since. Otherwise (e.g., for the
+ * first save after the file was read), the text is located by decoding the target file up to the text, because the
+ * parser counts positions in characters.
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AtomicFileWriter.class);
+
     private final CharsetEncoder encoder;
     private final Set<Character> problemCharacters = new TreeSet<>();
+    private final AtomicFileOutputStream outputStream;
+    private final Path file;
+    private final Charset encoding;
+
+    private @Nullable FileChannel targetFileChannel;
+    /// Version of the target file (see [#fileVersion(Path, Charset)]) at the time it was opened for copying
+    private long targetFileVersion;
+    private @Nullable SourceTextLocator targetFileLocator;
+    private boolean targetFileUnavailable;
+
+    /// Number of bytes of the text written so far. Only exact if [#encodesCharactersIndependently(Charset)].
+    private long writtenBytes;
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
         this(file, encoding, false);
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
+        this(new AtomicFileOutputStream(file, keepBackup), file, encoding);
+    }
+
+    private AtomicFileWriter(AtomicFileOutputStream outputStream, Path file, Charset encoding) {
+        super(outputStream, encoding);
+        this.outputStream = outputStream;
+        this.file = file;
+        this.encoding = encoding;
         encoder = encoding.newEncoder();
     }
 
     @Override
     public void write(String str) throws IOException {
         super.write(str);
+        writtenBytes += encodedLength(str);
         if (!encoder.canEncode(str)) {
             for (int i = 0; i < str.length(); i++) {
                 char character = str.charAt(i);
@@ -43,6 +85,147 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    /**
+     * Writes the given text by copying its bytes from the current content of the target file (i.e., the file to be
+     * replaced).
+     * <p>
+     * If the target file is still the version with the given version number (see {@link #getWrittenFileVersion()}), the
+     * bytes are copied from the given byte position directly. Otherwise, the text is only copied if the target file
+     * contains exactly this text at the given character position. As the target file is decoded from the start to the
+     * end for that, texts have to be written in ascending order of their position.
+     * <p>
+     * This is only supported for encodings which encode each character independently (e.g., UTF-8 or ISO-8859-1).
+     * Otherwise, nothing is written and {@code false} is returned.
+     *
+     * @param text         the text to write
+     * @param position     the position of the text in the target file, counted in characters
+     * @param bytePosition the position of the text in the given version of the target file, counted in bytes, -1 if unknown
+     * @param fileVersion  the version of the target file the byte position refers to
+     * @return {@code true} if the text was written, {@code false} if the target file does not contain the text at the given position and nothing was written
+     */
+    public boolean writeFromTargetFile(String text, long position, long bytePosition, long fileVersion) throws IOException {
+        if (!openTargetFile() || (targetFileChannel == null) || (targetFileLocator == null)) {
+            return false;
+        }
+        if ((bytePosition >= 0) && (fileVersion == targetFileVersion)) {
+            long count = encodedLength(text);
+            if (bytePosition + count <= targetFileChannel.size()) {
+                transferFromTargetFile(targetFileChannel, bytePosition, count);
+                return true;
+            }
+        }
+        long start = targetFileLocator.locate(text, position);
+        if (start < 0) {
+            return false;
+        }
+        transferFromTargetFile(targetFileChannel, start, targetFileLocator.getBytePosition() - start);
+        return true;
+    }
+
+    private void transferFromTargetFile(FileChannel channel, long start, long count) throws IOException {
+        // Characters written before have to be in the output stream before the copied bytes
+        flush();
+        outputStream.transferFrom(channel, start, count);
+        writtenBytes += count;
+    }
+
+    private boolean openTargetFile() {
+        if ((targetFileChannel == null) && !targetFileUnavailable) {
+            targetFileUnavailable = true;
+            if (!encodesCharactersIndependently(encoding) || !Files.isRegularFile(file)) {
+                return false;
+            }
+            try {
+                targetFileVersion = fileVersion(file, encoding);
+                targetFileChannel = FileChannel.open(file, StandardOpenOption.READ);
+                targetFileLocator = new SourceTextLocator(targetFileChannel, encoding);
+                targetFileUnavailable = false;
+            } catch (IOException e) {
+                LOGGER.debug("Could not open {} to copy unchanged text", file, e);
+            }
+        }
+        return !targetFileUnavailable;
+    }
+
+    /**
+     * @return the position (counted in bytes) of the next text written, -1 if the encoding does not allow to determine it
+     */
+    public long getBytePosition() {
+        return encodesCharactersIndependently(encoding) ? writtenBytes : -1;
+    }
+
+    /**
+     * Identifies the file written, after this writer has been closed. Byte positions determined by
+     * {@link #getBytePosition()} can be used with {@link #writeFromTargetFile(String, long, long, long)} as long as the
+     * file keeps this version.
+     */
+    public OptionalLong getWrittenFileVersion() {
+        try {
+            return OptionalLong.of(fileVersion(file, encoding));
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine the version of {}", file, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    /// The version changes whenever the file is modified (as its size or modification time changes). The encoding is
+    /// part of the version, as byte positions are determined using the encoding.
+    private static long fileVersion(Path file, Charset encoding) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return Hashing.murmur3_128().newHasher()
+                      .putString(file.toAbsolutePath().toString(), StandardCharsets.UTF_8)
+                      .putString(encoding.name(), StandardCharsets.UTF_8)
+                      .putLong(attributes.size())
+                      .putLong(attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS))
+                      .hash()
+                      .asLong();
+    }
+
+    /// @return the number of bytes the text is encoded to. Only exact if [#encodesCharactersIndependently(Charset)].
+    private long encodedLength(String text) {
+        if (!StandardCharsets.UTF_8.equals(encoding)) {
+            return text.length();
+        }
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character < 0x80) {
+                length += 1;
+            } else if (character < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character) && (i + 1 < text.length()) && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(character)) {
+                // A lone surrogate cannot be encoded and is replaced by '?'
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Encoders of other charsets may write byte order marks or shift sequences. Then, a text encoded on its own may
+     * differ from the same text within the file.
+     */
+    private static boolean encodesCharactersIndependently(Charset encoding) {
+        return StandardCharsets.UTF_8.equals(encoding) || (encoding.newEncoder().maxBytesPerChar() == 1.0f);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // The target file is replaced when the stream is closed, which may fail on some platforms if the file is open
+            if (targetFileChannel != null) {
+                targetFileChannel.close();
+            }
+        } finally {
+            super.close();
+        }
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
@@ -1,18 +1,26 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -42,6 +50,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
@@ -49,6 +58,7 @@ import org.jabref.model.metadata.SelfContainedSaveOrder;
 
 import org.jooq.lambda.Unchecked;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +78,13 @@ public class BibDatabaseWriter {
 
     private static final String STRING_PREFIX = "@String";
 
+    /// Reformatting saves of at least this number of entries serialize the entries in parallel
+    private static final int MIN_ENTRIES_FOR_PARALLEL_SERIALIZATION = 512;
+    /// The save actions are applied in parallel if they have to be applied to at least this number of entries
+    private static final int MIN_ENTRIES_FOR_PARALLEL_SAVE_ACTIONS = 256;
+    /// Maximum number of entries per thread of the pool which are serialized, but not written yet
+    private static final int SERIALIZED_ENTRIES_PER_THREAD = 16;
+
     protected final BibWriter bibWriter;
     protected final SelfContainedSaveConfiguration saveConfiguration;
     protected final CitationKeyPatternPreferences keyPatternPreferences;
@@ -75,6 +92,12 @@ public class BibDatabaseWriter {
     protected final BibEntryTypesManager entryTypesManager;
     protected final FieldPreferences fieldPreferences;
 
+    /// Unchanged entries written by [#writePartOfDatabase(BibDatabaseContext, List)] and the positions of their parsed serialization in the output
+    private final List<WrittenSerialization> writtenSerializations = new ArrayList<>();
+
+    private @Nullable ForkJoinPool workerPool = ForkJoinPool.commonPool();
+    private @Nullable DirtyEntriesTracker dirtyEntriesTracker;
+
     public BibDatabaseWriter(@NonNull BibWriter bibWriter,
                              SelfContainedSaveConfiguration saveConfiguration,
                              FieldPreferences fieldPreferences,
@@ -132,6 +155,51 @@ public class BibDatabaseWriter {
         return applySaveActions(List.of(entry), metaData, fieldPreferences);
     }
 
+    /// Applies the save actions to the given entries or, if a [DirtyEntriesTracker] is set, to the dirty ones only
+    ///
+    /// @return the changes in the order of the entries
+    private List<FieldChange> applySaveActions(List<BibEntry> entries, MetaData metaData) {
+        Optional<FieldFormatterCleanups> saveActions = metaData.getSaveActions();
+        List<BibEntry> toChange = dirtyEntriesTracker == null ? entries : dirtyEntriesTracker.getDirtyEntries(entries, saveActions);
+
+        List<FieldChange> changes;
+        boolean saveActionsEnabled = saveActions.map(FieldFormatterCleanups::isEnabled).orElse(false);
+        if (saveActionsEnabled && (workerPool != null) && (toChange.size() >= MIN_ENTRIES_FOR_PARALLEL_SAVE_ACTIONS)) {
+            changes = applySaveActionsInParallel(toChange, metaData, fieldPreferences, workerPool);
+        } else {
+            changes = applySaveActions(toChange, metaData, fieldPreferences);
+        }
+
+        if (dirtyEntriesTracker != null) {
+            // Also removes the entries marked dirty by the changes of the save actions themselves
+            dirtyEntriesTracker.markClean(toChange, saveActions);
+        }
+        return changes;
+    }
+
+    /// Applies the save actions to copies of the entries in parallel. Afterward, the changes are applied to the entries
+    /// in the calling thread one entry after another. Thus, the listeners of the entries (which may change other entries)
+    /// are notified in the same way as if the save actions were applied sequentially, and the changes are in the order of
+    /// the entries.
+    private static List<FieldChange> applySaveActionsInParallel(List<BibEntry> toChange, MetaData metaData, FieldPreferences fieldPreferences, ForkJoinPool pool) {
+        List<ForkJoinTask<List<FieldChange>>> tasks = toChange.stream()
+                                                              .map(entry -> pool.submit(() -> applySaveActions(List.of(new BibEntry(entry)), metaData, fieldPreferences)))
+                                                              .toList();
+        List<List<FieldChange>> changesOfCopies = tasks.stream().map(ForkJoinTask::join).toList();
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < toChange.size(); i++) {
+            BibEntry entry = toChange.get(i);
+            for (FieldChange changeOfCopy : changesOfCopies.get(i)) {
+                Optional<FieldChange> change = changeOfCopy.getNewValue() == null
+                                               ? entry.clearField(changeOfCopy.getField())
+                                               : entry.setField(changeOfCopy.getField(), changeOfCopy.getNewValue(), EntriesEventSource.SAVE_ACTION);
+                change.ifPresent(changes::add);
+            }
+        }
+        return changes;
+    }
+
     private static List<Comparator<BibEntry>> getSaveComparators(SaveOrder saveOrder) {
         List<Comparator<BibEntry>> comparators = new ArrayList<>();
 
@@ -169,6 +237,18 @@ public class BibDatabaseWriter {
         return sorted;
     }
 
+    /// Sets the pool used to apply the save actions and to serialize the entries in parallel (see [#writePartOfDatabase(BibDatabaseContext, List)]).
+    /// `null` processes the entries one after another.
+    public void setWorkerPool(@Nullable ForkJoinPool workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    /// Sets the tracker of the entries changed since the save actions were applied to them.
+    /// If set, the save actions are applied to these entries only. Otherwise, they are applied to all entries written.
+    public void setDirtyEntriesTracker(@Nullable DirtyEntriesTracker dirtyEntriesTracker) {
+        this.dirtyEntriesTracker = dirtyEntriesTracker;
+    }
+
     public List<FieldChange> getSaveActionsFieldChanges() {
         return Collections.unmodifiableList(saveActionsFieldChanges);
     }
@@ -186,10 +266,96 @@ public class BibDatabaseWriter {
 
     /**
      * Saves the database, including only the specified entries.
+     * <p>
+     * The save actions of large libraries are applied in parallel and, if the file is reformatted, the entries are
+     * serialized in parallel using the {@link #setWorkerPool(ForkJoinPool) worker pool}. The output is the same.
+     * If a {@link #setDirtyEntriesTracker(DirtyEntriesTracker) dirty entries tracker} is set, the save actions are
+     * applied only to the entries changed since the save actions were applied to them the last time.
      *
      * @param entries A list of entries to save. The list itself is not modified in this code
      */
     public void writePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        writeHeader(bibDatabaseContext);
+
+        // Write database entries.
+        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
+
+        // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
+        //        The cleanup should be done before the write operation
+        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
+        saveActionsFieldChanges.addAll(saveActionChanges);
+        if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
+            List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
+            saveActionsFieldChanges.addAll(keyChanges);
+        }
+
+        // Map to collect entry type definitions that we must save along with entries using them.
+        SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+
+        if (saveConfiguration.shouldReformatFile() && (workerPool != null) && (sortedEntries.size() >= MIN_ENTRIES_FOR_PARALLEL_SERIALIZATION)) {
+            writeEntriesInParallel(sortedEntries, bibDatabaseContext, typesToWrite, workerPool);
+        } else {
+            for (BibEntry entry : sortedEntries) {
+                long position = bibWriter.getPositionOfNextText();
+                long bytePosition = bibWriter.getBytePositionOfNextText();
+                writeEntryAndCollectType(entry, bibDatabaseContext, typesToWrite);
+                if (!saveConfiguration.shouldReformatFile() && !entry.hasChanged()) {
+                    writtenSerializations.add(new WrittenSerialization(entry, position, bytePosition));
+                }
+            }
+        }
+
+        writeFooter(bibDatabaseContext, typesToWrite);
+    }
+
+    /**
+     * Sets the position of the parsed serialization of each entry written unchanged to its position in the output.
+     * Call this after the output has successfully replaced the file the library was read from. Then, the next save
+     * can copy these entries directly from the file (see {@link BibWriter#writeUnchanged(String, long, long, long)}).
+     * As long as the file is not modified, they are copied from their byte positions without reading the rest of the file.
+     */
+    public void updateParsedSerializationPositions() {
+        OptionalLong fileVersion = bibWriter.getWrittenFileVersion();
+        for (WrittenSerialization written : writtenSerializations) {
+            written.entry().setParsedSerializationPosition(written.position());
+            if (fileVersion.isPresent() && (written.bytePosition() >= 0)) {
+                written.entry().setParsedSerializationBytePosition(written.bytePosition(), fileVersion.getAsLong());
+            } else {
+                written.entry().setParsedSerializationBytePosition(-1, 0);
+            }
+        }
+        writtenSerializations.clear();
+    }
+
+    /**
+     * Saves the database with the given entries, which are written one after another in the order of the iterator.
+     * Thus, the entries do not need to be held in memory, e.g., when they are streamed from a large file.
+     * <p>
+     * The entries of the database of the context are ignored; its strings, preamble, metadata, and epilog are written.
+     * In contrast to {@link #writePartOfDatabase(BibDatabaseContext, List)}, the entries are neither sorted nor are
+     * citation keys generated, as both require all entries. Save actions are applied, but the resulting changes are not
+     * recorded in {@link #getSaveActionsFieldChanges()}.
+     */
+    public void writeDatabase(@NonNull BibDatabaseContext bibDatabaseContext, @NonNull Iterator<BibEntry> entries) throws IOException {
+        writeHeader(bibDatabaseContext);
+
+        SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+        while (entries.hasNext()) {
+            BibEntry entry = entries.next();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            applySaveActions(entry, bibDatabaseContext.getMetaData(), fieldPreferences);
+            writeEntryAndCollectType(entry, bibDatabaseContext, typesToWrite);
+        }
+
+        writeFooter(bibDatabaseContext, typesToWrite);
+    }
+
+    /**
+     * Writes everything in front of the entries: database ID, prolog, preamble, and strings
+     */
+    private void writeHeader(BibDatabaseContext bibDatabaseContext) throws IOException {
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
         sharedDatabaseIDOptional.ifPresent(Unchecked.consumer(this::writeDatabaseID));
 
@@ -206,35 +372,74 @@ public class BibDatabaseWriter {
 
         // Write strings if there are any.
         writeStrings(bibDatabaseContext.getDatabase());
+    }
 
-        // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
+    private void writeEntryAndCollectType(BibEntry entry, BibDatabaseContext bibDatabaseContext, SortedSet<BibEntryType> typesToWrite) throws IOException {
+        collectType(entry, bibDatabaseContext, typesToWrite);
+        writeEntry(entry, bibDatabaseContext.getMode());
+    }
 
-        // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
-        //        The cleanup should be done before the write operation
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData(), fieldPreferences);
-        saveActionsFieldChanges.addAll(saveActionChanges);
-        if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
-            List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
-            saveActionsFieldChanges.addAll(keyChanges);
+    private void collectType(BibEntry entry, BibDatabaseContext bibDatabaseContext, SortedSet<BibEntryType> typesToWrite) {
+        // Check if we must write the type definition for this
+        // entry, as well. Our criterion is that all non-standard
+        // types (*not* all customized standard types) must be written.
+        if (entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode())) {
+            // If user-defined entry type, then add it
+            // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
+            entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
         }
+    }
 
-        // Map to collect entry type definitions that we must save along with entries using them.
-        SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
-
-        for (BibEntry entry : sortedEntries) {
-            // Check if we must write the type definition for this
-            // entry, as well. Our criterion is that all non-standard
-            // types (*not* all customized standard types) must be written.
-            if (entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode())) {
-                // If user-defined entry type, then add it
-                // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
-                entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
+    /// Serializes the entries concurrently and writes them in the given order.
+    ///
+    /// The serialization of an entry is a pure function of the entry (the save actions are applied before), so each entry
+    /// is serialized into a buffer of its own. The buffers are written as soon as all entries in front of them are
+    /// written. To bound the memory used, only a sliding window of entries is serialized ahead of the next entry to write.
+    private void writeEntriesInParallel(List<BibEntry> entries, BibDatabaseContext bibDatabaseContext, SortedSet<BibEntryType> typesToWrite, ForkJoinPool pool) throws IOException {
+        BibDatabaseMode mode = bibDatabaseContext.getMode();
+        int windowSize = pool.getParallelism() * SERIALIZED_ENTRIES_PER_THREAD;
+        Deque<ForkJoinTask<String>> window = new ArrayDeque<>(windowSize);
+        int nextToSerialize = 0;
+        try {
+            for (BibEntry entry : entries) {
+                while ((window.size() < windowSize) && (nextToSerialize < entries.size())) {
+                    BibEntry toSerialize = entries.get(nextToSerialize++);
+                    window.addLast(pool.submit(() -> serializeEntry(toSerialize, mode)));
+                }
+                collectType(entry, bibDatabaseContext, typesToWrite);
+                bibWriter.write(getSerialization(window.removeFirst()));
+                bibWriter.finishBlock();
             }
+        } finally {
+            window.forEach(task -> task.cancel(false));
+        }
+    }
 
-            writeEntry(entry, bibDatabaseContext.getMode());
+    private String serializeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+        StringWriter writer = new StringWriter();
+        BibWriter entryWriter = new BibWriter(writer, bibWriter.getNewLineSeparator());
+        new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager).write(entry, entryWriter, mode, true);
+        return writer.toString();
+    }
+
+    private static String getSerialization(ForkJoinTask<String> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while serializing entries", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Could not serialize entry", e.getCause());
         }
+    }
 
+    /**
+     * Writes everything after the entries: metadata, type definitions, and epilog
+     */
+    private void writeFooter(BibDatabaseContext bibDatabaseContext, SortedSet<BibEntryType> typesToWrite) throws IOException {
         if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
             // Write meta data.
             writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
@@ -429,4 +634,7 @@ public class BibDatabaseWriter {
         }
         return changes;
     }
+
+    private record WrittenSerialization(BibEntry entry, long position, long bytePosition) {
+    }
 }
@@ -2,6 +2,7 @@ package org.jabref.logic.exporter;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.OptionalLong;
 
 import org.jabref.logic.util.strings.StringUtil;
 
@@ -17,6 +18,8 @@ public class BibWriter {
     private boolean somethingWasWritten = false;
     private boolean lastWriteWasNewline = false;
     private int currentPosition = 0;
+    /// Number of characters written, including the line breaks written in front of blocks
+    private long writtenCharacters = 0;
 
     /**
      * @param newLineSeparator the string used for a line break
@@ -30,17 +33,65 @@ public class BibWriter {
      * Writes the given string. The newlines of the given string are converted to the newline set for this class.
      */
     public void write(String string) throws IOException {
+        writePrecedingNewLine();
+        string = StringUtil.unifyLineBreaks(string, newLineSeparator);
+        writer.write(string);
+        wrote(string);
+    }
+
+    /**
+     * Writes the given text which is unchanged since it was read from the file at the given position (e.g., the parsed
+     * serialization of an unchanged entry). If the file is the one being replaced by the writer, the bytes of the text
+     * are copied from the file instead of encoding the text again (see {@link AtomicFileWriter#writeFromTargetFile(String, long, long, long)}).
+     * Otherwise, the text is written as by {@link #write(String)}.
+     *
+     * @param sourcePosition     the position of the text in the file read, counted in characters, -1 if unknown
+     * @param sourceBytePosition the position of the text in the given version of the file, counted in bytes, -1 if unknown
+     * @param sourceFileVersion  the version of the file the byte position refers to
+     */
+    public void writeUnchanged(String text, long sourcePosition, long sourceBytePosition, long sourceFileVersion) throws IOException {
+        if (((sourcePosition >= 0) || (sourceBytePosition >= 0)) && (writer instanceof AtomicFileWriter fileWriter) && usesOnlyNewLineSeparator(text)) {
+            writePrecedingNewLine();
+            if (fileWriter.writeFromTargetFile(text, sourcePosition, sourceBytePosition, sourceFileVersion)) {
+                wrote(text);
+                return;
+            }
+        }
+        write(text);
+    }
+
+    private void writePrecedingNewLine() throws IOException {
         if (precedingNewLineRequired) {
             writer.write(newLineSeparator);
+            writtenCharacters += newLineSeparator.length();
             precedingNewLineRequired = false;
         }
-        string = StringUtil.unifyLineBreaks(string, newLineSeparator);
-        writer.write(string);
+    }
+
+    private void wrote(String string) {
         currentPosition += string.length();
+        writtenCharacters += string.length();
         lastWriteWasNewline = string.endsWith(newLineSeparator);
         somethingWasWritten = true;
     }
 
+    /**
+     * @return {@code true} if the text would be written unmodified by {@link #write(String)}, i.e., all its line breaks are the one of this writer
+     */
+    private boolean usesOnlyNewLineSeparator(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if ((character == '\r') || (character == '\n')) {
+                int lineBreakLength = ((character == '\r') && (i + 1 < text.length()) && (text.charAt(i + 1) == '\n')) ? 2 : 1;
+                if ((lineBreakLength != newLineSeparator.length()) || !text.startsWith(newLineSeparator, i)) {
+                    return false;
+                }
+                i += lineBreakLength - 1;
+            }
+        }
+        return true;
+    }
+
     /**
      * Writes the given string and finishes it with a line break
      */
@@ -72,7 +123,36 @@ public class BibWriter {
         this.precedingNewLineRequired = true;
     }
 
+    public String getNewLineSeparator() {
+        return newLineSeparator;
+    }
+
     public int getCurrentPosition() {
         return currentPosition;
     }
+
+    /**
+     * @return the position (counted in characters from the start of the output) at which the next text will be written
+     */
+    public long getPositionOfNextText() {
+        return writtenCharacters + (precedingNewLineRequired ? newLineSeparator.length() : 0);
+    }
+
+    /**
+     * @return the position (counted in bytes from the start of the output) at which the next text will be written, -1 if unknown
+     */
+    public long getBytePositionOfNextText() {
+        if (!(writer instanceof AtomicFileWriter fileWriter) || (fileWriter.getBytePosition() < 0)) {
+            return -1;
+        }
+        // The line separator consists of ASCII characters, which are encoded to one byte each by the supported encodings
+        return fileWriter.getBytePosition() + (precedingNewLineRequired ? newLineSeparator.length() : 0);
+    }
+
+    /**
+     * @return the version of the file written (see {@link AtomicFileWriter#getWrittenFileVersion()}), empty if unknown
+     */
+    public OptionalLong getWrittenFileVersion() {
+        return (writer instanceof AtomicFileWriter fileWriter) ? fileWriter.getWrittenFileVersion() : OptionalLong.empty();
+    }
 }
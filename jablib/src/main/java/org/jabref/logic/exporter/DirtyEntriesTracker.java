@@ -0,0 +1,82 @@
+package org.jabref.logic.exporter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.cleanup.FieldFormatterCleanups;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/// Tracks the entries of a library which changed since the save actions were applied to them the last time.
+/// Thus, [BibDatabaseWriter] applies the save actions only to these entries (see [BibDatabaseWriter#setDirtyEntriesTracker(DirtyEntriesTracker)]).
+///
+/// Initially, all entries are dirty, as the save actions have not been applied to the entries read from the file.
+/// Entries become clean when the save actions are applied to them and dirty again as soon as they are changed.
+/// If the save actions of the library are changed, all entries are dirty again.
+///
+/// Entries are tracked by identity, as the equality of entries depends on their (changing) content.
+public class DirtyEntriesTracker {
+
+    private final BibDatabase database;
+    private final Set<BibEntry> dirtyEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /// `true` as long as the save actions have never been applied. Then, [#dirtyEntries] is not used.
+    private boolean allDirty = true;
+    /// The save actions which were applied to all entries not in [#dirtyEntries]
+    private Optional<FieldFormatterCleanups> appliedSaveActions = Optional.empty();
+
+    public DirtyEntriesTracker(BibDatabaseContext bibDatabaseContext) {
+        this.database = bibDatabaseContext.getDatabase();
+        database.registerListener(this);
+    }
+
+    /// @return the given entries which the given save actions have to be applied to, in the order of the given entries
+    public synchronized List<BibEntry> getDirtyEntries(List<BibEntry> entries, Optional<FieldFormatterCleanups> saveActions) {
+        if (allDirty || !Objects.equals(saveActions, appliedSaveActions)) {
+            return entries;
+        }
+        return entries.stream().filter(dirtyEntries::contains).toList();
+    }
+
+    /// Marks the given entries as clean after the given save actions were applied to them
+    public synchronized void markClean(Collection<BibEntry> entries, Optional<FieldFormatterCleanups> saveActions) {
+        if (allDirty || !Objects.equals(saveActions, appliedSaveActions)) {
+            // The save actions were not applied to any other entry
+            dirtyEntries.clear();
+            dirtyEntries.addAll(database.getEntries());
+            appliedSaveActions = saveActions;
+            allDirty = false;
+        }
+        entries.forEach(dirtyEntries::remove);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (!allDirty) {
+            dirtyEntries.addAll(event.getBibEntries());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        if (!allDirty) {
+            dirtyEntries.add(event.getBibEntry());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(dirtyEntries::remove);
+    }
+}
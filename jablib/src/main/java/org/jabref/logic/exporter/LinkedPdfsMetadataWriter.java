@@ -0,0 +1,345 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import javax.xml.transform.TransformerException;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
+import org.jabref.logic.xmp.XmpUtilWriter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
+import org.apache.pdfbox.pdmodel.PDDocumentNameDictionary;
+import org.apache.pdfbox.pdmodel.PDEmbeddedFilesNameTreeNode;
+import org.apache.pdfbox.pdmodel.common.PDMetadata;
+import org.apache.pdfbox.pdmodel.common.filespecification.PDComplexFileSpecification;
+import org.apache.pdfbox.pdmodel.common.filespecification.PDEmbeddedFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the XMP metadata and/or the embedded BibTeX file ({@value EmbeddedBibFilePdfExporter#EMBEDDED_FILE_NAME})
+ * of the entries to their linked PDF files.
+ * <p>
+ * The files are written in parallel, using a bounded number of threads. Each file is loaded once for both kinds of
+ * metadata. A file is not written at all if its metadata already matches: The hash of its metadata before the update
+ * is compared to the hash after the update. Otherwise, the update is saved incrementally (i.e., appended to the
+ * original content) if possible, and the file is replaced atomically. Thus, a failing write never leaves a partially
+ * written PDF file.
+ */
+public class LinkedPdfsMetadataWriter {
+
+    /// Number of PDF files written at the same time. Writing a PDF file mostly waits for the disk.
+    private static final int MAXIMUM_CONCURRENT_WRITES = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinkedPdfsMetadataWriter.class);
+
+    private final XmpUtilWriter xmpUtilWriter;
+    private final EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter;
+    private final boolean writeXmp;
+    private final boolean embedBibFile;
+
+    public LinkedPdfsMetadataWriter(XmpUtilWriter xmpUtilWriter,
+                                    EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
+                                    boolean writeXmp,
+                                    boolean embedBibFile) {
+        this.xmpUtilWriter = xmpUtilWriter;
+        this.embeddedBibFilePdfExporter = embeddedBibFilePdfExporter;
+        this.writeXmp = writeXmp;
+        this.embedBibFile = embedBibFile;
+    }
+
+    /**
+     * Finds the existing PDF files linked to the given entries
+     *
+     * @return the entries linked to each file, in the order of the given entries. Each file is contained once, even if
+     * several entries link to it.
+     */
+    public static Map<Path, List<BibEntry>> findLinkedPdfs(BibDatabaseContext databaseContext,
+                                                           List<BibEntry> entries,
+                                                           FilePreferences filePreferences) {
+        Map<Path, List<BibEntry>> entriesByFile = new LinkedHashMap<>();
+        for (BibEntry entry : entries) {
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                linkedFile.findIn(databaseContext, filePreferences)
+                          .filter(FileUtil::isPDFFile)
+                          .filter(Files::exists)
+                          .map(file -> file.toAbsolutePath().normalize())
+                          .ifPresent(file -> {
+                              List<BibEntry> entriesOfFile = entriesByFile.computeIfAbsent(file, _ -> new ArrayList<>());
+                              if (!entriesOfFile.contains(entry)) {
+                                  entriesOfFile.add(entry);
+                              }
+                          });
+            }
+        }
+        return entriesByFile;
+    }
+
+    /**
+     * Writes the metadata of the entries to their files
+     *
+     * @param entriesByFile  the entries to write to each file, see {@link #findLinkedPdfs}
+     * @param onFileFinished called for each file as soon as the file is finished, in the order of the given files.
+     *                       The consumer is called in the calling thread.
+     */
+    public Report write(BibDatabaseContext databaseContext,
+                        Map<Path, List<BibEntry>> entriesByFile,
+                        Consumer<FileResult> onFileFinished) {
+        long startTime = System.nanoTime();
+
+        List<Future<FileResult>> futures;
+        ExecutorService executor = Executors.newFixedThreadPool(MAXIMUM_CONCURRENT_WRITES);
+        try {
+            futures = entriesByFile.entrySet().stream()
+                                   .map(fileEntries -> executor.submit(() -> write(databaseContext, fileEntries.getKey(), fileEntries.getValue())))
+                                   .toList();
+        } finally {
+            // The submitted writes are still run, the threads end afterwards
+            executor.shutdown();
+        }
+
+        List<FileResult> results = new ArrayList<>(futures.size());
+        List<Path> files = List.copyOf(entriesByFile.keySet());
+        for (int i = 0; i < futures.size(); i++) {
+            FileResult result;
+            try {
+                result = futures.get(i).get();
+            } catch (ExecutionException e) {
+                LOGGER.error("Error while writing metadata to {}", files.get(i), e.getCause());
+                result = FileResult.failed(files.get(i), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.subList(i, futures.size()).forEach(future -> future.cancel(true));
+                break;
+            }
+            results.add(result);
+            onFileFinished.accept(result);
+        }
+
+        Report report = new Report(results, Duration.ofNanos(System.nanoTime() - startTime));
+        LOGGER.debug("Wrote metadata to {} of {} PDF files ({} unchanged, {} failed) in {} ms ({} files/s)",
+                report.count(Status.WRITTEN), results.size(), report.count(Status.UNCHANGED), report.count(Status.FAILED),
+                report.duration().toMillis(), String.format("%.1f", report.getFilesPerSecond()));
+        return report;
+    }
+
+    /**
+     * Writes the metadata of the given entries to the given file
+     */
+    FileResult write(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) {
+        try (PDDocument document = Loader.loadPDF(file.toFile())) {
+            if (document.isEncrypted()) {
+                throw new EncryptedPdfsNotSupportedException();
+            }
+
+            byte[] hashBefore = getMetadataHash(document);
+            if (writeXmp) {
+                xmpUtilWriter.writeXmp(document, entries, databaseContext.getDatabase());
+            }
+            if (embedBibFile) {
+                embeddedBibFilePdfExporter.embedEntries(document, entries, file);
+            }
+            if (Arrays.equals(hashBefore, getMetadataHash(document))) {
+                LOGGER.debug("Metadata of {} is up to date", file);
+                return new FileResult(file, Status.UNCHANGED, Optional.empty());
+            }
+
+            save(document, file, getMetadataHash(document));
+            return new FileResult(file, Status.WRITTEN, Optional.empty());
+        } catch (IOException | TransformerException e) {
+            LOGGER.error("Error while writing metadata to {}", file, e);
+            return FileResult.failed(file, e);
+        }
+    }
+
+    /**
+     * Saves the document to the given file it was loaded from, replacing the file atomically.
+     * Only the changed objects are appended to the file. If that is not possible, the whole document is written.
+     *
+     * @param metadataHash the hash of the metadata of the document, used to check the incrementally saved file
+     */
+    private static void save(PDDocument document, Path file, byte[] metadataHash) throws IOException {
+        Path temporaryFile = FileUtil.addExtension(file, TEMPORARY_EXTENSION);
+        try {
+            if (!saveIncremental(document, temporaryFile, metadataHash)) {
+                document.save(temporaryFile.toFile());
+            }
+            if (FileUtil.IS_POSIX_COMPLIANT) {
+                Files.setPosixFilePermissions(temporaryFile, Files.getPosixFilePermissions(file));
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * @return whether the saved file contains the changed metadata. Otherwise, the whole document needs to be saved.
+     */
+    private static boolean saveIncremental(PDDocument document, Path temporaryFile, byte[] metadataHash) {
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                document.saveIncremental(outputStream, getChangedObjects(document));
+            }
+            try (PDDocument savedDocument = Loader.loadPDF(temporaryFile.toFile())) {
+                if (Arrays.equals(metadataHash, getMetadataHash(savedDocument))) {
+                    return true;
+                }
+            }
+            LOGGER.debug("Incrementally saved {} does not contain the changed metadata", temporaryFile);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not save {} incrementally", temporaryFile, e);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the objects which {@link XmpUtilWriter#writeXmp(PDDocument, List, org.jabref.model.database.BibDatabase)}
+     * and {@link EmbeddedBibFilePdfExporter#embedEntries(PDDocument, List, Path)} change. New objects referenced by
+     * them (e.g., the new metadata stream) are written as well.
+     */
+    private static Set<COSDictionary> getChangedObjects(PDDocument document) {
+        Set<COSDictionary> changedObjects = new HashSet<>();
+        PDDocumentCatalog catalog = document.getDocumentCatalog();
+        changedObjects.add(catalog.getCOSObject());
+        changedObjects.add(document.getDocumentInformation().getCOSObject());
+        PDDocumentNameDictionary nameDictionary = catalog.getNames();
+        if (nameDictionary != null) {
+            changedObjects.add(nameDictionary.getCOSObject());
+            PDEmbeddedFilesNameTreeNode embeddedFiles = nameDictionary.getEmbeddedFiles();
+            if (embeddedFiles != null) {
+                changedObjects.add(embeddedFiles.getCOSObject());
+                getEmbeddedBibFile(embeddedFiles).ifPresent(fileSpecification -> changedObjects.add(fileSpecification.getCOSObject()));
+            }
+        }
+        return changedObjects;
+    }
+
+    /**
+     * Computes a hash of the metadata written by this class: the XMP metadata, the document information, and the
+     * embedded BibTeX file
+     */
+    private static byte[] getMetadataHash(PDDocument document) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        PDDocumentCatalog catalog = document.getDocumentCatalog();
+        PDMetadata metadata = catalog.getMetadata();
+        if (metadata != null) {
+            updateDigest(digest, metadata.createInputStream());
+        }
+        digest.update((byte) 0);
+
+        COSDictionary documentInformation = document.getDocumentInformation().getCOSObject();
+        Map<String, String> sortedInformation = new TreeMap<>();
+        for (Map.Entry<COSName, COSBase> item : documentInformation.entrySet()) {
+            COSBase value = documentInformation.getDictionaryObject(item.getKey());
+            sortedInformation.put(item.getKey().getName(), value instanceof COSString string ? string.getString() : String.valueOf(value));
+        }
+        digest.update(sortedInformation.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+
+        PDDocumentNameDictionary nameDictionary = catalog.getNames();
+        if ((nameDictionary != null) && (nameDictionary.getEmbeddedFiles() != null)) {
+            Optional<PDEmbeddedFile> embeddedFile = getEmbeddedBibFile(nameDictionary.getEmbeddedFiles())
+                    .map(PDComplexFileSpecification::getEmbeddedFile);
+            if (embeddedFile.isPresent()) {
+                updateDigest(digest, embeddedFile.get().createInputStream());
+            }
+        }
+        return digest.digest();
+    }
+
+    private static Optional<PDComplexFileSpecification> getEmbeddedBibFile(PDEmbeddedFilesNameTreeNode embeddedFiles) {
+        try {
+            Map<String, PDComplexFileSpecification> names = embeddedFiles.getNames();
+            return Optional.ofNullable(names).map(fileSpecifications -> fileSpecifications.get(EmbeddedBibFilePdfExporter.EMBEDDED_FILE_NAME));
+        } catch (IOException e) {
+            LOGGER.debug("Could not read embedded files", e);
+            return Optional.empty();
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, InputStream inputStream) throws IOException {
+        try (inputStream) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    public enum Status {
+        /// The metadata was written to the file
+        WRITTEN,
+        /// The file already contained the metadata and was not written
+        UNCHANGED,
+        FAILED
+    }
+
+    public record FileResult(Path file, Status status, Optional<String> errorMessage) {
+
+        static FileResult failed(Path file, Throwable error) {
+            return new FileResult(file, Status.FAILED, Optional.ofNullable(error.getLocalizedMessage()).or(() -> Optional.of(error.getClass().getSimpleName())));
+        }
+    }
+
+    public record Report(List<FileResult> results, Duration duration) {
+
+        public long count(Status status) {
+            return results.stream().filter(result -> result.status() == status).count();
+        }
+
+        public List<FileResult> getFailures() {
+            return results.stream().filter(result -> result.status() == Status.FAILED).toList();
+        }
+
+        /// Number of files processed per second, including unchanged and failed files
+        public double getFilesPerSecond() {
+            double seconds = duration.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? results.size() / seconds : results.size();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/// Finds the bytes of a text in a file, given the position of the text counted in characters.
+///
+/// The file is decoded once from the start to the end. Thus, the texts have to be requested in ascending order. Each
+/// text is compared with the content of the file, so a text is only found if the file really contains it at the given
+/// position. This protects against any modification of the file since it was read.
+class SourceTextLocator {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+    /// Number of bytes read from the channel in front of [#bytes]
+    private long bytesBeforeBuffer;
+    /// Number of characters decoded so far
+    private long charPosition;
+    private boolean endOfFile;
+    /// Set as soon as the file cannot be decoded. Then, no text can be located anymore.
+    private boolean broken;
+
+    SourceTextLocator(FileChannel channel, Charset charset) {
+        this.channel = channel;
+        this.decoder = charset.newDecoder()
+                              .onMalformedInput(CodingErrorAction.REPORT)
+                              .onUnmappableCharacter(CodingErrorAction.REPORT);
+        bytes.flip();
+    }
+
+    /// @param text     the text to find
+    /// @param position the position of the text, counted in characters from the start of the file
+    /// @return the byte position of the text in the file or -1 if the file does not contain the text at the position.
+    ///         The bytes of the text end at [#getBytePosition()].
+    long locate(String text, long position) throws IOException {
+        if (broken || (position < charPosition)) {
+            return -1;
+        }
+        if (!skip(position - charPosition)) {
+            return -1;
+        }
+        long start = getBytePosition();
+        return matches(text) ? start : -1;
+    }
+
+    /// @return the position of the next byte not decoded yet
+    long getBytePosition() {
+        return bytesBeforeBuffer + bytes.position();
+    }
+
+    private boolean skip(long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            int decoded = decode((int) Math.min(remaining, chars.capacity()));
+            if (decoded == 0) {
+                return false;
+            }
+            remaining -= decoded;
+        }
+        return true;
+    }
+
+    private boolean matches(String text) throws IOException {
+        int offset = 0;
+        while (offset < text.length()) {
+            int decoded = decode(Math.min(text.length() - offset, chars.capacity()));
+            if (decoded == 0) {
+                return false;
+            }
+            for (int i = 0; i < decoded; i++) {
+                if (chars.get(i) != text.charAt(offset + i)) {
+                    return false;
+                }
+            }
+            offset += decoded;
+        }
+        return true;
+    }
+
+    /// Decodes at most the given number of characters into [#chars]. The bytes consumed are exactly the ones of the
+    /// decoded characters, as the decoder stops as soon as the output is full.
+    ///
+    /// @return the number of characters decoded, 0 at the end of the file or if the file cannot be decoded
+    private int decode(int maxChars) throws IOException {
+        chars.clear().limit(maxChars);
+        while (chars.hasRemaining() && !broken) {
+            CoderResult result = decoder.decode(bytes, chars, endOfFile);
+            if (result.isError()) {
+                broken = true;
+            } else if (result.isUnderflow()) {
+                if (endOfFile) {
+                    break;
+                }
+                fillBytes();
+            } else {
+                // overflow: the requested number of characters is decoded (or a surrogate pair does not fit)
+                break;
+            }
+        }
+        int decoded = chars.position();
+        chars.flip();
+        charPosition += decoded;
+        return decoded;
+    }
+
+    private void fillBytes() throws IOException {
+        bytesBeforeBuffer += bytes.position();
+        bytes.compact();
+        int read = channel.read(bytes);
+        bytes.flip();
+        if (read < 0) {
+            endOfFile = true;
+        }
+    }
+}
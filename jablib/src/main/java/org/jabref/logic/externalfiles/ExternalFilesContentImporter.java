@@ -2,17 +2,27 @@ package org.jabref.logic.externalfiles;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.pdf.PdfMergeMetadataImporter;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.util.FileUpdateMonitor;
 
 public class ExternalFilesContentImporter {
 
+    /// Number of PDF files imported at the same time. Importing a PDF file mostly waits for reading the file and for
+    /// online services. More files at the same time would overload these services.
+    private static final int MAXIMUM_CONCURRENT_PDF_IMPORTS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private final ImportFormatPreferences importFormatPreferences;
 
     public ExternalFilesContentImporter(ImportFormatPreferences importFormatPreferences) {
@@ -27,6 +37,32 @@ public class ExternalFilesContentImporter {
         }
     }
 
+    /// Imports the given PDF files concurrently, using a bounded number of threads of the [HeadlessExecutorService].
+    ///
+    /// @return the results in the order of the given files. A result is available as soon as its file is imported.
+    /// Cancelling a result cancels the import of its file.
+    public List<Future<ParserResult>> importPDFContent(List<Path> files, BibDatabaseContext context, FilePreferences filePreferences) {
+        List<FutureTask<ParserResult>> imports = files.stream()
+                                                      .map(file -> new FutureTask<>(() -> importPDFContent(file, context, filePreferences)))
+                                                      .toList();
+        // Each worker imports one file after another, thus, at most as many files as workers are imported at the same time
+        Queue<FutureTask<ParserResult>> pendingImports = new ConcurrentLinkedQueue<>(imports);
+        for (int i = 0; i < Math.min(MAXIMUM_CONCURRENT_PDF_IMPORTS, imports.size()); i++) {
+            HeadlessExecutorService.INSTANCE.execute(() -> runImports(pendingImports));
+        }
+        return List.copyOf(imports);
+    }
+
+    private static void runImports(Queue<FutureTask<ParserResult>> pendingImports) {
+        FutureTask<ParserResult> pdfImport;
+        while ((pdfImport = pendingImports.poll()) != null) {
+            // A cancelled import is not run
+            pdfImport.run();
+            // Cancelling a running import interrupts the worker, which must not affect the next import
+            Thread.interrupted();
+        }
+    }
+
     public ParserResult importFromBibFile(Path bibFile, FileUpdateMonitor fileUpdateMonitor) throws IOException {
         return OpenDatabase.loadDatabase(bibFile, importFormatPreferences, fileUpdateMonitor);
     }
@@ -1,11 +1,8 @@
 package org.jabref.logic.formatter.casechanger;
 
-import java.util.List;
-
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
-import org.jabref.logic.util.strings.StringLengthComparator;
 
 import org.jspecify.annotations.NonNull;
 
@@ -19,26 +16,15 @@ public class ProtectTermsFormatter extends Formatter {
         this.protectedTermsLoader = protectedTermsLoader;
     }
 
-    private String format(String text, List<String> listOfWords) {
-        String result = text;
-        // Treat longer terms first to avoid substring issues
-        listOfWords.sort(new StringLengthComparator());
-        // For each word in the list
-        for (String listOfWord : listOfWords) {
-            // Add {} if the character before is a space, -, /, (, [, ", or } or if it is at the start of the string but not if it is followed by a }
-            result = result.replaceAll("(^|[- /\\[(}\"])" + listOfWord + "($|[^a-zA-Z}])", "$1\\{" + listOfWord + "\\}$2");
-        }
-        // Remove the empty brackets
-        result = result.replace("{}", "");
-        return result;
-    }
-
     @Override
     public String format(@NonNull String text) {
         if (text.isEmpty()) {
             return text;
         }
-        return this.format(text, this.protectedTermsLoader.getProtectedTerms());
+        // All terms are matched in a single pass; see ProtectedTermsMatcher for the rules when a term is protected
+        String result = protectedTermsLoader.getProtectedTermsMatcher().protect(text);
+        // Remove the empty brackets
+        return result.replace("{}", "");
     }
 
     @Override
@@ -6,12 +6,14 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.util.strings.StringUtil;
 
+import org.eclipse.jgit.api.CheckoutCommand;
 import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.PullCommand;
@@ -21,6 +23,8 @@ import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.errors.NoRemoteRepositoryException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.lib.StoredConfig;
@@ -30,6 +34,8 @@ import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.RefSpec;
 import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -235,6 +241,42 @@ public class GitHandler {
         return commitCreated;
     }
 
+    /**
+     * Reverts the given files to their state in the last commit of the currently checked out branch.
+     * Files which are not part of the last commit are deleted. All other files of the repository are not touched.
+     *
+     * @param files the files to revert. They have to be located inside the repository.
+     */
+    public void revertFiles(Collection<Path> files) throws IOException, GitAPIException {
+        try (Git git = Git.open(this.repositoryPathAsFile)) {
+            Repository repository = git.getRepository();
+            ObjectId headTree = repository.resolve(Constants.HEAD + "^{tree}");
+            CheckoutCommand checkoutCommand = git.checkout().setStartPoint(Constants.HEAD);
+            boolean filesToCheckOut = false;
+            for (Path file : files) {
+                String gitPath = repositoryPath.relativize(file).toString().replace(File.separatorChar, '/');
+                if (isPartOfTree(repository, gitPath, headTree)) {
+                    checkoutCommand.addPath(gitPath);
+                    filesToCheckOut = true;
+                } else {
+                    Files.deleteIfExists(file);
+                }
+            }
+            if (filesToCheckOut) {
+                checkoutCommand.call();
+            }
+        }
+    }
+
+    private static boolean isPartOfTree(Repository repository, String gitPath, @Nullable ObjectId tree) throws IOException {
+        if (tree == null) {
+            return false;
+        }
+        try (TreeWalk treeWalk = TreeWalk.forPath(repository, gitPath, tree)) {
+            return treeWalk != null;
+        }
+    }
+
     /**
      * Merges the source branch into the target branch
      *
@@ -1,12 +1,21 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -33,16 +42,26 @@ import org.jabref.logic.importer.fileformat.pdf.PdfMergeMetadataImporter;
 import org.jabref.logic.importer.fileformat.pdf.PdfVerbatimBibtexImporter;
 import org.jabref.logic.importer.fileformat.pdf.PdfXmpImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    /// Number of bytes read from a file to determine its format.
+    /// Large enough to cover lengthy file headers, small enough to not matter for huge exports.
+    private static final int SNIFF_PREFIX_BYTES = 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -143,16 +162,20 @@ public class ImportFormatReader {
     /// Tries to import a file by iterating through the available import filters,
     /// and keeping the import that seems most promising.
     ///
+    /// The file is sniffed only once: a bounded prefix is read and decoded, and all importers decide on that prefix.
+    /// The importers recognizing the prefix then parse the file concurrently.
+    ///
     /// This method first attempts to read this file as bibtex.
     ///
     /// @throws ImportException if the import fails (for example, if no suitable importer is found)
     public UnknownFormatImport importUnknownFormat(@NonNull Path filePath,
                                                    FileUpdateMonitor fileMonitor) throws ImportException {
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            String filePrefix = readPrefix(filePath);
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath, filePrefix));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
-        } catch (ImportException e) {
+        } catch (ImportException | IOException e) {
             // If all importers fail, try to read the file as BibTeX
             try {
                 ParserResult parserResult = OpenDatabase.loadDatabase(filePath, importFormatPreferences, fileMonitor);
@@ -169,9 +192,37 @@ public class ImportFormatReader {
         }
     }
 
+    /// Reads at most [#SNIFF_PREFIX_BYTES] bytes of the file and decodes them the same way [Importer#getReader(Path)] would.
+    /// For files smaller than the limit, this is the complete content.
+    private static String readPrefix(Path filePath) throws IOException {
+        byte[] bytes;
+        boolean truncated;
+        try (InputStream inputStream = Files.newInputStream(filePath, StandardOpenOption.READ)) {
+            bytes = inputStream.readNBytes(SNIFF_PREFIX_BYTES);
+            truncated = inputStream.read() != -1;
+        }
+
+        Charset charset = StandardCharsets.UTF_8;
+        if (FileUtil.isBibFile(filePath)) {
+            charset = Importer.getCharset(new BufferedInputStream(new ByteArrayInputStream(bytes)));
+        }
+        String prefix = new String(bytes, charset);
+
+        if (truncated) {
+            // Do not hand out a partial last line, importers might misinterpret it
+            int lastLineBreak = Math.max(prefix.lastIndexOf('\n'), prefix.lastIndexOf('\r'));
+            if (lastLineBreak > 0) {
+                prefix = prefix.substring(0, lastLineBreak + 1);
+            }
+        }
+        return prefix;
+    }
+
     /**
      * Tries to import entries by iterating through the available import filters,
      * and keeping the import that seems the most promising
+     * <p>
+     * All importers recognizing the source parse it concurrently. On ties, the importer coming first in {@link #formats} wins.
      *
      * @param importDatabase     the function to import the entries with a formatter
      * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
@@ -179,33 +230,61 @@ public class ImportFormatReader {
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
     private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+        List<Importer> candidates = new ArrayList<>();
+        for (Importer imFo : formats) {
+            try {
+                // Refer/BibIX should be explicitly chosen by user
+                if (!imFo.equals(new ReferImporter()) && isRecognizedFormat.apply(imFo)) {
+                    candidates.add(imFo);
+                }
+            } catch (IOException ex) {
+                // The importer cannot read the source. Go on.
+            }
+        }
+
+        List<Future<List<BibEntry>>> parses = new ArrayList<>(candidates.size());
+        for (Importer candidate : candidates) {
+            parses.add(HeadlessExecutorService.INSTANCE.execute(() -> {
+                List<BibEntry> entries = importDatabase.apply(candidate).getDatabase().getEntries();
+                BibDatabases.purgeEmptyEntries(entries);
+                return entries;
+            }));
+        }
+
         // stores ref to best result, gets updated at the next loop
         List<BibEntry> bestResult = null;
         int bestResultCount = 0;
         String bestFormatName = null;
 
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
-            try {
-                if (!isRecognizedFormat.apply(imFo) || imFo.equals(new ReferImporter())) {
-                    // Refer/BibIX should be explicitly chosen by user
-                    continue;
+        try {
+            for (int i = 0; i < parses.size(); i++) {
+                List<BibEntry> entries;
+                try {
+                    entries = parses.get(i).get();
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof IOException) {
+                        // The import did not succeed. Go on.
+                        LOGGER.debug("Importer {} failed", candidates.get(i).getName(), ex.getCause());
+                        continue;
+                    }
+                    if (ex.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new ImportException(ex);
                 }
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
-
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
-
-                if (entryCount > bestResultCount) {
+                if (entries.size() > bestResultCount) {
                     bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
+                    bestResultCount = entries.size();
+                    bestFormatName = candidates.get(i).getName();
                 }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
             }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ImportException(ex);
+        } finally {
+            // Only relevant if we stopped early: do not keep parsing for a result nobody waits for
+            parses.forEach(parse -> parse.cancel(true));
         }
 
         if (bestResult != null) {
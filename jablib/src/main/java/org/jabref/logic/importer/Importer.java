@@ -55,6 +55,22 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Check whether the file is in the correct format for this importer, based on an already read prefix of its content.
+     * <p>
+     * This is used when searching for a suitable import format: the prefix is read once and shared by all importers
+     * instead of each importer re-opening the file. Importers which cannot decide on the decoded text (e.g., because
+     * the format is zip-based) should override this method and inspect the file itself.
+     *
+     * @param filePath   the path of the file to check
+     * @param filePrefix the decoded beginning of the file (the complete content for small files)
+     * @return true, if the file is in a recognized format
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public boolean isRecognizedFormat(@NonNull Path filePath, @NonNull String filePrefix) throws IOException {
+        return isRecognizedFormat(filePrefix);
+    }
+
     /**
      * Check whether the source is in the correct format for this importer.
      *
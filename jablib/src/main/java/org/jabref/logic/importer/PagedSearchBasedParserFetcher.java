@@ -26,7 +26,7 @@ public interface PagedSearchBasedParserFetcher extends SearchBasedParserFetcher,
     }
 
     private List<BibEntry> getBibEntries(URL urlForQuery) throws FetcherException {
-        try (InputStream stream = getUrlDownload(urlForQuery).asInputStream()) {
+        try (InputStream stream = getUrlDownload(urlForQuery).asApiInputStream()) {
             List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
             fetchedEntries.forEach(this::doPostCleanup);
             return fetchedEntries;
@@ -1,7 +1,6 @@
 package org.jabref.logic.importer.fetcher;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
@@ -142,21 +141,18 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
             URLDownload download = getUrlDownload(doiURL);
             download.addHeader("Accept", MediaTypes.APPLICATION_BIBTEX);
 
-            String bibtexString;
-            URLConnection openConnection;
-
-            openConnection = download.openConnection();
-            bibtexString = URLDownload.asString(openConnection).trim();
+            // Crossref has a dynamic API rate limit, which is updated whenever a response is received from the server
+            boolean isCrossref = agency.isPresent() && "crossref".equalsIgnoreCase(agency.get());
+            String bibtexString = download.asApiString(connection -> {
+                if (isCrossref) {
+                    updateCrossrefAPIRate(connection);
+                }
+            }).trim();
 
             // BibTeX entry
             fetchedEntry = BibtexParser.singleFromString(bibtexString, preferences);
             fetchedEntry.ifPresent(this::doPostCleanup);
 
-            // Crossref has a dynamic API rate limit
-            if (agency.isPresent() && "crossref".equalsIgnoreCase(agency.get())) {
-                updateCrossrefAPIRate(openConnection);
-            }
-
             // Check if the entry is an APS journal and add the article id as the page count if page field is missing
             if (fetchedEntry.isPresent() && fetchedEntry.get().hasField(StandardField.DOI)) {
                 BibEntry entry = fetchedEntry.get();
@@ -164,10 +160,6 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
                     setPageCountToArticleId(entry, entry.getField(StandardField.DOI).get());
                 }
             }
-
-            if (openConnection instanceof HttpURLConnection connection) {
-                connection.disconnect();
-            }
             return fetchedEntry;
         } catch (IOException e) {
             throw new FetcherException(doiURL, Localization.lang("Connection error"), e);
@@ -223,7 +215,7 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
         try {
             URLDownload download = getUrlDownload(URLUtil.create(DOI.AGENCY_RESOLVER + "/" + URLEncoder.encode(doi.asString(),
                     StandardCharsets.UTF_8)));
-            JSONObject response = new JSONArray(download.asString()).getJSONObject(0);
+            JSONObject response = new JSONArray(download.asApiString()).getJSONObject(0);
             if (response != null) {
                 agency = Optional.ofNullable(response.optString("RA"));
             }
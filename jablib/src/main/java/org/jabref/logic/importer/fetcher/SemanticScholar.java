@@ -124,7 +124,7 @@ public class SemanticScholar implements FulltextFetcher, PagedSearchBasedParserF
 
     String getURLBySource(String source) throws IOException, FetcherException {
         URLDownload download = new URLDownload(source);
-        JSONObject json = new JSONObject(download.asString());
+        JSONObject json = new JSONObject(download.asApiString());
         LOGGER.debug("URL for source: {}", json.get("url").toString());
         if (!json.has("url")) {
             throw new FetcherException("Page does not contain field \"url\"");
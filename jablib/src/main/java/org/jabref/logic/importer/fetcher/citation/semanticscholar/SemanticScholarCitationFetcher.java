@@ -66,7 +66,7 @@ public class SemanticScholarCitationFetcher implements CitationFetcher, Customiz
         importerPreferences.getApiKey(getName()).ifPresent(apiKey -> urlDownload.addHeader("x-api-key", apiKey));
 
         CitationsResponse citationsResponse = GSON
-                .fromJson(urlDownload.asString(), CitationsResponse.class);
+                .fromJson(urlDownload.asApiString(), CitationsResponse.class);
 
         return citationsResponse.getData()
                                 .stream().filter(citationDataItem -> citationDataItem.getCitingPaper() != null)
@@ -89,7 +89,7 @@ public class SemanticScholarCitationFetcher implements CitationFetcher, Customiz
 
         URLDownload urlDownload = new URLDownload(referencesUrl);
         importerPreferences.getApiKey(getName()).ifPresent(apiKey -> urlDownload.addHeader("x-api-key", apiKey));
-        String response = urlDownload.asString();
+        String response = urlDownload.asApiString();
         ReferencesResponse referencesResponse = GSON.fromJson(response, ReferencesResponse.class);
 
         if (referencesResponse.getData() == null) {
@@ -129,7 +129,7 @@ public class SemanticScholarCitationFetcher implements CitationFetcher, Customiz
         importerPreferences.getApiKey(getName()).ifPresent(apiKey -> urlDownload.addHeader("x-api-key", apiKey));
         String result;
         try {
-            result = urlDownload.asString();
+            result = urlDownload.asApiString();
         } catch (FetcherException e) {
             e.getHttpResponse().ifPresent(Unchecked.consumer(response -> {
                 Optional.ofNullable(response.responseBody())
@@ -18,10 +18,12 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.logic.util.strings.StringPool;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,10 +39,19 @@ public class BibtexImporter extends Importer {
 
     private final ImportFormatPreferences importFormatPreferences;
     private final FileUpdateMonitor fileMonitor;
+    private final @Nullable StringPool stringPool;
 
     public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, null);
+    }
+
+    /**
+     * @param stringPool pool to deduplicate parsed strings with, see {@link BibtexParser}. If {@code null}, each import uses its own pool.
+     */
+    public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, @Nullable StringPool stringPool) {
         this.importFormatPreferences = importFormatPreferences;
         this.fileMonitor = fileMonitor;
+        this.stringPool = stringPool;
     }
 
     /**
@@ -128,7 +139,8 @@ public class BibtexImporter extends Importer {
      */
     @Override
     public ParserResult importDatabase(@NonNull BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        // Large libraries are split into chunks parsed in parallel; small ones are parsed sequentially
+        return new BibtexParser(importFormatPreferences, fileMonitor, stringPool).parseInParallel(reader);
     }
 
     @Override
@@ -3,24 +3,31 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -37,6 +44,7 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.util.strings.StringPool;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.KeyCollisionException;
 import org.jabref.model.entry.BibEntry;
@@ -62,6 +70,7 @@ import com.dd.plist.NSDictionary;
 import com.dd.plist.NSString;
 import io.github.adr.linked.ADR;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -83,6 +92,9 @@ import static org.jabref.logic.util.MetadataSerializationConfiguration.GROUP_TYP
 ///
 /// Can be used standalone.
 ///
+/// Field names and short field values are deduplicated using a [StringPool]. By default, the pool lives for one parse run
+/// and is shared by all chunks of that run parsed in parallel. A pool passed to the constructor is shared with all other parsers using the same pool.
+///
 /// **Main using method:**
 /// [`OpenDatabase.loadDatabase`](org.jabref.logic.importer.OpenDatabase#loadDatabase(java.nio.file.Path, org.jabref.logic.importer.ImportFormatPreferences, org.jabref.model.util.FileUpdateMonitor))
 ///
@@ -95,30 +107,65 @@ public class BibtexParser implements Parser {
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final Pattern EPILOG_PATTERN = Pattern.compile("\\w+\\s*=.*,");
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private static final int INITIAL_INPUT_CAPACITY = 64 * 1024;
+    /// Smaller inputs are not split for parsing in parallel
+    private static final int MIN_CHUNK_SIZE = 256 * 1024;
+    /// Number of chunks per thread, so that threads finishing early can steal work from others
+    private static final int CHUNKS_PER_THREAD = 4;
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    /// The complete text to parse. Only the first [#inputLength] characters are used.
+    private char[] input;
+    private int inputLength;
+    /// Index of the next character to read from [#input]
+    private int position;
+    /// Index of the first character of [#input] not yet returned by [#getPureTextFromFile()]
+    private int rawTextStart;
+    /// Characters pushed back by [#unread(int)] which do not match the input before [#position] (e.g., when trying to fix a corrupted citation key).
+    /// Used as a stack: the last character is read first.
+    private final StringBuilder pushedBack = new StringBuilder();
+    /// As soon as characters not matching the input are pushed back, the raw text cannot be taken from [#input] anymore.
+    /// Then, it is collected here until the next call of [#getPureTextFromFile()].
+    private @Nullable StringBuilder rawTextCopy;
+    /// When streaming, [#input] is a window of the input which is refilled from this reader.
+    private @Nullable Reader streamingReader;
+    /// Number of characters in front of [#input] on the same line as its first character. Only non-zero when streaming.
+    private int columnOffset;
+    /// Number of characters of the input in front of [#input]. Only non-zero when streaming.
+    private long inputOffset;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
 
     private int line = 1;
     private int column = 1;
-    // Stores the last read column of the highest column number encountered on any line so far.
-    // The intended data structure is Stack, but it is not used because Java code style checkers complain.
-    // In basic JDK data structures, there is no size-limited stack. We did not want to include Apache Commons Collections only for "CircularFifoBuffer"
-    private final Deque<Integer> highestColumns = new ArrayDeque<>();
+
+    /// When parsing a chunk, the parser stops after the item ending at this index. `-1` if the parser reads until the end of the input.
+    private int stopPosition = -1;
+    private boolean reachedStopPosition;
+    /// When parsing a chunk, entries are collected here instead of being inserted into [#database]. They are merged in file order afterwards.
+    private @Nullable List<BibEntry> chunkEntries;
+    private @Nullable String chunkPreamble;
+    private final Map<String, String> chunkMeta = new HashMap<>();
 
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
     private final Map<String, String> parsedBibDeskGroups;
+    private final @Nullable StringPool sharedStringPool;
+    private StringPool stringPool;
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
     public BibtexParser(@NonNull ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, null);
+    }
+
+    /// @param sharedStringPool pool to deduplicate strings with, shared across parse runs. If `null`, a new pool is used for each parse run.
+    public BibtexParser(@NonNull ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, @Nullable StringPool sharedStringPool) {
         this.importFormatPreferences = importFormatPreferences;
         this.metaDataParser = new MetaDataParser(fileMonitor);
         this.parsedBibDeskGroups = new HashMap<>();
+        this.sharedStringPool = sharedStringPool;
     }
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences) {
@@ -169,8 +216,125 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(@NonNull Reader in) throws IOException {
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readInput(in);
+        stringPool = sharedStringPool != null ? sharedStringPool : new StringPool();
+        long deduplicatedBefore = stringPool.getDeduplicatedCount();
+        long savedBytesBefore = stringPool.getSavedBytes();
+
+        ParserResult result = parseInput();
+        LOGGER.debug("Deduplicated {} strings while parsing, saving about {} bytes ({} strings pooled)",
+                stringPool.getDeduplicatedCount() - deduplicatedBefore,
+                stringPool.getSavedBytes() - savedBytesBefore,
+                stringPool.size());
+        return result;
+    }
+
+    /// Same as [#parse(Reader)], but parses large inputs using the common fork-join pool.
+    public ParserResult parseInParallel(@NonNull Reader in) throws IOException {
+        return parseInParallel(in, ForkJoinPool.commonPool());
+    }
+
+    /// Same as [#parse(Reader)], but parses large inputs in parallel using the given pool.
+    /// The result is the same as the one of [#parse(Reader)].
+    ///
+    /// The input is split into chunks directly after top-level entries. Each chunk is parsed by a parser of its own, starting
+    /// with the line and column the sequential parser would be at. Afterward, the chunks are merged in file order.
+    /// The split points are found by a simple scan counting braces only. Thus, each chunk checks that its last entry really
+    /// ends at the split point. If this is not the case for any chunk, or if the chunks cannot be merged without changing
+    /// the result (e.g., a `@String` defined in two chunks), the input is parsed sequentially.
+    public ParserResult parseInParallel(@NonNull Reader in, @NonNull ForkJoinPool pool) throws IOException {
+        readInput(in);
+        stringPool = sharedStringPool != null ? sharedStringPool : new StringPool();
+
+        int targetChunkSize = Math.max(MIN_CHUNK_SIZE, inputLength / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        List<Integer> chunkStarts = findChunkStarts(targetChunkSize);
+        if (chunkStarts.size() > 1) {
+            Optional<ParserResult> result = parseChunks(chunkStarts, pool);
+            if (result.isPresent()) {
+                LOGGER.debug("Parsed {} characters in {} chunks", inputLength, chunkStarts.size());
+                return result.get();
+            }
+            LOGGER.debug("Chunks could not be parsed independently, parsing sequentially");
+            resetScanner();
+        }
+        return parseInput();
+    }
+
+    /// Parses the entries one at a time while the returned stream is consumed. The reader is read incrementally, thus the
+    /// memory needed does not depend on the size of the input, but on the size of the largest entry only.
+    /// This is intended for processing libraries which are too large to be held in memory.
+    ///
+    /// The entries are not added to the database of [#getParserResult()] and no ranges are recorded for them.
+    /// Strings, the preamble, the database ID, and warnings are added to the result while parsing.
+    /// The metadata and the epilog are available after the stream has been consumed completely.
+    /// BibDesk static groups are not migrated, as their entries have been returned before the groups are known.
+    ///
+    /// The reader is not closed. An [IOException] while reading is thrown as [UncheckedIOException].
+    public Stream<BibEntry> streamEntries(@NonNull Reader in) {
+        input = new char[INITIAL_INPUT_CAPACITY];
+        inputLength = 0;
+        resetScanner();
+        streamingReader = in;
+        // The new line separator is determined from the first characters
+        boolean moreInput = true;
+        while ((inputLength < LOOKAHEAD) && moreInput) {
+            moreInput = fillInput();
+        }
+        stringPool = sharedStringPool != null ? sharedStringPool : new StringPool();
+        initializeParserResult(determineNewLineSeparator());
+        // Entries parsed, but not yet returned
+        List<BibEntry> parsedEntries = new ArrayList<>();
+        chunkEntries = parsedEntries;
+
+        Iterator<BibEntry> iterator = new Iterator<>() {
+            private boolean started;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (parsedEntries.isEmpty() && !finished) {
+                        parseNext();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return !parsedEntries.isEmpty();
+            }
 
+            @Override
+            public BibEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                BibEntry entry = parsedEntries.removeFirst();
+                parserResult.getArticleRanges().remove(entry);
+                parserResult.getFieldRanges().remove(entry);
+                return entry;
+            }
+
+            private void parseNext() throws IOException {
+                if (!started) {
+                    parseDatabaseID();
+                    skipWhitespace();
+                    started = true;
+                } else if (!eof && parseNextItem(chunkMeta)) {
+                    skipWhitespace();
+                } else {
+                    finishParsing(chunkMeta);
+                    finished = true;
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /// @return the result of the last parse run. When streaming, the result is complete only after the stream has been consumed.
+    public ParserResult getParserResult() {
+        return parserResult;
+    }
+
+    private ParserResult parseInput() throws IOException {
         String newLineSeparator = determineNewLineSeparator();
 
         // BibTeX related contents
@@ -183,28 +347,232 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        // @formatter:off
-        do {
-            // @formatter:on
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+    /// Finds the indices at which chunks of roughly the given size start. The first chunk starts at 0.
+    ///
+    /// A chunk starts where the sequential parser is after an entry: after the closing brace, following spaces and one newline.
+    /// To keep comments in front of an entry with that entry, only the ends of entries are considered.
+    /// The scan stops at the first construct it does not understand; the remaining input then forms the last chunk.
+    private List<Integer> findChunkStarts(int targetChunkSize) {
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0);
+        int nextChunkStart = targetChunkSize;
+        int index = 0;
+        while (index < inputLength) {
+            // Top level: anything up to the next "@" belongs to the comments in front of the next entry
+            while ((index < inputLength) && (input[index] != '@')) {
+                index++;
+            }
+            int typeStart = ++index;
+            while ((index < inputLength) && (Character.isLetterOrDigit(input[index]) || (":-_*+./'".indexOf(input[index]) >= 0))) {
+                index++;
+            }
+            String type = new String(input, Math.min(typeStart, inputLength), Math.max(0, index - typeStart)).toLowerCase(Locale.ROOT);
+            while ((index < inputLength) && Character.isWhitespace(input[index])) {
+                index++;
+            }
+            if ((index >= inputLength) || (input[index] != '{')) {
+                return chunkStarts;
+            }
+
+            int brackets = 0;
+            do {
+                if (input[index] == '{') {
+                    brackets++;
+                } else if (input[index] == '}') {
+                    brackets--;
+                }
+                index++;
+            } while ((brackets > 0) && (index < inputLength));
+            if (brackets > 0) {
+                return chunkStarts;
+            }
+
+            // Same as skipOneNewline
+            while ((index < inputLength) && (input[index] == ' ')) {
+                index++;
+            }
+            if ((index < inputLength) && (input[index] == '\r')) {
+                index++;
+            }
+            if ((index < inputLength) && (input[index] == '\n')) {
+                index++;
+            }
+
+            boolean isEntry = !"comment".equals(type) && !"string".equals(type) && !"preamble".equals(type);
+            if (isEntry && (index >= nextChunkStart) && (index < inputLength)) {
+                chunkStarts.add(index);
+                nextChunkStart = index + targetChunkSize;
+            }
+        }
+        return chunkStarts;
+    }
+
+    /// @return the result or an empty optional if the chunks could not be parsed independently
+    private Optional<ParserResult> parseChunks(List<Integer> chunkStarts, ForkJoinPool pool) {
+        String newLineSeparator = determineNewLineSeparator();
+        List<BibtexParser> chunkParsers = new ArrayList<>(chunkStarts.size());
+        int chunkLine = 1;
+        int lineStart = 0;
+        for (int i = 0; i < chunkStarts.size(); i++) {
+            int start = chunkStarts.get(i);
+            for (int index = (i == 0) ? 0 : chunkStarts.get(i - 1); index < start; index++) {
+                if (input[index] == '\n') {
+                    chunkLine++;
+                    lineStart = index + 1;
+                }
+            }
+            // The last chunk is parsed by this parser, as it has to finish parsing (metadata, epilog, ...)
+            BibtexParser chunkParser = (i == chunkStarts.size() - 1)
+                                       ? this
+                                       : new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), stringPool);
+            chunkParser.prepareChunk(input, inputLength, start, (i == chunkStarts.size() - 1) ? -1 : chunkStarts.get(i + 1), chunkLine, (start - lineStart) + 1, newLineSeparator);
+            chunkParsers.add(chunkParser);
+        }
+
+        List<ForkJoinTask<Boolean>> tasks = new ArrayList<>(chunkParsers.size() - 1);
+        for (int i = 0; i < chunkParsers.size() - 1; i++) {
+            BibtexParser chunkParser = chunkParsers.get(i);
+            boolean isFirstChunk = i == 0;
+            tasks.add(pool.submit(() -> chunkParser.parseChunk(isFirstChunk)));
+        }
+        try {
+            // The last chunk is parsed in the calling thread, thus this parser is not modified by other threads anymore afterward
+            if (!parseChunk(false)) {
+                tasks.forEach(task -> task.cancel(false));
+                return Optional.empty();
+            }
+            for (ForkJoinTask<Boolean> task : tasks) {
+                if (!task.get()) {
+                    tasks.forEach(remainingTask -> remainingTask.cancel(false));
+                    return Optional.empty();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tasks.forEach(task -> task.cancel(false));
+            return Optional.empty();
+        } catch (IOException | ExecutionException e) {
+            // The sequential parser will run into the same problem and report it
+            LOGGER.debug("Could not parse chunk", e);
+            tasks.forEach(task -> task.cancel(false));
+            return Optional.empty();
+        }
+
+        BibDatabase mergedDatabase = new BibDatabase();
+        mergedDatabase.setNewLineSeparator(newLineSeparator);
+        chunkParsers.getFirst().database.getSharedDatabaseID().ifPresent(mergedDatabase::setSharedDatabaseID);
+        Set<BibEntryType> mergedEntryTypes = new HashSet<>();
+        ParserResult mergedResult = new ParserResult(mergedDatabase, new MetaData(), mergedEntryTypes);
+        Map<String, String> mergedMeta = new HashMap<>();
+        for (BibtexParser chunkParser : chunkParsers) {
+            mergedDatabase.insertEntries(chunkParser.chunkEntries);
+            for (BibtexString bibtexString : chunkParser.database.getStringValues()) {
+                if (mergedDatabase.hasStringByName(bibtexString.getName())) {
+                    // The sequential parser reports a warning at the position of the duplicate
+                    return Optional.empty();
+                }
+                mergedDatabase.addString(bibtexString);
+            }
+            if (chunkParser.chunkPreamble != null) {
+                mergedDatabase.setPreamble(chunkParser.chunkPreamble);
+            }
+            mergedEntryTypes.addAll(chunkParser.entryTypes);
+            mergedMeta.putAll(chunkParser.chunkMeta);
+            mergedResult.getArticleRanges().putAll(chunkParser.parserResult.getArticleRanges());
+            mergedResult.getFieldRanges().putAll(chunkParser.parserResult.getFieldRanges());
+            mergedResult.getWarningsMap().putAll(chunkParser.parserResult.getWarningsMap());
         }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        database = mergedDatabase;
+        entryTypes = mergedEntryTypes;
+        parserResult = mergedResult;
+        chunkEntries = null;
+        return Optional.of(finishParsing(mergedMeta));
+    }
+
+    private void prepareChunk(char[] input, int inputLength, int start, int stopPosition, int line, int column, String newLineSeparator) {
+        this.input = input;
+        this.inputLength = inputLength;
+        resetScanner();
+        this.position = start;
+        this.rawTextStart = start;
+        this.line = line;
+        this.column = column;
+        this.stopPosition = stopPosition;
+        this.chunkEntries = new ArrayList<>();
+        if (stringPool == null) {
+            stringPool = sharedStringPool != null ? sharedStringPool : new StringPool();
+        }
+        initializeParserResult(newLineSeparator);
+    }
+
+    /// @return `true` if the chunk could be parsed independently of the chunks before, i.e., it ends exactly at the start of
+    /// the next chunk and none of its parts depend on the previous chunks
+    private boolean parseChunk(boolean isFirstChunk) throws IOException {
+        if (isFirstChunk) {
+            parseDatabaseID();
+        }
+        skipWhitespace();
+        parseItems(chunkMeta);
+
+        boolean usesBibDeskGroups = (bibDeskGroupTreeNode != null) || !parsedBibDeskGroups.isEmpty();
+        if (stopPosition < 0) {
+            return !usesBibDeskGroups;
+        }
+        return reachedStopPosition
+                && (rawTextStart == stopPosition)
+                && (rawTextCopy == null)
+                && pushedBack.isEmpty()
+                && !parserResult.hasWarnings()
+                && !usesBibDeskGroups;
+    }
+
+    /// Reads the complete content of the reader into [#input].
+    /// Scanning a char array is much cheaper than reading character by character from a (pushback) reader.
+    private void readInput(Reader in) throws IOException {
+        char[] buffer = new char[INITIAL_INPUT_CAPACITY];
+        int length = 0;
+        int charsRead;
+        while ((charsRead = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += charsRead;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        input = buffer;
+        inputLength = length;
+        resetScanner();
+    }
+
+    private void resetScanner() {
+        position = 0;
+        rawTextStart = 0;
+        pushedBack.setLength(0);
+        rawTextCopy = null;
+        columnOffset = 0;
+        inputOffset = 0;
+        line = 1;
+        column = 1;
+        eof = false;
+        stopPosition = -1;
+        reachedStopPosition = false;
+        chunkEntries = null;
+        chunkPreamble = null;
+        chunkMeta.clear();
+        parsedBibDeskGroups.clear();
+        bibDeskGroupTreeNode = null;
+    }
 
-        return newLineSeparator;
+    private String determineNewLineSeparator() {
+        int end = Math.min(inputLength, BibtexParser.LOOKAHEAD);
+        for (int i = 0; i < end; i++) {
+            if (input[i] == '\r') {
+                return "\r\n";
+            } else if (input[i] == '\n') {
+                return "\n";
+            }
+        }
+        return OS.NEWLINE;
     }
 
     private void initializeParserResult(String newLineSeparator) {
@@ -236,38 +604,62 @@ public class BibtexParser implements Parser {
 
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
+        parseItems(meta);
+        return finishParsing(meta);
+    }
 
+    /// Parses entries, strings, preambles, and comments until the end of the input (or the stop position of the chunk)
+    private void parseItems(Map<String, String> meta) throws IOException {
         while (!eof) {
-            boolean found = consumeUncritically('@');
-            if (!found) {
+            if (!parseNextItem(meta)) {
                 break;
             }
 
+            if ((stopPosition >= 0) && (position >= stopPosition)) {
+                reachedStopPosition = position == stopPosition;
+                return;
+            }
+
             skipWhitespace();
+        }
+    }
 
-            // Try to read the entry type
-            String entryType = parseTextToken().toLowerCase(Locale.ROOT).trim();
+    /// Parses the next entry, string, preamble, or comment
+    ///
+    /// @return `false` if there is no further item
+    private boolean parseNextItem(Map<String, String> meta) throws IOException {
+        boolean found = consumeUncritically('@');
+        if (!found) {
+            return false;
+        }
 
-            switch (entryType) {
-                case "preamble" -> {
-                    database.setPreamble(parsePreamble());
-                    // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
-                    skipOneNewline();
-                    // the preamble is saved verbatim anyway, so the text read so far can be dropped
-                    dumpTextReadSoFarToString();
-                }
-                case "string" ->
-                        parseBibtexString();
-                case "comment" ->
-                        parseJabRefComment(meta);
-                default ->
-                    // Not a comment, preamble, or string. Thus, it is an entry
-                        parseAndAddEntry(entryType);
-            }
+        skipWhitespace();
 
-            skipWhitespace();
+        // Try to read the entry type
+        String entryType = parseTextToken().toLowerCase(Locale.ROOT).trim();
+
+        switch (entryType) {
+            case "preamble" -> {
+                String preamble = parsePreamble();
+                database.setPreamble(preamble);
+                chunkPreamble = preamble;
+                // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
+                skipOneNewline();
+                // the preamble is saved verbatim anyway, so the text read so far can be dropped
+                dumpTextReadSoFarToString();
+            }
+            case "string" ->
+                    parseBibtexString();
+            case "comment" ->
+                    parseJabRefComment(meta);
+            default ->
+                // Not a comment, preamble, or string. Thus, it is an entry
+                    parseAndAddEntry(entryType);
         }
+        return true;
+    }
 
+    private ParserResult finishParsing(Map<String, String> meta) {
         addBibDeskGroupEntriesToJabRefGroups();
 
         int startLine = line;
@@ -344,9 +736,13 @@ public class BibtexParser implements Parser {
             // store complete parsed serialization (comments, type definition + type contents)
 
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
-            entry.setParsedSerialization(parsedSerialization);
+            entry.setParsedSerialization(parsedSerialization, positionOfTextReadLast(parsedSerialization));
 
-            database.insertEntry(entry);
+            if (chunkEntries != null) {
+                chunkEntries.add(entry);
+            } else {
+                database.insertEntry(entry);
+            }
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -499,6 +895,25 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /// Determines the position of the given text in the input, which allows to copy unchanged entries directly from the
+    /// file when saving
+    ///
+    /// @param text text which has been read last, i.e., directly in front of the current position
+    /// @return the position of the text in the input or -1 if the text does not occur unmodified in the input (e.g., as
+    /// parts have been purged from the text)
+    private long positionOfTextReadLast(String text) {
+        int start = position - text.length();
+        if ((start < 0) || !pushedBack.isEmpty()) {
+            return -1;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (input[start + i] != text.charAt(i)) {
+                return -1;
+            }
+        }
+        return inputOffset + start;
+    }
+
     /**
      * Purges the given stringToPurge (if it exists) from the given context
      *
@@ -529,12 +944,16 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String text;
+        if (rawTextCopy == null) {
+            text = new String(input, rawTextStart, position - rawTextStart);
+        } else {
+            text = rawTextCopy.toString();
+            // Pushed back characters are not part of the input at the current position, thus the copy has to be continued
+            rawTextCopy = pushedBack.isEmpty() ? null : new StringBuilder();
         }
-
-        return entry.toString();
+        rawTextStart = position;
+        return text;
     }
 
     /**
@@ -645,15 +1064,23 @@ public class BibtexParser implements Parser {
         };
     }
 
-    private int read() throws IOException {
-        int character = pushbackReader.read();
+    private int read() {
+        int character;
+        if (!pushedBack.isEmpty()) {
+            int last = pushedBack.length() - 1;
+            character = pushedBack.charAt(last);
+            pushedBack.setLength(last);
+        } else if ((position < inputLength) || fillInput()) {
+            character = input[position++];
+        } else {
+            character = -1;
+        }
 
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        if ((rawTextCopy != null) && !isEOFCharacter(character)) {
+            rawTextCopy.append((char) character);
         }
         if (character == '\n') {
             line++;
-            highestColumns.push(column);
             column = 1;
         } else {
             column++;
@@ -661,16 +1088,76 @@ public class BibtexParser implements Parser {
         return character;
     }
 
-    private void unread(int character) throws IOException {
+    private void unread(int character) {
+        if (pushedBack.isEmpty() && (position > 0) && (input[position - 1] == character)) {
+            // Common case: the character just read is put back
+            position--;
+            rawTextStart = Math.min(rawTextStart, position);
+        } else {
+            // An EOF character is pushed back as (char) -1, which is an EOF character, too
+            pushedBack.append((char) character);
+            if ((rawTextCopy == null) && !isEOFCharacter(character)) {
+                rawTextCopy = new StringBuilder().append(input, rawTextStart, position - rawTextStart);
+            }
+        }
+        if ((rawTextCopy != null) && !rawTextCopy.isEmpty() && (rawTextCopy.charAt(rawTextCopy.length() - 1) == character)) {
+            rawTextCopy.setLength(rawTextCopy.length() - 1);
+        }
+
         if (character == '\n') {
             line--;
-            column = highestColumns.pop();
+            column = columnOfPosition();
         } else {
             column--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+    }
+
+    /// Determines the column of the next character to read from [#input] by searching for the start of its line
+    private int columnOfPosition() {
+        int index = position - 1;
+        while ((index >= 0) && (input[index] != '\n')) {
+            index--;
+        }
+        if (index < 0) {
+            return position + 1 + columnOffset;
+        }
+        return position - index;
+    }
+
+    /// When streaming, reads further characters into [#input]. The characters already returned by [#getPureTextFromFile()]
+    /// are dropped before, so that the window only grows if a single item (e.g., an entry) does not fit into it.
+    ///
+    /// @return `true` if characters were read
+    private boolean fillInput() {
+        if (streamingReader == null) {
+            return false;
+        }
+        int keepFrom = rawTextStart;
+        if (keepFrom > 0) {
+            int lastNewLine = keepFrom - 1;
+            while ((lastNewLine >= 0) && (input[lastNewLine] != '\n')) {
+                lastNewLine--;
+            }
+            columnOffset = (lastNewLine < 0) ? (columnOffset + keepFrom) : (keepFrom - lastNewLine - 1);
+            inputOffset += keepFrom;
+            System.arraycopy(input, keepFrom, input, 0, inputLength - keepFrom);
+            inputLength -= keepFrom;
+            position -= keepFrom;
+            rawTextStart = 0;
+        }
+        if (inputLength == input.length) {
+            input = Arrays.copyOf(input, input.length * 2);
+        }
+        try {
+            int charsRead = streamingReader.read(input, inputLength, input.length - inputLength);
+            if (charsRead == -1) {
+                streamingReader = null;
+                return false;
+            }
+            inputLength += charsRead;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -849,7 +1336,7 @@ public class BibtexParser implements Parser {
             }
             skipWhitespace();
         }
-        return value.toString();
+        return stringPool.deduplicate(value);
     }
 
     /**
@@ -862,14 +1349,14 @@ public class BibtexParser implements Parser {
             int character = read();
             if (character == -1) {
                 eof = true;
-                return token.toString();
+                return stringPool.deduplicate(token);
             }
 
             if (Character.isLetterOrDigit((char) character) || (":-_*+./'".indexOf(character) >= 0)) {
                 token.append((char) character);
             } else {
                 unread(character);
-                return token.toString();
+                return stringPool.deduplicate(token);
             }
         }
     }
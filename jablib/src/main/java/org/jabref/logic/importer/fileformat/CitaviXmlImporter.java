@@ -120,6 +120,12 @@ public class CitaviXmlImporter extends Importer implements Parser {
         return false;
     }
 
+    @Override
+    public boolean isRecognizedFormat(@NonNull Path filePath, @NonNull String filePrefix) throws IOException {
+        // The prefix of a zip file does not contain the XML content
+        return isRecognizedFormat(filePath);
+    }
+
     @Override
     public ParserResult importDatabase(@NonNull Path filePath) throws IOException {
         try (BufferedReader reader = getReaderFromZip(filePath)) {
@@ -189,8 +189,12 @@ public class PdfContentImporter extends PdfImporter {
 
     @Override
     public ParserResult importDatabase(Path filePath, PDDocument document) throws IOException {
+        return importDatabase(filePath, document, PdfUtils.getFirstPageContents(document));
+    }
+
+    @Override
+    public ParserResult importDatabase(Path filePath, PDDocument document, String firstPageContents) throws IOException {
         List<BibEntry> result = new ArrayList<>(1);
-        String firstPageContents = PdfUtils.getFirstPageContents(document);
         Optional<String> titleByFontSize = extractTitleFromDocument(document);
         Optional<BibEntry> entry = getEntryFromPDFContent(firstPageContents, OS.NEWLINE, titleByFontSize);
         entry.ifPresent(result::add);
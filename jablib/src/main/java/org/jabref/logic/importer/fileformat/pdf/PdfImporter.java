@@ -60,6 +60,12 @@ public abstract class PdfImporter extends Importer {
     /// Note: The "throws" clause is for "developer convenience" - it is turned into a ParserResult at [#importDatabase(Path)].
     public abstract ParserResult importDatabase(Path filePath, PDDocument document) throws IOException, ParseException;
 
+    /// Same as [#importDatabase(Path, PDDocument)], but the contents of the first page (see [org.jabref.logic.util.PdfUtils#getFirstPageContents(PDDocument)])
+    /// are extracted already. Importers analyzing the first page use them instead of extracting them again.
+    public ParserResult importDatabase(Path filePath, PDDocument document, String firstPageContents) throws IOException, ParseException {
+        return importDatabase(filePath, document);
+    }
+
     @Override
     public StandardFileType getFileType() {
         return StandardFileType.PDF;
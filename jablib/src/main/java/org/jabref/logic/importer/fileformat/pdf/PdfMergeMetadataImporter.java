@@ -7,6 +7,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
@@ -21,6 +25,8 @@ import org.jabref.logic.importer.fetcher.ArXivFetcher;
 import org.jabref.logic.importer.fetcher.DoiFetcher;
 import org.jabref.logic.importer.fetcher.isbntobibtex.IsbnFetcher;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.PdfUtils;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
@@ -38,6 +44,10 @@ import org.slf4j.LoggerFactory;
  * See {@link PdfMergeMetadataImporter#metadataImporters} for the list of importers used.
  * <p>
  * After all importers are applied, this importer tries to fetch additional metadata for the entry using the DOI and ISBN.
+ * <p>
+ * Importers not reading the {@link PDDocument} (i.e., Grobid, which sends the file to a server) run concurrently to
+ * the other importers. The other importers run one after another, as a {@link PDDocument} is not thread-safe. The
+ * metadata of the different identifiers is fetched concurrently.
  */
 public class PdfMergeMetadataImporter extends PdfImporter {
 
@@ -96,64 +106,115 @@ public class PdfMergeMetadataImporter extends PdfImporter {
     }
 
     private List<BibEntry> extractCandidatesFromPdf(Path filePath, PDDocument document) {
-        List<BibEntry> candidates = new ArrayList<>();
-
+        List<Future<List<BibEntry>>> extractions = new ArrayList<>(metadataImporters.size());
         for (PdfImporter metadataImporter : metadataImporters) {
-            try {
-                List<BibEntry> extractedEntries = metadataImporter.importDatabase(filePath, document).getDatabase().getEntries();
-                LOGGER.debug("Importer {} extracted {}", metadataImporter.getName(), extractedEntries);
-                candidates.addAll(extractedEntries);
-            } catch (ParseException | IOException e) {
-                LOGGER.error("Got an exception while importing PDF file", e);
+            if (readsDocument(metadataImporter)) {
+                extractions.add(null);
+            } else {
+                extractions.add(HeadlessExecutorService.INSTANCE.execute(() -> extractCandidates(metadataImporter, filePath, document, "")));
+            }
+        }
+        // Several importers analyze the first page, thus, its contents are extracted once only
+        String firstPageContents = getFirstPageContents(filePath, document);
+        for (int i = 0; i < metadataImporters.size(); i++) {
+            if (extractions.get(i) == null) {
+                extractions.set(i, CompletableFuture.completedFuture(extractCandidates(metadataImporters.get(i), filePath, document, firstPageContents)));
             }
         }
 
+        // The candidates are kept in the order of the importers, as this order determines the priority for merging
+        List<BibEntry> candidates = new ArrayList<>();
+        extractions.forEach(extraction -> candidates.addAll(getResult(extraction, List.of())));
         return candidates;
     }
 
+    private static boolean readsDocument(PdfImporter metadataImporter) {
+        return !(metadataImporter instanceof PdfGrobidImporter);
+    }
+
+    private static String getFirstPageContents(Path filePath, PDDocument document) {
+        try {
+            return PdfUtils.getFirstPageContents(document);
+        } catch (IOException e) {
+            LOGGER.error("Could not read the first page of PDF file {}", filePath, e);
+            return "";
+        }
+    }
+
+    private static List<BibEntry> extractCandidates(PdfImporter metadataImporter, Path filePath, PDDocument document, String firstPageContents) {
+        try {
+            List<BibEntry> extractedEntries = metadataImporter.importDatabase(filePath, document, firstPageContents).getDatabase().getEntries();
+            LOGGER.debug("Importer {} extracted {}", metadataImporter.getName(), extractedEntries);
+            return extractedEntries;
+        } catch (ParseException | IOException e) {
+            LOGGER.error("Got an exception while importing PDF file", e);
+            return List.of();
+        }
+    }
+
     private List<BibEntry> fetchIdsOfCandidates(List<BibEntry> candidates) {
-        List<BibEntry> fetchedCandidates = new ArrayList<>();
+        List<Callable<Optional<BibEntry>>> fetches = new ArrayList<>();
 
         // Collects Ids already looked for - to avoid multiple calls for one id
         final Set<String> fetchedIds = new HashSet<>();
 
         for (BibEntry candidate : candidates) {
-            fetchData(candidate, StandardField.DOI, doiFetcher, fetchedIds, fetchedCandidates);
+            fetchData(candidate, StandardField.DOI, doiFetcher, fetchedIds, fetches);
 
             // This code assumes that `eprint` field refers to an arXiv preprint, which is not correct.
             // One should also check if `archivePrefix` is equal to `arXiv`, and handle other cases too.
-            fetchData(candidate, StandardField.EPRINT, arXivFetcher, fetchedIds, fetchedCandidates);
+            fetchData(candidate, StandardField.EPRINT, arXivFetcher, fetchedIds, fetches);
 
-            fetchData(candidate, StandardField.ISBN, isbnFetcher, fetchedIds, fetchedCandidates);
+            fetchData(candidate, StandardField.ISBN, isbnFetcher, fetchedIds, fetches);
 
             // TODO: Handle URLs too.
             // However, it may have problems if URL refers to the same identifier in DOI, ISBN, or arXiv.
         }
 
+        // The fetches wait for different servers, thus, they run concurrently. The results are kept in the order of the ids.
+        List<BibEntry> fetchedCandidates = new ArrayList<>();
+        HeadlessExecutorService.INSTANCE.executeAll(fetches)
+                                        .forEach(fetch -> getResult(fetch, Optional.empty()).ifPresent(fetchedCandidates::add));
         return fetchedCandidates;
     }
 
     /**
-     * @param candidate         The BibEntry to look for the field
-     * @param field             The field to look for
-     * @param fetcher           The fetcher to use
-     * @param fetchedIds        The already fetched ids (will be updated)
-     * @param fetchedCandidates New candidate (will be updated)
+     * @param candidate  The BibEntry to look for the field
+     * @param field      The field to look for
+     * @param fetcher    The fetcher to use
+     * @param fetchedIds The already fetched ids (will be updated)
+     * @param fetches    The fetches to run (will be updated)
      */
-    private void fetchData(BibEntry candidate, StandardField field, IdBasedFetcher fetcher, Set<String> fetchedIds, List<BibEntry> fetchedCandidates) {
+    private void fetchData(BibEntry candidate, StandardField field, IdBasedFetcher fetcher, Set<String> fetchedIds, List<Callable<Optional<BibEntry>>> fetches) {
         candidate.getField(field)
                  .filter(id -> !fetchedIds.contains(id))
                  .ifPresent(id -> {
                      fetchedIds.add(id);
-                     try {
-                         fetcher.performSearchById(id)
-                                .ifPresent(fetchedCandidates::add);
-                     } catch (FetcherException e) {
-                         LOGGER.error("Fetching failed for id \"{}\".", id, e);
-                     }
+                     fetches.add(() -> {
+                         try {
+                             return fetcher.performSearchById(id);
+                         } catch (FetcherException e) {
+                             LOGGER.error("Fetching failed for id \"{}\".", id, e);
+                             return Optional.empty();
+                         }
+                     });
                  });
     }
 
+    /**
+     * Waits for the given result. Failures were logged already or are logged here, thus, an empty result is returned then.
+     */
+    private static <T> T getResult(Future<T> future, T emptyResult) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Got an exception while importing PDF file", e.getCause());
+        }
+        return emptyResult;
+    }
+
     private static BibEntry mergeCandidates(Stream<BibEntry> candidates) {
         final BibEntry entry = new BibEntry();
         candidates.forEach(entry::mergeWith);
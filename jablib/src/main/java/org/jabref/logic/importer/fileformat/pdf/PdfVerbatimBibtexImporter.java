@@ -27,8 +27,12 @@ public class PdfVerbatimBibtexImporter extends PdfImporter {
 
     @Override
     public ParserResult importDatabase(Path filePath, PDDocument document) throws IOException, ParseException {
+        return importDatabase(filePath, document, PdfUtils.getFirstPageContents(document));
+    }
+
+    @Override
+    public ParserResult importDatabase(Path filePath, PDDocument document, String firstPageContents) throws ParseException {
         List<BibEntry> result;
-        String firstPageContents = PdfUtils.getFirstPageContents(document);
         BibtexParser parser = new BibtexParser(importFormatPreferences);
         // TODO: Test if it will accept page with partial BibTeX and partial natural language content.
         result = parser.parseEntries(firstPageContents);
@@ -6,43 +6,100 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 import org.jabref.logic.util.strings.StringSimilarity;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
+    /// Names of the maps in the journal list MV file. The indexes map the respective abbreviation to the full name.
+    public static final String FULL_TO_ABBREVIATION_MAP = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL_NAME_MAP = "AbbreviationToFullName";
+    public static final String DOTLESS_TO_FULL_NAME_MAP = "DotlessToFullName";
+    public static final String SHORTEST_UNIQUE_TO_FULL_NAME_MAP = "ShortestUniqueToFullName";
+
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    /// Page cache of the journal list MV file (in MB)
+    private static final int STORE_CACHE_SIZE = 4;
+
+    /// Bound for the number of abbreviations read from the journal list MV file kept in memory
+    private static final int MAX_CACHED_ABBREVIATIONS = 10_000;
+
+    /// Bound for the number of cached fuzzy lookups. The cache is cleared when reaching it.
+    private static final int MAX_CACHED_FUZZY_MATCHES = 10_000;
+
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, Abbreviation> abbreviationToAbbreviationObject;
+    private final Map<String, Abbreviation> dotlessToAbbreviationObject;
+    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
     private final StringSimilarity similarity = new StringSimilarity();
     private final LtwaRepository ltwaRepository;
+    /// The journal list MV file if the abbreviations are looked up in it
+    private final @Nullable MVStore store;
+
+    /// Read from the journal list MV file if it contains the index. Otherwise, built on the first fuzzy lookup, as it is
+    /// not needed if all journal names are found exactly.
+    private volatile @Nullable JournalNameIndex fullNameIndex;
+    /// Results of fuzzy lookups in the built-in abbreviations, which do not change. Journal names which are not found are
+    /// typically looked up again for each entry.
+    private final Map<String, Optional<Abbreviation>> fuzzyMatchCache = new ConcurrentHashMap<>();
 
     /**
      * Initializes the internal data based on the abbreviations found in the given MV file
+     * <p>
+     * If the file contains the prebuilt indexes (see {@link #ABBREVIATION_TO_FULL_NAME_MAP} and the other map names),
+     * the abbreviations are looked up in the file directly. The file is kept open for that purpose and the abbreviations
+     * are not loaded into memory. The file is closed by {@link #close()}. Otherwise, all abbreviations are read into
+     * memory.
      *
      * @param journalList    The path to the MV file containing the journal abbreviations.
      * @param ltwaRepository The LTWA repository to use for abbreviations.
      */
     public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
+        this.ltwaRepository = ltwaRepository;
+
+        MVStore store = new MVStore.Builder().readOnly().cacheSize(STORE_CACHE_SIZE).fileName(journalList.toAbsolutePath().toString()).open();
+        if (store.hasMap(ABBREVIATION_TO_FULL_NAME_MAP) && store.hasMap(DOTLESS_TO_FULL_NAME_MAP) && store.hasMap(SHORTEST_UNIQUE_TO_FULL_NAME_MAP)) {
+            this.store = store;
+            MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP);
+            // Shared by all indexes, so that an abbreviation is completed once only, whichever name it is looked up by
+            Cache<String, Abbreviation> completedAbbreviations = Caffeine.newBuilder().maximumSize(MAX_CACHED_ABBREVIATIONS).build();
+            fullToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, null, completedAbbreviations);
+            abbreviationToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, store.openMap(ABBREVIATION_TO_FULL_NAME_MAP), completedAbbreviations);
+            dotlessToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, store.openMap(DOTLESS_TO_FULL_NAME_MAP), completedAbbreviations);
+            shortestUniqueToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, store.openMap(SHORTEST_UNIQUE_TO_FULL_NAME_MAP), completedAbbreviations);
+            if (JournalNameIndex.isStored(store)) {
+                fullNameIndex = JournalNameIndex.open(store, mvFullToAbbreviationObject.keyList());
+            }
+            return;
+        }
+
+        // Journal list generated without indexes
+        this.store = null;
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToAbbreviationObject = new HashMap<>();
+        dotlessToAbbreviationObject = new HashMap<>();
+        shortestUniqueToAbbreviationObject = new HashMap<>();
+        try (store) {
+            MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP);
             mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
                 String abbrevationString = abbreviation.getAbbreviation();
                 String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
@@ -57,7 +114,6 @@ public class JournalAbbreviationRepository {
                 shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
             });
         }
-        this.ltwaRepository = ltwaRepository;
     }
 
     /**
@@ -69,11 +125,33 @@ public class JournalAbbreviationRepository {
                 "Demo",
                 "Dem"
         );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        fullToAbbreviationObject = new HashMap<>(Map.of("Demonstration", newAbbreviation));
+        abbreviationToAbbreviationObject = new HashMap<>(Map.of("Demo", newAbbreviation));
+        dotlessToAbbreviationObject = new HashMap<>(Map.of("Demo", newAbbreviation));
+        shortestUniqueToAbbreviationObject = new HashMap<>(Map.of("Dem", newAbbreviation));
         ltwaRepository = new LtwaRepository();
+        store = null;
+    }
+
+    /**
+     * Writes the indexes from the abbreviations to the full names into a journal list MV file, so that abbreviations can
+     * be looked up without loading the complete list into memory. As when loading the list into memory, the last full
+     * name (in key order) wins if several journals share an abbreviation. The index of the full names used for fuzzy
+     * lookups is written, too.
+     */
+    public static void writeIndexes(MVStore store) {
+        MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION_MAP);
+        MVMap<String, String> abbreviationToFullName = store.openMap(ABBREVIATION_TO_FULL_NAME_MAP);
+        MVMap<String, String> dotlessToFullName = store.openMap(DOTLESS_TO_FULL_NAME_MAP);
+        MVMap<String, String> shortestUniqueToFullName = store.openMap(SHORTEST_UNIQUE_TO_FULL_NAME_MAP);
+        fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+            // The name is transient in Abbreviation, thus the abbreviation is completed using the key
+            Abbreviation abbreviation = new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+            abbreviationToFullName.put(abbreviation.getAbbreviation(), name);
+            dotlessToFullName.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFullName.put(abbreviation.getShortestUniqueAbbreviation(), name);
+        });
+        JournalNameIndex.write(store, fullToAbbreviation.keyList());
     }
 
     private static boolean isMatched(String name, Abbreviation abbreviation) {
@@ -165,7 +243,35 @@ public class JournalAbbreviationRepository {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        Optional<Abbreviation> cachedMatch = fuzzyMatchCache.get(input);
+        if (cachedMatch != null) {
+            return cachedMatch;
+        }
+        List<Abbreviation> similarAbbreviations = getFullNameIndex().findWithinDistance(input, StringSimilarity.METRIC_THRESHOLD)
+                                                                      .stream()
+                                                                      .map(fullToAbbreviationObject::get)
+                                                                      .filter(Objects::nonNull)
+                                                                      .toList();
+        Optional<Abbreviation> match = findBestFuzzyMatched(similarAbbreviations, input);
+        if (fuzzyMatchCache.size() >= MAX_CACHED_FUZZY_MATCHES) {
+            fuzzyMatchCache.clear();
+        }
+        fuzzyMatchCache.put(input, match);
+        return match;
+    }
+
+    private JournalNameIndex getFullNameIndex() {
+        JournalNameIndex index = fullNameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = fullNameIndex;
+                if (index == null) {
+                    index = new JournalNameIndex(List.copyOf(fullToAbbreviationObject.keySet()));
+                    fullNameIndex = index;
+                }
+            }
+        }
+        return index;
     }
 
     private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
@@ -232,4 +338,12 @@ public class JournalAbbreviationRepository {
     public Collection<Abbreviation> getAllLoaded() {
         return fullToAbbreviationObject.values();
     }
+
+    /// Closes the journal list MV file. The built-in abbreviations cannot be looked up afterwards.
+    @Override
+    public void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+/// Index of journal names to find all names within a given edit distance (Levenshtein, ignoring case) of a query
+/// without comparing the query with each name.
+///
+/// The index maps each trigram to the names containing it. It uses the q-gram lemma: if the edit distance of two strings
+/// is at most `k`, they share at least `max(length) + 2 - 3k` trigrams (counted with multiplicity, strings padded with
+/// two characters at both ends), as each edit operation destroys at most three trigrams. Only names sharing enough
+/// trigrams with the query are compared using the edit distance. Short names, for which the lemma does not restrict the
+/// candidates, are found using their length.
+///
+/// The result is exactly the set of names within the distance, as a linear scan would find it. The index is immutable and thus thread-safe.
+///
+/// The index can be stored in a journal list MV file (see [#write(MVStore, List)]). A stored index is read on demand
+/// and not loaded into memory. The names are referenced by their position in the given list, thus the stored index
+/// refers to the keys of the map of full names by their key order.
+class JournalNameIndex {
+
+    /// Names of the maps storing the index in a journal list MV file
+    static final String TRIGRAMS_MAP = "FullNameTrigrams";
+    static final String LENGTHS_MAP = "FullNameLengths";
+
+    private static final int Q = 3;
+    private static final char PADDING = '\u0000';
+    /// A posting stores the name index in the upper bits and the number of occurrences of the trigram in the lower bits
+    private static final int COUNT_BITS = 8;
+    private static final int MAX_COUNT = (1 << COUNT_BITS) - 1;
+
+    private final List<String> names;
+    private final Map<Long, int[]> postings;
+    /// Indices of the names by length, for names too short to be found by their trigrams
+    private final Map<Integer, int[]> namesByLength;
+
+    private JournalNameIndex(List<String> names, Map<Long, int[]> postings, Map<Integer, int[]> namesByLength) {
+        this.names = names;
+        this.postings = postings;
+        this.namesByLength = namesByLength;
+    }
+
+    /// Builds the index in memory
+    JournalNameIndex(List<String> names) {
+        this(names, new HashMap<>(), new HashMap<>());
+        Map<Long, PostingsBuilder> postingsBuilders = new HashMap<>();
+        Map<Integer, PostingsBuilder> lengthBuilders = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).toLowerCase(Locale.ENGLISH);
+            lengthBuilders.computeIfAbsent(name.length(), _ -> new PostingsBuilder()).add(i);
+            for (Map.Entry<Long, Integer> trigram : countTrigrams(name).entrySet()) {
+                postingsBuilders.computeIfAbsent(trigram.getKey(), _ -> new PostingsBuilder())
+                                .add((i << COUNT_BITS) | Math.min(trigram.getValue(), MAX_COUNT));
+            }
+        }
+        postingsBuilders.forEach((trigram, builder) -> postings.put(trigram, builder.build()));
+        lengthBuilders.forEach((length, builder) -> namesByLength.put(length, builder.build()));
+    }
+
+    static boolean isStored(MVStore store) {
+        return store.hasMap(TRIGRAMS_MAP) && store.hasMap(LENGTHS_MAP);
+    }
+
+    /// Opens the index stored in the given store
+    ///
+    /// @param names the names the index was written for, in the same order
+    static JournalNameIndex open(MVStore store, List<String> names) {
+        return new JournalNameIndex(names, store.openMap(TRIGRAMS_MAP), store.openMap(LENGTHS_MAP));
+    }
+
+    /// Writes the index of the given names to the given store
+    static void write(MVStore store, List<String> names) {
+        JournalNameIndex index = new JournalNameIndex(names);
+        MVMap<Long, int[]> storedPostings = store.openMap(TRIGRAMS_MAP);
+        storedPostings.putAll(index.postings);
+        MVMap<Integer, int[]> storedNamesByLength = store.openMap(LENGTHS_MAP);
+        storedNamesByLength.putAll(index.namesByLength);
+    }
+
+    /// @return all names with an edit distance (ignoring case) of at most `maxDistance` to the given name
+    List<String> findWithinDistance(String name, int maxDistance) {
+        String query = name.toLowerCase(Locale.ENGLISH);
+        int queryLength = query.length();
+        List<String> result = new ArrayList<>();
+
+        // Names sharing trigrams with the query
+        int[] sharedTrigrams = new int[names.size()];
+        List<Integer> touched = new ArrayList<>();
+        for (Map.Entry<Long, Integer> trigram : countTrigrams(query).entrySet()) {
+            int[] namesWithTrigram = postings.get(trigram.getKey());
+            if (namesWithTrigram == null) {
+                continue;
+            }
+            for (int posting : namesWithTrigram) {
+                int index = posting >>> COUNT_BITS;
+                if (sharedTrigrams[index] == 0) {
+                    touched.add(index);
+                }
+                sharedTrigrams[index] += Math.min(posting & MAX_COUNT, trigram.getValue());
+            }
+        }
+        // Lower bound of the required trigrams of all names, to skip reading most of the names
+        int leastRequired = minimalSharedTrigrams(queryLength, 0, maxDistance);
+        for (int index : touched) {
+            if (sharedTrigrams[index] < leastRequired) {
+                continue;
+            }
+            String candidate = names.get(index);
+            String lowerCaseCandidate = candidate.toLowerCase(Locale.ENGLISH);
+            int nameLength = lowerCaseCandidate.length();
+            int required = minimalSharedTrigrams(queryLength, nameLength, maxDistance);
+            if ((Math.abs(nameLength - queryLength) <= maxDistance)
+                    && (required > 0)
+                    && (sharedTrigrams[index] >= required)
+                    && (editDistance(query, lowerCaseCandidate, maxDistance) <= maxDistance)) {
+                result.add(candidate);
+            }
+        }
+
+        // Names for which sharing no trigram at all is possible
+        for (int nameLength = Math.max(0, queryLength - maxDistance); nameLength <= queryLength + maxDistance; nameLength++) {
+            if (minimalSharedTrigrams(queryLength, nameLength, maxDistance) > 0) {
+                continue;
+            }
+            for (int index : namesByLength.getOrDefault(nameLength, new int[0])) {
+                String candidate = names.get(index);
+                if (editDistance(query, candidate.toLowerCase(Locale.ENGLISH), maxDistance) <= maxDistance) {
+                    result.add(candidate);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int minimalSharedTrigrams(int length, int otherLength, int maxDistance) {
+        return (Math.max(length, otherLength) + Q - 1) - (Q * maxDistance);
+    }
+
+    private static Map<Long, Integer> countTrigrams(String text) {
+        String padded = String.valueOf(PADDING).repeat(Q - 1) + text + String.valueOf(PADDING).repeat(Q - 1);
+        Map<Long, Integer> trigrams = new HashMap<>();
+        for (int i = 0; i + Q <= padded.length(); i++) {
+            long trigram = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+            trigrams.merge(trigram, 1, Integer::sum);
+        }
+        return trigrams;
+    }
+
+    /// Levenshtein distance which stops as soon as the distance exceeds the given maximum
+    ///
+    /// @return the distance or a value greater than `maxDistance`
+    static int editDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + ((first.charAt(i - 1) == second.charAt(j - 1)) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private static class PostingsBuilder {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] build() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
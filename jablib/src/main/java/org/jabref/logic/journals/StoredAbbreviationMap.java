@@ -0,0 +1,95 @@
+package org.jabref.logic.journals;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.h2.mvstore.MVMap;
+import org.jspecify.annotations.Nullable;
+
+/// Read-only view on the abbreviations stored in a journal list MV file, looked up by one of the prebuilt indexes.
+/// Nothing is copied to the heap; the pages of the MV file are read on demand.
+///
+/// The stored abbreviations do not contain the full name (it is the key and transient in [Abbreviation]). Thus, an
+/// abbreviation is completed when it is read. Recently completed abbreviations are cached, as the same journals are
+/// typically looked up again and again.
+class StoredAbbreviationMap extends AbstractMap<String, Abbreviation> {
+
+    private final MVMap<String, Abbreviation> fullToAbbreviation;
+    private final @Nullable MVMap<String, String> keyToFullName;
+    private final Cache<String, Abbreviation> completedAbbreviations;
+
+    /// @param keyToFullName          index mapping the keys of this map to full names. `null` if the keys are the full names.
+    /// @param completedAbbreviations cache of the completed abbreviations by their full name
+    StoredAbbreviationMap(MVMap<String, Abbreviation> fullToAbbreviation, @Nullable MVMap<String, String> keyToFullName, Cache<String, Abbreviation> completedAbbreviations) {
+        this.fullToAbbreviation = fullToAbbreviation;
+        this.keyToFullName = keyToFullName;
+        this.completedAbbreviations = completedAbbreviations;
+    }
+
+    @Override
+    public @Nullable Abbreviation get(Object key) {
+        if (!(key instanceof String keyString)) {
+            return null;
+        }
+        String fullName = keyToFullName == null ? keyString : keyToFullName.get(keyString);
+        if (fullName == null) {
+            return null;
+        }
+        return completedAbbreviations.get(fullName, this::readCompleted);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keys().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return keys().size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return keys().keySet();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Abbreviation>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Abbreviation>> iterator() {
+                Iterator<String> keyIterator = keys().keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keyIterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Abbreviation> next() {
+                        String key = keyIterator.next();
+                        return Map.entry(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return StoredAbbreviationMap.this.size();
+            }
+        };
+    }
+
+    private MVMap<String, ?> keys() {
+        return keyToFullName == null ? fullToAbbreviation : keyToFullName;
+    }
+
+    private @Nullable Abbreviation readCompleted(String fullName) {
+        Abbreviation stored = fullToAbbreviation.get(fullName);
+        return stored == null ? null : new Abbreviation(fullName, stored.getAbbreviation(), stored.getShortestUniqueAbbreviation());
+    }
+}
@@ -0,0 +1,53 @@
+package org.jabref.logic.net;
+
+import java.net.URL;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Limits the number of requests per second sent to a single host.
+///
+/// There is one token bucket (Guava's [RateLimiter]) per host, shared by all fetcher API calls (see [URLDownload#asApiInputStream()]).
+/// Hosts without an explicit rate use the default rate.
+public class HostRateLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HostRateLimiter.class);
+
+    private final double defaultPermitsPerSecond;
+    private final Map<String, Double> configuredRates = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(double defaultPermitsPerSecond) {
+        this.defaultPermitsPerSecond = defaultPermitsPerSecond;
+    }
+
+    /// Sets the rate for the given host. Takes effect immediately, also for requests already waiting.
+    public void setRate(@NonNull String host, double permitsPerSecond) {
+        String key = host.toLowerCase(Locale.ROOT);
+        configuredRates.put(key, permitsPerSecond);
+        limiters.computeIfAbsent(key, _ -> RateLimiter.create(permitsPerSecond)).setRate(permitsPerSecond);
+    }
+
+    /// Blocks until a request to the host of the given URL may be sent.
+    ///
+    /// @return the time spent waiting in seconds
+    public double acquire(@NonNull URL url) {
+        String host = url.getHost();
+        if ((host == null) || host.isEmpty()) {
+            // Local resources (e.g., file:) are not limited
+            return 0.0;
+        }
+        String key = host.toLowerCase(Locale.ROOT);
+        double waitingTime = limiters.computeIfAbsent(key, _ -> RateLimiter.create(configuredRates.getOrDefault(key, defaultPermitsPerSecond)))
+                                     .acquire();
+        if (waitingTime > 0) {
+            LOGGER.trace("Waited {}s before sending request to {}", waitingTime, key);
+        }
+        return waitingTime;
+    }
+}
@@ -0,0 +1,296 @@
+package org.jabref.logic.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Persistent cache for responses of HTTP GET requests issued by [URLDownload].
+///
+/// Responses are identified by a request key (the URL plus the request headers), because some services return different
+/// content for the same URL depending on, e.g., the `Accept` header.
+/// Each response is stored as two files named by the SHA-256 of the request key: the body and its metadata (validators and freshness).
+/// The request key itself is not stored, as it may contain API keys.
+/// A fresh response (`Cache-Control: max-age` or `Expires`) is served without any network access.
+/// A stale response is revalidated by a conditional request using `ETag` and `Last-Modified`.
+/// Files are replaced atomically, so that a reader (e.g., another JabRef instance sharing the cache directory) never sees a partially written file.
+///
+/// The total size of the stored bodies is capped. The least recently used responses are evicted first.
+public class HttpResponseCache {
+
+    public static final long DEFAULT_MAX_SIZE = 100L * 1024 * 1024;
+
+    /// Larger responses (e.g., fulltext PDFs) are not cached.
+    public static final int MAX_ENTRY_SIZE = 2 * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_EXTENSION = ".body";
+    private static final String METADATA_EXTENSION = ".properties";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "last-modified";
+    private static final String KEY_FRESH_UNTIL = "fresh-until";
+
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age\\s*=\\s*\"?(\\d+)\"?");
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /// Total size of all bodies on disk. Determined on first write.
+    private long currentSize = -1;
+
+    public record CachedResponse(
+            byte[] body,
+            Optional<String> eTag,
+            Optional<String> lastModified,
+            Instant freshUntil) {
+
+        public boolean isFresh() {
+            return Instant.now().isBefore(freshUntil);
+        }
+    }
+
+    public HttpResponseCache(@NonNull Path directory, long maxSizeInBytes) {
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    public synchronized Optional<CachedResponse> get(@NonNull String requestKey) {
+        String key = keyOf(requestKey);
+        Path metadataFile = directory.resolve(key + METADATA_EXTENSION);
+        Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+        if (!Files.exists(metadataFile) || !Files.exists(bodyFile)) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        try {
+            Properties metadata = readMetadata(metadataFile);
+            byte[] body = Files.readAllBytes(bodyFile);
+            // The modification time of the metadata file serves as "last access" for the LRU eviction
+            Files.setLastModifiedTime(metadataFile, FileTime.from(Instant.now()));
+            CachedResponse response = new CachedResponse(
+                    body,
+                    Optional.ofNullable(metadata.getProperty(KEY_ETAG)),
+                    Optional.ofNullable(metadata.getProperty(KEY_LAST_MODIFIED)),
+                    Instant.ofEpochMilli(Long.parseLong(metadata.getProperty(KEY_FRESH_UNTIL, "0"))));
+            if (response.isFresh()) {
+                hits.incrementAndGet();
+            }
+            return Optional.of(response);
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("Could not read cached response for {}", requestKey, e);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    /// Stores the body of the given (successful) response, if the response headers allow caching it.
+    public synchronized void put(@NonNull String requestKey, @NonNull HttpURLConnection connection, byte[] body) {
+        if (!isCacheable(connection) || (body.length > MAX_ENTRY_SIZE)) {
+            return;
+        }
+
+        String key = keyOf(requestKey);
+        Properties metadata = new Properties();
+        Optional.ofNullable(connection.getHeaderField("ETag")).ifPresent(eTag -> metadata.setProperty(KEY_ETAG, eTag));
+        Optional.ofNullable(connection.getHeaderField("Last-Modified")).ifPresent(lastModified -> metadata.setProperty(KEY_LAST_MODIFIED, lastModified));
+        metadata.setProperty(KEY_FRESH_UNTIL, String.valueOf(freshUntil(connection).toEpochMilli()));
+
+        try {
+            Files.createDirectories(directory);
+            ensureCurrentSizeKnown();
+            Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+            currentSize -= Files.exists(bodyFile) ? Files.size(bodyFile) : 0;
+            writeAtomically(bodyFile, body);
+            writeMetadata(directory.resolve(key + METADATA_EXTENSION), metadata);
+            currentSize += body.length;
+            evictIfNecessary();
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache response for {}", requestKey, e);
+        }
+    }
+
+    /// Called after the server answered a conditional request with `304 Not Modified`.
+    /// Updates the freshness of the cached response based on the headers of the new response.
+    public synchronized void markRevalidated(@NonNull String requestKey, @NonNull HttpURLConnection connection) {
+        revalidations.incrementAndGet();
+        Path metadataFile = directory.resolve(keyOf(requestKey) + METADATA_EXTENSION);
+        try {
+            Properties metadata = readMetadata(metadataFile);
+            metadata.setProperty(KEY_FRESH_UNTIL, String.valueOf(freshUntil(connection).toEpochMilli()));
+            writeMetadata(metadataFile, metadata);
+        } catch (IOException e) {
+            LOGGER.debug("Could not update cached response for {}", requestKey, e);
+        }
+    }
+
+    public synchronized void clear() {
+        currentSize = 0;
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not clear HTTP cache at {}", directory, e);
+            currentSize = -1;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getRevalidationCount() {
+        return revalidations.get();
+    }
+
+    /// A response is cacheable if it was successful, does not forbid storing, and can either be served fresh or be revalidated.
+    static boolean isCacheable(HttpURLConnection connection) {
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        String cacheControl = Optional.ofNullable(connection.getHeaderField("Cache-Control")).orElse("").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-store")) {
+            return false;
+        }
+        return (connection.getHeaderField("ETag") != null)
+                || (connection.getHeaderField("Last-Modified") != null)
+                || freshUntil(connection).isAfter(Instant.now());
+    }
+
+    private static Instant freshUntil(HttpURLConnection connection) {
+        Instant now = Instant.now();
+        String cacheControl = Optional.ofNullable(connection.getHeaderField("Cache-Control")).orElse("").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-cache")) {
+            return now;
+        }
+        Matcher maxAge = MAX_AGE_PATTERN.matcher(cacheControl);
+        if (maxAge.find()) {
+            try {
+                return now.plusSeconds(Long.parseLong(maxAge.group(1)));
+            } catch (NumberFormatException e) {
+                return now;
+            }
+        }
+        String expires = connection.getHeaderField("Expires");
+        if (expires != null) {
+            try {
+                return ZonedDateTime.parse(expires, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            } catch (DateTimeParseException e) {
+                // Invalid dates (such as "0") mean "already expired"
+                return now;
+            }
+        }
+        return now;
+    }
+
+    private void ensureCurrentSizeKnown() throws IOException {
+        if (currentSize >= 0) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            currentSize = files.filter(file -> file.getFileName().toString().endsWith(BODY_EXTENSION))
+                               .mapToLong(file -> file.toFile().length())
+                               .sum();
+        }
+    }
+
+    private void evictIfNecessary() throws IOException {
+        if (currentSize <= maxSizeInBytes) {
+            return;
+        }
+        List<Path> metadataFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            metadataFiles = new ArrayList<>(files.filter(file -> file.getFileName().toString().endsWith(METADATA_EXTENSION)).toList());
+        }
+        metadataFiles.sort(Comparator.comparingLong(file -> file.toFile().lastModified()));
+
+        for (Path metadataFile : metadataFiles) {
+            if (currentSize <= maxSizeInBytes) {
+                return;
+            }
+            String fileName = metadataFile.getFileName().toString();
+            Path bodyFile = directory.resolve(fileName.substring(0, fileName.length() - METADATA_EXTENSION.length()) + BODY_EXTENSION);
+            if (Files.exists(bodyFile)) {
+                currentSize -= Files.size(bodyFile);
+                Files.delete(bodyFile);
+            }
+            Files.deleteIfExists(metadataFile);
+        }
+    }
+
+    private static Properties readMetadata(Path metadataFile) throws IOException {
+        Properties metadata = new Properties();
+        try (InputStream inputStream = Files.newInputStream(metadataFile)) {
+            metadata.load(inputStream);
+        }
+        return metadata;
+    }
+
+    private void writeMetadata(Path metadataFile, Properties metadata) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        metadata.store(outputStream, null);
+        writeAtomically(metadataFile, outputStream.toByteArray());
+    }
+
+    private void writeAtomically(Path file, byte[] content) throws IOException {
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), TEMPORARY_EXTENSION);
+        try {
+            Files.write(temporaryFile, content);
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static String keyOf(String requestKey) {
+        return Hashing.sha256().hashString(requestKey, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -2,11 +2,13 @@ package org.jabref.logic.net;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.SequenceInputStream;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.CookieHandler;
@@ -32,6 +34,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -62,7 +66,14 @@ import org.slf4j.LoggerFactory;
  * </code>
  * <br/><br/>
  * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * which uses an already opened connection). The JDK keeps connections alive and reuses them for subsequent requests to the same host
+ * as long as the response streams are fully read and closed.
+ * <p>
+ * If a {@link HttpResponseCache} is configured using {@link #setResponseCache(HttpResponseCache)}, GET requests issued by
+ * {@link #asString()}, {@link #asApiString()} and {@link #asApiInputStream()} are served from and stored into that cache.
+ * {@link #asInputStream()} and {@link #toFile(Path)} always stream the response, so that file downloads are neither buffered nor cached.
+ * <p>
+ * Fetcher API calls issued by {@link #asApiString()} and {@link #asApiInputStream()} are throttled per host by a {@link HostRateLimiter} shared by all instances.
  */
 public class URLDownload {
 
@@ -71,6 +82,14 @@ public class URLDownload {
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
     private static final int MAX_RETRIES = 3;
 
+    // Well below the limits documented by the services we query, but prevents hammering a single host when fetching in parallel
+    private static final HostRateLimiter HOST_RATE_LIMITER = new HostRateLimiter(10.0);
+
+    private static final Consumer<URLConnection> NO_RESPONSE_LISTENER = _ -> {
+    };
+
+    private static volatile HttpResponseCache responseCache;
+
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
@@ -109,6 +128,21 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Sets the cache used for all subsequent downloads. Pass {@code null} to disable caching.
+     */
+    public static void setResponseCache(HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
+    public static Optional<HttpResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    public static HostRateLimiter getHostRateLimiter() {
+        return HOST_RATE_LIMITER;
+    }
+
     public URL getSource() {
         return source;
     }
@@ -202,7 +236,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws FetcherException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -212,7 +246,42 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws FetcherException {
-        return asString(encoding, this.openConnection());
+        if (!isCacheable()) {
+            return asString(encoding, this.openConnection());
+        }
+        return asString(encoding, openCachedInputStream(false, NO_RESPONSE_LISTENER));
+    }
+
+    /**
+     * Downloads the response of a fetcher's API call to a String. Uses UTF-8 as encoding.
+     * <p>
+     * In contrast to {@link #asString()}, the request is throttled per host (see {@link #asApiInputStream()}).
+     *
+     * @return the downloaded string
+     */
+    public String asApiString() throws FetcherException {
+        return asApiString(NO_RESPONSE_LISTENER);
+    }
+
+    /**
+     * Downloads the response of a fetcher's API call to a String. Uses UTF-8 as encoding.
+     *
+     * @param responseListener called with the connection if the response is received from the server (and not served
+     *                         from the cache), e.g., to read rate limit headers
+     * @return the downloaded string
+     */
+    public String asApiString(Consumer<URLConnection> responseListener) throws FetcherException {
+        return asString(StandardCharsets.UTF_8, openApiInputStream(responseListener));
+    }
+
+    private static String asString(Charset encoding, InputStream inputStream) throws FetcherException {
+        try (InputStream input = new BufferedInputStream(inputStream);
+             Writer output = new StringWriter()) {
+            copy(input, output, encoding);
+            return output.toString();
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
     }
 
     /**
@@ -233,10 +302,8 @@ public class URLDownload {
      * @return the downloaded string
      */
     public static String asString(Charset encoding, URLConnection connection) throws FetcherException {
-        try (InputStream input = new BufferedInputStream(connection.getInputStream());
-             Writer output = new StringWriter()) {
-            copy(input, output, encoding);
-            return output.toString();
+        try {
+            return asString(encoding, connection.getInputStream());
         } catch (IOException e) {
             throw new FetcherException("Error downloading", e);
         }
@@ -276,7 +343,12 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws FetcherException {
-        HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
+        return asInputStream(false, NO_RESPONSE_LISTENER);
+    }
+
+    private ProgressInputStream asInputStream(boolean rateLimited, Consumer<URLConnection> responseListener) throws FetcherException {
+        HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection(this.parameters, rateLimited);
+        responseListener.accept(urlConnection);
 
         int responseCode;
         try {
@@ -300,6 +372,23 @@ public class URLDownload {
         return new ProgressInputStream(new BufferedInputStream(inputStream), fileSize);
     }
 
+    /**
+     * Takes the response of a fetcher's API call as the source for an input stream.
+     * <p>
+     * In contrast to {@link #asInputStream()}, the request is throttled per host and the response is served from and stored into the
+     * {@link HttpResponseCache}, if one is configured. Small responses are read completely, so do not use this for file downloads.
+     */
+    public InputStream asApiInputStream() throws FetcherException {
+        return openApiInputStream(NO_RESPONSE_LISTENER);
+    }
+
+    private InputStream openApiInputStream(Consumer<URLConnection> responseListener) throws FetcherException {
+        if (isCacheable()) {
+            return new BufferedInputStream(openCachedInputStream(true, responseListener));
+        }
+        return asInputStream(true, responseListener);
+    }
+
     /**
      * Downloads the web resource to a temporary file.
      *
@@ -332,6 +421,63 @@ public class URLDownload {
         return "URLDownload{" + "source=" + this.source + '}';
     }
 
+    private boolean isCacheable() {
+        return (responseCache != null)
+                && this.postData.isEmpty()
+                && ("http".equalsIgnoreCase(source.getProtocol()) || "https".equalsIgnoreCase(source.getProtocol()));
+    }
+
+    /**
+     * Serves the response from the {@link HttpResponseCache} if it is fresh, otherwise sends a (conditional) request and caches the response.
+     * Responses too large for the cache are streamed without caching them.
+     *
+     * @param rateLimited      whether the request is throttled by the {@link HostRateLimiter}
+     * @param responseListener called with the connection if a request is sent
+     */
+    private InputStream openCachedInputStream(boolean rateLimited, Consumer<URLConnection> responseListener) throws FetcherException {
+        HttpResponseCache cache = responseCache;
+        String requestKey = source + " " + new TreeMap<>(parameters);
+        Optional<HttpResponseCache.CachedResponse> cached = cache.get(requestKey);
+        if (cached.isPresent() && cached.get().isFresh()) {
+            return new ByteArrayInputStream(cached.get().body());
+        }
+
+        // The conditional headers belong to this request only
+        Map<String, String> requestParameters = new HashMap<>(parameters);
+        cached.flatMap(HttpResponseCache.CachedResponse::eTag).ifPresent(eTag -> requestParameters.put("If-None-Match", eTag));
+        cached.flatMap(HttpResponseCache.CachedResponse::lastModified).ifPresent(lastModified -> requestParameters.put("If-Modified-Since", lastModified));
+        URLConnection connection = openConnection(requestParameters, rateLimited);
+        responseListener.accept(connection);
+
+        try {
+            if (connection instanceof HttpURLConnection httpConnection) {
+                int status = httpConnection.getResponseCode();
+                if ((status == HttpURLConnection.HTTP_NOT_MODIFIED) && cached.isPresent()) {
+                    cache.markRevalidated(requestKey, httpConnection);
+                    return new ByteArrayInputStream(cached.get().body());
+                }
+                if (status >= 300) {
+                    SimpleHttpResponse simpleHttpResponse = new SimpleHttpResponse(httpConnection);
+                    LOGGER.error("Failed to read from url: {}", simpleHttpResponse);
+                    throw FetcherException.of(this.source, simpleHttpResponse);
+                }
+            }
+
+            InputStream input = connection.getInputStream();
+            byte[] head = input.readNBytes(HttpResponseCache.MAX_ENTRY_SIZE + 1);
+            if (head.length > HttpResponseCache.MAX_ENTRY_SIZE) {
+                return new SequenceInputStream(new ByteArrayInputStream(head), input);
+            }
+            input.close();
+            if (connection instanceof HttpURLConnection httpConnection) {
+                cache.put(requestKey, httpConnection, head);
+            }
+            return new ByteArrayInputStream(head);
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+    }
+
     private static void copy(InputStream in, Writer out, Charset encoding) throws IOException {
         Reader r = new InputStreamReader(in, encoding);
         try (BufferedReader read = new BufferedReader(r)) {
@@ -351,9 +497,17 @@ public class URLDownload {
      * @return an open connection
      */
     public URLConnection openConnection() throws FetcherException {
+        return openConnection(this.parameters, false);
+    }
+
+    /**
+     * @param requestParameters the request headers to send
+     * @param rateLimited       whether the request (and each redirect) is throttled by the {@link HostRateLimiter}
+     */
+    private URLConnection openConnection(Map<String, String> requestParameters, boolean rateLimited) throws FetcherException {
         URLConnection connection;
         try {
-            connection = getUrlConnection();
+            connection = getUrlConnection(requestParameters, rateLimited);
         } catch (IOException e) {
             throw new FetcherException("Error opening connection", e);
         }
@@ -377,7 +531,8 @@ public class URLDownload {
                 try {
                     httpURLConnection.disconnect();
                     // multiple redirects are implemented by this recursion
-                    connection = new URLDownload(newUrl).openConnection();
+                    URLDownload redirect = new URLDownload(newUrl);
+                    connection = redirect.openConnection(redirect.parameters, rateLimited);
                 } catch (MalformedURLException e) {
                     throw new FetcherException("Could not open URL Download", e);
                 }
@@ -395,7 +550,10 @@ public class URLDownload {
         return connection;
     }
 
-    private URLConnection getUrlConnection() throws IOException {
+    private URLConnection getUrlConnection(Map<String, String> requestParameters, boolean rateLimited) throws IOException {
+        if (rateLimited) {
+            HOST_RATE_LIMITER.acquire(this.source);
+        }
         URLConnection connection = this.source.openConnection();
 
         if (connection instanceof HttpURLConnection httpConnection) {
@@ -407,7 +565,7 @@ public class URLDownload {
         }
 
         connection.setConnectTimeout((int) connectTimeout.toMillis());
-        for (Entry<String, String> entry : this.parameters.entrySet()) {
+        for (Entry<String, String> entry : requestParameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
         if (!this.postData.isEmpty()) {
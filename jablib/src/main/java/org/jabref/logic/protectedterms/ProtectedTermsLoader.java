@@ -13,6 +13,7 @@ import java.util.function.Supplier;
 import org.jabref.logic.l10n.Localization;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +25,10 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    private @Nullable ProtectedTermsMatcher matcher;
+    /// The state of the term lists [#matcher] was built for
+    private List<TermsListState> matcherState = List.of();
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms", () -> Localization.lang("Countries and territories in English"));
@@ -112,6 +117,35 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /// @return a matcher for the terms of all enabled lists. It is built once and only rebuilt if the lists have changed.
+    public synchronized ProtectedTermsMatcher getProtectedTermsMatcher() {
+        List<TermsListState> currentState = mainList.stream()
+                                                    .map(list -> new TermsListState(list, list.isEnabled(), list.getTermList().size()))
+                                                    .toList();
+        if ((matcher == null) || !isSameState(currentState, matcherState)) {
+            matcher = new ProtectedTermsMatcher(getProtectedTerms());
+            matcherState = currentState;
+        }
+        return matcher;
+    }
+
+    /// Lists are compared by identity, as a reloaded list is a new object. Terms are only added to a list, thus its size tells whether it changed.
+    private static boolean isSameState(List<TermsListState> state, List<TermsListState> otherState) {
+        if (state.size() != otherState.size()) {
+            return false;
+        }
+        for (int i = 0; i < state.size(); i++) {
+            TermsListState listState = state.get(i);
+            TermsListState otherListState = otherState.get(i);
+            if ((listState.list() != otherListState.list())
+                    || (listState.enabled() != otherListState.enabled())
+                    || (listState.numberOfTerms() != otherListState.numberOfTerms())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void addProtectedTermsListFromFile(Path path, boolean enabled) {
         mainList.add(readProtectedTermsListFromFile(path, enabled));
     }
@@ -150,4 +184,7 @@ public class ProtectedTermsLoader {
     public ProtectedTermsList addNewProtectedTermsList(String newDescription, String newLocation) {
         return addNewProtectedTermsList(newDescription, newLocation, true);
     }
+
+    private record TermsListState(ProtectedTermsList list, boolean enabled, int numberOfTerms) {
+    }
 }
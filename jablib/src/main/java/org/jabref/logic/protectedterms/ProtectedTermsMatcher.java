@@ -0,0 +1,147 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+import org.jspecify.annotations.Nullable;
+
+/// Finds all protected terms in a text in a single pass and encloses them in braces.
+///
+/// The terms are compiled into an Aho-Corasick automaton once. Thus, the time needed to protect a text depends on the
+/// length of the text (and the number of matches), but not on the number of terms.
+///
+/// A term is protected if
+///
+/// - it is at the start of the text or follows one of `- /[(}"` and
+/// - it is at the end of the text or is followed by a character which is neither an ASCII letter nor `}`.
+///
+/// If several terms start at the same position, the longest one is protected. Terms inside a protected term are not
+/// protected again. Terms are matched literally and case-sensitive.
+///
+/// Instances are immutable and thus thread-safe. Use [ProtectedTermsLoader#getProtectedTermsMatcher()] to get a matcher
+/// for the currently enabled terms.
+public class ProtectedTermsMatcher {
+
+    private static final String CHARACTERS_BEFORE_TERM = "- /[(}\"";
+
+    private final Node root = new Node(0);
+
+    public ProtectedTermsMatcher(Collection<String> terms) {
+        for (String term : terms) {
+            if (!term.isEmpty()) {
+                addTerm(term);
+            }
+        }
+        computeFailureLinks();
+    }
+
+    /// @return the text with all protected terms enclosed in braces
+    public String protect(String text) {
+        // Length of the longest term starting at the respective position and satisfying the boundary rules
+        int[] longestTermAt = new int[text.length()];
+        boolean found = false;
+
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            node = node.next(text.charAt(i));
+            int end = i + 1;
+            for (Node match = node.isTerm ? node : node.termSuffix; match != null; match = match.termSuffix) {
+                int start = end - match.depth;
+                if ((match.depth > longestTermAt[start]) && isTermBoundary(text, start, end)) {
+                    longestTermAt[start] = match.depth;
+                    found = true;
+                }
+            }
+        }
+        if (!found) {
+            return text;
+        }
+
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int i = 0;
+        while (i < text.length()) {
+            int length = longestTermAt[i];
+            if (length > 0) {
+                result.append('{').append(text, i, i + length).append('}');
+                i += length;
+            } else {
+                result.append(text.charAt(i));
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isTermBoundary(String text, int start, int end) {
+        if ((start > 0) && (CHARACTERS_BEFORE_TERM.indexOf(text.charAt(start - 1)) < 0)) {
+            return false;
+        }
+        if (end < text.length()) {
+            char next = text.charAt(end);
+            return !(((next >= 'a') && (next <= 'z')) || ((next >= 'A') && (next <= 'Z')) || (next == '}'));
+        }
+        return true;
+    }
+
+    private void addTerm(String term) {
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            int depth = node.depth + 1;
+            node = node.children.computeIfAbsent(term.charAt(i), _ -> new Node(depth));
+        }
+        node.isTerm = true;
+    }
+
+    /// Breadth-first computation of the failure links (longest proper suffix which is a prefix of a term) and of the
+    /// links to the longest proper suffix which is a complete term
+    private void computeFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char character = entry.getKey();
+                Node child = entry.getValue();
+                Node failure = node.failure;
+                while ((failure != root) && !failure.children.containsKey(character)) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(character, root);
+                child.termSuffix = child.failure.isTerm ? child.failure : child.failure.termSuffix;
+                queue.add(child);
+            }
+        }
+    }
+
+    private final class Node {
+        private final int depth;
+        private final Map<Character, Node> children = new HashMap<>();
+        private boolean isTerm;
+        private @Nullable Node failure;
+        private @Nullable Node termSuffix;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+
+        private Node next(char character) {
+            Node node = this;
+            while (true) {
+                Node child = node.children.get(character);
+                if (child != null) {
+                    return child;
+                }
+                if (node == root) {
+                    return root;
+                }
+                node = node.failure;
+            }
+        }
+    }
+}
@@ -6,11 +6,16 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.value.ChangeListener;
@@ -27,6 +32,7 @@ import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.SearchFlags;
@@ -37,21 +43,35 @@ import org.jabref.model.search.event.IndexStartedEvent;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResults;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class IndexManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(IndexManager.class);
 
+    /// Number of search results kept. Repeated searches (e.g., when switching between libraries or search groups) are answered from the cache
+    /// as long as the index does not change.
+    private static final int SEARCH_RESULTS_CACHE_SIZE = 64;
+
     private final TaskExecutor taskExecutor;
     private final BibDatabaseContext databaseContext;
     private final BooleanProperty shouldIndexLinkedFiles;
     private final ChangeListener<Boolean> preferencesListener;
-    private final BibFieldsIndexer bibFieldsIndexer;
+    /// The index of the entry fields is created in the background, because the search server might still be starting
+    private final CompletableFuture<BibFieldsIndex> bibFieldsIndex;
     private final LuceneIndexer linkedFilesIndexer;
-    private final BibFieldsSearcher bibFieldsSearcher;
     private final LinkedFilesSearcher linkedFilesSearcher;
 
+    /// Incremented after each change of the index. The cached search results are valid for one generation only.
+    private final AtomicLong indexGeneration = new AtomicLong();
+    private final Cache<SearchResultsKey, SearchResults> searchResultsCache = Caffeine.newBuilder()
+                                                                               .maximumSize(SEARCH_RESULTS_CACHE_SIZE)
+                                                                               .recordStats()
+                                                                               .build();
+
     public IndexManager(BibDatabaseContext databaseContext,
                         TaskExecutor executor,
                         CliPreferences preferences,
@@ -62,7 +82,12 @@ public class IndexManager {
         this.preferencesListener = (_, _, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        BibEntryPreferences bibEntryPreferences = preferences.getBibEntryPreferences();
+        // If the server could not be started, getConnection logs the failure
+        bibFieldsIndex = postgreServer.startInBackground().handleAsync((_, _) -> {
+            BibFieldsIndexer bibFieldsIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+            return new BibFieldsIndex(bibFieldsIndexer, new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable()));
+        }, HeadlessExecutorService.INSTANCE);
 
         LuceneIndexer indexer;
         try {
@@ -73,7 +98,6 @@ public class IndexManager {
         }
         linkedFilesIndexer = indexer;
 
-        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
         updateOnStart();
     }
@@ -84,11 +108,14 @@ public class IndexManager {
                 @Override
                 public Object call() {
                     linkedFilesIndexer.updateOnStart(this);
+                    linkedFilesIndexChanged();
                     return null;
                 }
             }.executeWith(taskExecutor);
         } else {
             linkedFilesIndexer.removeAllFromIndex();
+            // Do not wait for the removal to become searchable on the calling (JavaFX) thread
+            BackgroundTask.wrap(this::linkedFilesIndexChanged).executeWith(taskExecutor);
         }
     }
 
@@ -96,7 +123,8 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.updateOnStart(this);
+                bibFieldsIndexer().updateOnStart(this);
+                indexChanged();
                 return null;
             }
         }.willBeRecoveredAutomatically(true)
@@ -108,6 +136,7 @@ public class IndexManager {
                 @Override
                 public Object call() {
                     linkedFilesIndexer.updateOnStart(this);
+                    linkedFilesIndexChanged();
                     return null;
                 }
             }.executeWith(taskExecutor);
@@ -118,7 +147,8 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.addToIndex(entries, this);
+                bibFieldsIndexer().addToIndex(entries, this);
+                indexChanged();
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
@@ -129,6 +159,7 @@ public class IndexManager {
                 @Override
                 public Object call() {
                     linkedFilesIndexer.addToIndex(entries, this);
+                    linkedFilesIndexChanged();
                     return null;
                 }
             }.executeWith(taskExecutor);
@@ -139,7 +170,8 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.removeFromIndex(entries, this);
+                bibFieldsIndexer().removeFromIndex(entries, this);
+                indexChanged();
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexRemovedEvent(entries)))
@@ -150,6 +182,7 @@ public class IndexManager {
                 @Override
                 public Object call() {
                     linkedFilesIndexer.removeFromIndex(entries, this);
+                    linkedFilesIndexChanged();
                     return null;
                 }
             }.executeWith(taskExecutor);
@@ -160,7 +193,8 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.updateEntry(event.getBibEntry(), event.getField());
+                bibFieldsIndexer().updateEntry(event.getBibEntry(), event.getField());
+                indexChanged();
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(List.of(event.getBibEntry()))))
@@ -171,6 +205,7 @@ public class IndexManager {
                 @Override
                 public Object call() {
                     linkedFilesIndexer.updateEntry(event.getBibEntry(), event.getOldValue(), event.getNewValue(), this);
+                    linkedFilesIndexChanged();
                     return null;
                 }
             }.executeWith(taskExecutor);
@@ -183,6 +218,7 @@ public class IndexManager {
                 @Override
                 public Object call() {
                     linkedFilesIndexer.rebuildIndex(this);
+                    linkedFilesIndexChanged();
                     return null;
                 }
             }.executeWith(taskExecutor);
@@ -190,22 +226,62 @@ public class IndexManager {
     }
 
     public void close() {
-        bibFieldsIndexer.close();
+        bibFieldsIndex.thenAccept(index -> index.indexer().close());
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.close();
         databaseContext.getDatabase().postEvent(new IndexClosedEvent());
     }
 
     public void closeAndWait() {
-        bibFieldsIndexer.closeAndWait();
+        bibFieldsIndexer().closeAndWait();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.closeAndWait();
         databaseContext.getDatabase().postEvent(new IndexClosedEvent());
     }
 
+    /**
+     * Searches the index. The results are cached until the index changes, thus repeated searches are answered without querying the index.
+     *
+     * @return the search results, which cannot be changed
+     */
     public SearchResults search(SearchQuery query) {
+        SearchResultsKey key = new SearchResultsKey(query.getSearchExpression(), EnumSet.copyOf(query.getSearchFlags()), indexGeneration.get());
+        SearchResults searchResults = searchResultsCache.getIfPresent(key);
+        if (searchResults == null) {
+            // The cached results are shared by all searches, thus they must not be changed by any of them
+            searchResults = searchIndex(query).unmodifiableCopy();
+            // If the index changed during the search, the key is outdated and the results are never requested again
+            searchResultsCache.put(key, searchResults);
+        } else {
+            LOGGER.debug("Search results of '{}' taken from the cache", query);
+        }
+        query.setSearchResults(searchResults);
+        return searchResults;
+    }
+
+    /**
+     * @return the hits and misses of the search results cache
+     */
+    public CacheStats getSearchResultsCacheStats() {
+        return searchResultsCache.stats();
+    }
+
+    /// The changes of the linked files index become searchable in the background. Only then, the cached search results
+    /// are outdated.
+    private void linkedFilesIndexChanged() {
+        linkedFilesIndexer.waitForChangesToBeSearchable();
+        indexChanged();
+    }
+
+    private void indexChanged() {
+        indexGeneration.incrementAndGet();
+        // All cached results belong to an old generation
+        searchResultsCache.invalidateAll();
+    }
+
+    private SearchResults searchIndex(SearchQuery query) {
         List<Callable<SearchResults>> tasks = new ArrayList<>();
-        tasks.add(() -> bibFieldsSearcher.search(query));
+        tasks.add(() -> bibFieldsSearcher().map(searcher -> searcher.search(query)).orElseGet(SearchResults::new));
 
         if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
             tasks.add(() -> linkedFilesSearcher.search(query));
@@ -221,7 +297,17 @@ public class IndexManager {
                 LOGGER.error("Error while searching", e);
             }
         }
-        query.setSearchResults(searchResults);
+        return searchResults;
+    }
+
+    /**
+     * Same as {@link #search(SearchQuery)}, but only the given entries are matched. Used to update the matches of changed entries.
+     */
+    public SearchResults search(SearchQuery query, Collection<BibEntry> entries) {
+        SearchResults searchResults = matches(entries, query);
+        if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
+            searchResults.mergeSearchResults(linkedFilesSearcher.search(query).getSearchResultsForEntries(entries));
+        }
         return searchResults;
     }
 
@@ -229,7 +315,27 @@ public class IndexManager {
      * @implNote No need to check for full-text searches as this method only used by the search groups
      */
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
-        return bibFieldsSearcher.isMatched(entry, query);
+        return bibFieldsSearcher().map(searcher -> searcher.isMatched(entry, query)).orElse(false);
+    }
+
+    /**
+     * Matches the given entries in one go, e.g., after they were added or changed.
+     *
+     * @return the results of the given entries matched by the query
+     * @implNote No need to check for full-text searches as this method only used by the search groups
+     */
+    public SearchResults matches(Collection<BibEntry> entries, SearchQuery query) {
+        return bibFieldsSearcher().map(searcher -> searcher.matches(entries, query)).orElseGet(SearchResults::new);
+    }
+
+    /// Waits until the index of the entry fields is created. Thus, must be called in a background task only.
+    private BibFieldsIndexer bibFieldsIndexer() {
+        return bibFieldsIndex.join().indexer();
+    }
+
+    /// Searches do not wait for the index of the entry fields. Until it is created, nothing is matched (as nothing is indexed yet).
+    private Optional<BibFieldsSearcher> bibFieldsSearcher() {
+        return Optional.ofNullable(bibFieldsIndex.getNow(null)).map(BibFieldsIndex::searcher);
     }
 
     public static void clearOldSearchIndices() {
@@ -257,4 +363,10 @@ public class IndexManager {
             LOGGER.error("Could not access app-directory at {}", appData, e);
         }
     }
+
+    private record BibFieldsIndex(BibFieldsIndexer indexer, BibFieldsSearcher searcher) {
+    }
+
+    private record SearchResultsKey(String searchExpression, EnumSet<SearchFlags> searchFlags, long indexGeneration) {
+    }
 }
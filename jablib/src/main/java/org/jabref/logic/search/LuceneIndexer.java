@@ -1,10 +1,12 @@
 package org.jabref.logic.search;
 
+import java.io.IOException;
 import java.util.Collection;
 
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.model.entry.BibEntry;
 
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.SearcherManager;
 
 public interface LuceneIndexer {
@@ -22,6 +24,19 @@ public interface LuceneIndexer {
 
     SearcherManager getSearcherManager();
 
+    /// Waits until the changes made so far are visible to the searchers of [#acquireSearcher()].
+    /// Indexers whose changes are visible immediately do not wait.
+    default void waitForChangesToBeSearchable() {
+    }
+
+    /// Returns a searcher on the index, which has to be released by [SearcherManager#release(Object)] of
+    /// [#getSearcherManager()]. The searcher is refreshed if another thread does not refresh it at the same time.
+    default IndexSearcher acquireSearcher() throws IOException {
+        SearcherManager searcherManager = getSearcherManager();
+        searcherManager.maybeRefresh();
+        return searcherManager.acquire();
+    }
+
     void close();
 
     void closeAndWait();
@@ -3,83 +3,120 @@ package org.jabref.logic.search;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import javax.sql.DataSource;
 
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.search.PostgreConstants;
 
 import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
 
+/// Embedded Postgres server used to index and search the fields of the entries.
+///
+/// Booting the server takes a noticeable amount of time. Thus, it is not started when this object is created, but on
+/// the first call of [#getConnection()] (i.e., when the first library needs to be indexed) or in the background using
+/// [#startInBackground()] if it is known that it will be needed soon.
 public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
-    private final EmbeddedPostgres embeddedPostgres;
-    private final DataSource dataSource;
 
-    public PostgreServer() {
-        EmbeddedPostgres embeddedPostgres;
+    private @Nullable CompletableFuture<Void> startup;
+    private @Nullable EmbeddedPostgres embeddedPostgres;
+    private @Nullable DataSource dataSource;
+    private boolean isShutDown;
+
+    /// Starts the server in the background if it is not started yet. Calling this method multiple times is fine.
+    ///
+    /// @return a future completing as soon as the server is ready (or could not be started)
+    public synchronized CompletableFuture<Void> startInBackground() {
+        if (startup == null) {
+            startup = CompletableFuture.runAsync(this::start, HeadlessExecutorService.INSTANCE);
+        }
+        return startup;
+    }
+
+    private void start() {
+        long startTime = System.nanoTime();
+        EmbeddedPostgres startedPostgres;
         try {
-            embeddedPostgres = EmbeddedPostgres.builder()
-                                               .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
-                                               .start();
-            LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
+            startedPostgres = EmbeddedPostgres.builder()
+                                              .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                              .start();
+            LOGGER.info("Postgres server started, connection port: {}", startedPostgres.getPort());
         } catch (IOException e) {
             LOGGER.error("Could not start Postgres server", e);
-            this.embeddedPostgres = null;
-            this.dataSource = null;
             return;
         }
 
-        this.embeddedPostgres = embeddedPostgres;
-        this.dataSource = embeddedPostgres.getPostgresDatabase();
-        addTrigramExtension();
-        createScheme();
-        addFunctions();
-    }
+        DataSource startedDataSource = startedPostgres.getPostgresDatabase();
+        addTrigramExtension(startedDataSource);
+        createScheme(startedDataSource);
+        addFunctions(startedDataSource);
 
-    private void createScheme() {
-        try (Connection connection = getConnection()) {
-            if (connection != null) {
-                LOGGER.debug("Creating scheme for bib fields");
-                connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
-                connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+        synchronized (this) {
+            this.embeddedPostgres = startedPostgres;
+            this.dataSource = startedDataSource;
+            if (isShutDown) {
+                // shutdown was requested while starting
+                closeEmbeddedPostgres();
             }
+        }
+        LOGGER.debug("Postgres server ready after {} ms", (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private void createScheme(DataSource startedDataSource) {
+        try (Connection connection = startedDataSource.getConnection()) {
+            LOGGER.debug("Creating scheme for bib fields");
+            connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
+            connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
         } catch (SQLException e) {
             LOGGER.error("Could not create scheme for bib fields", e);
         }
     }
 
-    private void addTrigramExtension() {
-        try (Connection connection = getConnection()) {
-            if (connection != null) {
-                LOGGER.debug("Adding trigram extension to Postgres server");
-                connection.createStatement().execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
-            }
+    private void addTrigramExtension(DataSource startedDataSource) {
+        try (Connection connection = startedDataSource.getConnection()) {
+            LOGGER.debug("Adding trigram extension to Postgres server");
+            connection.createStatement().execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
         } catch (SQLException e) {
             LOGGER.error("Could not add trigram extension to Postgres server", e);
         }
     }
 
-    private void addFunctions() {
-        try (Connection connection = getConnection()) {
-            if (connection != null) {
-                LOGGER.debug("Adding functions to Postgres server");
-                for (String function : PostgreConstants.POSTGRES_FUNCTIONS) {
-                    connection.createStatement().execute(function);
-                }
+    private void addFunctions(DataSource startedDataSource) {
+        try (Connection connection = startedDataSource.getConnection()) {
+            LOGGER.debug("Adding functions to Postgres server");
+            for (String function : PostgreConstants.POSTGRES_FUNCTIONS) {
+                connection.createStatement().execute(function);
             }
         } catch (SQLException e) {
             LOGGER.error("Could not add functions to Postgres server", e);
         }
     }
 
-    public Connection getConnection() {
-        if (dataSource != null) {
+    /// Starts the server if necessary and waits until it is ready. Thus, it should not be called on the JavaFX thread;
+    /// use [#startInBackground()] to be notified when the server is ready.
+    ///
+    /// @return a new connection or `null` if the server could not be started
+    public @Nullable Connection getConnection() {
+        try {
+            startInBackground().join();
+        } catch (CompletionException e) {
+            LOGGER.error("Could not start Postgres server", e);
+        }
+        DataSource currentDataSource;
+        synchronized (this) {
+            currentDataSource = isShutDown ? null : dataSource;
+        }
+        if (currentDataSource != null) {
             try {
-                return dataSource.getConnection();
+                return currentDataSource.getConnection();
             } catch (SQLException e) {
                 LOGGER.error("Could not get connection to Postgres server", e);
             }
@@ -87,13 +124,21 @@ public class PostgreServer {
         return null;
     }
 
-    public void shutdown() {
+    /// Stops the server. If the server is still starting, it is stopped as soon as it is ready.
+    public synchronized void shutdown() {
+        isShutDown = true;
+        closeEmbeddedPostgres();
+    }
+
+    private synchronized void closeEmbeddedPostgres() {
         if (embeddedPostgres != null) {
             try {
                 embeddedPostgres.close();
             } catch (IOException e) {
                 LOGGER.error("Could not shutdown Postgres server", e);
             }
+            embeddedPostgres = null;
+            dataSource = null;
         }
     }
 }
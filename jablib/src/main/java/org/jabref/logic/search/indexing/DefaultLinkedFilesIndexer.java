@@ -3,6 +3,7 @@ package org.jabref.logic.search.indexing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -12,6 +13,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javafx.util.Pair;
@@ -36,7 +39,9 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TermQuery;
@@ -46,21 +51,55 @@ import org.apache.lucene.store.FSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/// Indexes the content of the linked PDF files.
+///
+/// Searches never wait for the indexing: The searchers are refreshed by a background thread, so that changes become
+/// visible to searches after at most the target staleness (near-real-time search). The changes are committed to disk
+/// when a time or size budget is used up instead of after each file. The time budget is checked after each refresh
+/// of the searchers, too, so that changes are committed even if no further file is changed. Thus, an interrupted
+/// indexing of many files keeps most of its work without paying for a commit per file. Remaining changes are
+/// committed when the index is closed.
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
     private static final DocumentReader DOCUMENT_READER = new DocumentReader();
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
+    private static final Duration DEFAULT_TARGET_MAX_STALENESS = Duration.ofSeconds(1);
+    private static final Duration TARGET_MIN_STALENESS = Duration.ofMillis(100);
+    private static final Duration DEFAULT_COMMIT_INTERVAL = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_UNCOMMITTED_FILES = 100;
+    private static final Duration MAX_WAIT_FOR_SEARCHABLE_CHANGES = Duration.ofSeconds(10);
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final String libraryName;
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
     private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final Duration commitInterval;
+    private final int maxUncommittedFiles;
     private Path indexDirectoryPath;
     private Map<String, Long> indexedFiles;
 
+    private int uncommittedFiles = 0;
+    private long lastCommitTime = System.nanoTime();
+    /// The sequence number of the last change of the index writer, -1 if nothing was changed
+    private final AtomicLong lastSequenceNumber = new AtomicLong(-1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+        this(databaseContext, filePreferences, DEFAULT_TARGET_MAX_STALENESS, DEFAULT_COMMIT_INTERVAL, DEFAULT_MAX_UNCOMMITTED_FILES);
+    }
+
+    /// @param targetMaxStaleness  the maximum time until a change of the index is visible to searches
+    /// @param commitInterval      the maximum time until a change of the index is committed to disk
+    /// @param maxUncommittedFiles the maximum number of added or removed files until the changes are committed to disk
+    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext,
+                                     FilePreferences filePreferences,
+                                     Duration targetMaxStaleness,
+                                     Duration commitInterval,
+                                     int maxUncommittedFiles) throws IOException {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("untitled");
@@ -76,6 +115,32 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         this.indexDirectory = FSDirectory.open(indexDirectoryPath);
         this.indexWriter = new IndexWriter(indexDirectory, config);
         this.searcherManager = new SearcherManager(indexWriter, null);
+        this.commitInterval = commitInterval;
+        this.maxUncommittedFiles = maxUncommittedFiles;
+        searcherManager.addListener(new ReferenceManager.RefreshListener() {
+            @Override
+            public void beforeRefresh() {
+            }
+
+            @Override
+            public void afterRefresh(boolean didRefresh) {
+                // The background thread refreshes at least once per target staleness, even if nothing changed
+                commitIfIntervalExpired();
+            }
+        });
+
+        this.reopenThread = new ControlledRealTimeReopenThread<>(
+                indexWriter,
+                searcherManager,
+                toSeconds(targetMaxStaleness),
+                Math.min(toSeconds(TARGET_MIN_STALENESS), toSeconds(targetMaxStaleness)));
+        reopenThread.setName("Linked files index refresh " + libraryName);
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    private static double toSeconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
     }
 
     @Override
@@ -156,8 +221,9 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         LOGGER.debug("Adding file {} to the index.", fileLink);
         List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
         try {
-            indexWriter.addDocuments(pages);
+            long sequenceNumber = indexWriter.addDocuments(pages);
             indexedFiles.put(fileLink, modifiedTime);
+            fileChanged(sequenceNumber);
         } catch (IOException e) {
             LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
         }
@@ -194,8 +260,9 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         for (String fileLink : links) {
             try {
                 LOGGER.debug("Removing file {} from index.", fileLink);
-                indexWriter.deleteDocuments(new Term(LinkedFilesConstants.PATH.toString(), fileLink));
+                long sequenceNumber = indexWriter.deleteDocuments(new Term(LinkedFilesConstants.PATH.toString(), fileLink));
                 indexedFiles.remove(fileLink);
+                fileChanged(sequenceNumber);
             } catch (IOException e) {
                 LOGGER.warn("Could not remove linked file {} from index.", fileLink, e);
             }
@@ -220,8 +287,9 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     public void removeAllFromIndex() {
         try {
             LOGGER.debug("Removing all linked files from index.");
-            indexWriter.deleteAll();
+            long sequenceNumber = indexWriter.deleteAll();
             indexedFiles.clear();
+            fileChanged(sequenceNumber);
             LOGGER.debug("Removed all linked files");
         } catch (IOException e) {
             LOGGER.error("Error removing all linked files from index", e);
@@ -234,6 +302,36 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         addToIndex(getLinkedFilesFromEntries(databaseContext.getEntries()), task);
     }
 
+    /// Commits the changes of the index if the time or size budget is used up
+    ///
+    /// @param sequenceNumber the sequence number of the change returned by the index writer
+    private synchronized void fileChanged(long sequenceNumber) {
+        lastSequenceNumber.accumulateAndGet(sequenceNumber, Math::max);
+        uncommittedFiles++;
+        if (uncommittedFiles >= maxUncommittedFiles) {
+            commit();
+        } else {
+            commitIfIntervalExpired();
+        }
+    }
+
+    private synchronized void commitIfIntervalExpired() {
+        if (!closed.get() && (uncommittedFiles > 0) && (System.nanoTime() - lastCommitTime >= commitInterval.toNanos())) {
+            commit();
+        }
+    }
+
+    private synchronized void commit() {
+        try {
+            LOGGER.debug("Committing {} changed files to the index", uncommittedFiles);
+            indexWriter.commit();
+            uncommittedFiles = 0;
+            lastCommitTime = System.nanoTime();
+        } catch (IOException e) {
+            LOGGER.warn("Could not commit the index.", e);
+        }
+    }
+
     private Map<String, Long> getLinkedFilesFromIndex() {
         LOGGER.debug("Getting all linked files from index.");
         Map<String, Long> linkedFiles = new HashMap<>();
@@ -313,6 +411,38 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         return searcherManager;
     }
 
+    /// Waits for the background refresh of the searchers, which refreshes faster as long as a thread is waiting.
+    /// Returns immediately if the index is closed, because then the searchers are not refreshed anymore.
+    @Override
+    public void waitForChangesToBeSearchable() {
+        long sequenceNumber = lastSequenceNumber.get();
+        if (sequenceNumber < 0) {
+            return;
+        }
+        // Waiting in slices, because the background thread does not wake up waiting threads when it is closed
+        int sliceMillis = (int) TARGET_MIN_STALENESS.toMillis();
+        long deadline = System.nanoTime() + MAX_WAIT_FOR_SEARCHABLE_CHANGES.toNanos();
+        try {
+            while (!closed.get()) {
+                if (reopenThread.waitForGeneration(sequenceNumber, sliceMillis)) {
+                    return;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    LOGGER.warn("Changes of the linked files index are not searchable after {}", MAX_WAIT_FOR_SEARCHABLE_CHANGES);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /// The searchers are refreshed in the background. Thus, acquiring a searcher never waits for a refresh.
+    @Override
+    public IndexSearcher acquireSearcher() throws IOException {
+        return searcherManager.acquire();
+    }
+
     @Override
     public void close() {
         HeadlessExecutorService.INSTANCE.execute(this::closeIndex);
@@ -324,8 +454,13 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     }
 
     private void closeIndex() {
+        // Not synchronized: Closing waits for the background refresh, which may be committing
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
         try {
             LOGGER.debug("Closing linked files index");
+            reopenThread.close();
             searcherManager.close();
             optimizeIndex();
             indexWriter.close();
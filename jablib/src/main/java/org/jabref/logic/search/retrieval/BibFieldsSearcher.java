@@ -1,17 +1,25 @@
 package org.jabref.logic.search.retrieval;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
 
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResult;
 import org.jabref.model.search.query.SearchResults;
 import org.jabref.model.search.query.SqlQueryNode;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,33 +28,66 @@ import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 public class BibFieldsSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsSearcher.class);
 
+    /// Number of converted queries kept. Each search group and each search of the search bar is one query.
+    private static final int QUERY_CACHE_SIZE = 256;
+
     private final Connection connection;
     private final String tableName;
 
+    /// The SQL of the queries searched for, so that a query is converted only once (e.g., the query of a search group, which is
+    /// evaluated each time entries are changed)
+    private final Cache<QueryKey, SqlQueryNode> sqlQueryCache = Caffeine.newBuilder().maximumSize(QUERY_CACHE_SIZE).build();
+
     public BibFieldsSearcher(Connection connection, String tableName) {
         this.connection = connection;
         this.tableName = tableName;
     }
 
     public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
-        SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
-        return search(newSearchQuery).isMatched(entry);
+        return matches(List.of(entry), searchQuery).isMatched(entry);
     }
 
-    private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
-        String newSearchExpression = "( " + ENTRY_ID + "= " + entry.getId() + ") AND (" + oldSearchQuery.getSearchExpression() + " )";
-        return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
+    /// Evaluates the query for the given entries only. All entries are evaluated by one SQL statement.
+    ///
+    /// @return the results of the given entries matched by the query
+    public SearchResults matches(Collection<BibEntry> entries, SearchQuery searchQuery) {
+        if (!searchQuery.isValid() || entries.isEmpty()) {
+            return new SearchResults();
+        }
+        SqlQueryNode sqlQueryNode = getSqlQuery(searchQuery);
+        String sql = """
+                SELECT %s FROM (
+                %s
+                ) AS matches
+                WHERE %s = ANY(?)
+                """.formatted(ENTRY_ID, sqlQueryNode.cte(), ENTRY_ID);
+        String[] entryIds = entries.stream().map(BibEntry::getId).toArray(String[]::new);
+        return execute(sql, sqlQueryNode.params(), entryIds);
     }
 
     public SearchResults search(SearchQuery searchQuery) {
         if (!searchQuery.isValid()) {
             return new SearchResults();
         }
-        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery);
+        SqlQueryNode sqlQueryNode = getSqlQuery(searchQuery);
+        return execute(sqlQueryNode.cte(), sqlQueryNode.params(), null);
+    }
+
+    private SqlQueryNode getSqlQuery(SearchQuery searchQuery) {
+        return sqlQueryCache.get(new QueryKey(searchQuery.getSearchExpression(), EnumSet.copyOf(searchQuery.getSearchFlags())),
+                _ -> SearchQueryConversion.searchToSql(tableName, searchQuery));
+    }
+
+    /// @param entryIds the ids bound to the parameter following the parameters of the query, `null` if there is no such parameter
+    private SearchResults execute(String sql, List<String> params, String @Nullable [] entryIds) {
         SearchResults searchResults = new SearchResults();
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQueryNode.cte())) {
-            for (int i = 0; i < sqlQueryNode.params().size(); i++) {
-                preparedStatement.setString(i + 1, sqlQueryNode.params().get(i));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) {
+                preparedStatement.setString(i + 1, params.get(i));
+            }
+            if (entryIds != null) {
+                Array entryIdArray = connection.createArrayOf("text", entryIds);
+                preparedStatement.setArray(params.size() + 1, entryIdArray);
             }
             LOGGER.debug("Executing search query: {}", preparedStatement);
             ResultSet resultSet = preparedStatement.executeQuery();
@@ -59,4 +100,7 @@ public class BibFieldsSearcher {
         }
         return searchResults;
     }
+
+    private record QueryKey(String searchExpression, EnumSet<SearchFlags> searchFlags) {
+    }
 }
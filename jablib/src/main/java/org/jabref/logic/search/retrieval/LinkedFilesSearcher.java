@@ -28,7 +28,6 @@ import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
-import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.QueryScorer;
@@ -41,11 +40,11 @@ public final class LinkedFilesSearcher {
 
     private final FilePreferences filePreferences;
     private final BibDatabaseContext databaseContext;
-    private final SearcherManager searcherManager;
+    private final LuceneIndexer linkedFilesIndexer;
     private final MultiFieldQueryParser parser;
 
     public LinkedFilesSearcher(BibDatabaseContext databaseContext, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
-        this.searcherManager = linkedFilesIndexer.getSearcherManager();
+        this.linkedFilesIndexer = linkedFilesIndexer;
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
         this.parser = new MultiFieldQueryParser(LinkedFilesConstants.PDF_FIELDS.toArray(new String[0]), LinkedFilesConstants.LINKED_FILES_ANALYZER);
@@ -70,9 +69,9 @@ public final class LinkedFilesSearcher {
 
         LOGGER.debug("Searching in linked files with query: {}", luceneQuery.get());
         try {
-            IndexSearcher linkedFilesIndexSearcher = acquireIndexSearcher(searcherManager);
+            IndexSearcher linkedFilesIndexSearcher = linkedFilesIndexer.acquireSearcher();
             SearchResults searchResults = search(linkedFilesIndexSearcher, luceneQuery.get());
-            releaseIndexSearcher(searcherManager, linkedFilesIndexSearcher);
+            linkedFilesIndexer.getSearcherManager().release(linkedFilesIndexSearcher);
             return searchResults;
         } catch (IOException | IndexSearcher.TooManyClauses e) {
             LOGGER.error("Error during linked files search execution", e);
@@ -139,13 +138,4 @@ public final class LinkedFilesSearcher {
     private static String getFieldContents(Document document, LinkedFilesConstants field) {
         return Optional.ofNullable(document.get(field.toString())).orElse("");
     }
-
-    private static IndexSearcher acquireIndexSearcher(SearcherManager searcherManager) throws IOException {
-        searcherManager.maybeRefreshBlocking();
-        return searcherManager.acquire();
-    }
-
-    private static void releaseIndexSearcher(SearcherManager searcherManager, IndexSearcher indexSearcher) throws IOException {
-        searcherManager.release(indexSearcher);
-    }
 }
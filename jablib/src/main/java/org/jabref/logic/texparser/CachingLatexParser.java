@@ -0,0 +1,79 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.texparser.LatexParserResult;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps the result of each parsed LaTeX file until the file is modified. Thus, parsing a LaTeX project again (e.g.,
+ * when searching for citations again) parses only the files modified since then. A file counts as modified if its
+ * modification time or its size changed. The results of at most {@value #CACHE_SIZE} files are kept; the least
+ * recently used ones are dropped first.
+ * <p>
+ * This class is thread-safe. The files of a list are parsed in parallel (see {@link LatexParser#parse(List)}).
+ */
+public class CachingLatexParser implements LatexParser {
+
+    private static final int CACHE_SIZE = 1024;
+
+    private final LatexParser parser;
+    private final Cache<Path, CachedResult> cachedResults = Caffeine.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    public CachingLatexParser() {
+        this(new DefaultLatexParser());
+    }
+
+    public CachingLatexParser(LatexParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public LatexParserResult parse(String citeString) {
+        return parser.parse(citeString);
+    }
+
+    @Override
+    public Optional<LatexParserResult> parse(Path latexFile) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(latexFile, BasicFileAttributes.class);
+        } catch (IOException e) {
+            cachedResults.invalidate(latexFile);
+            return parser.parse(latexFile);
+        }
+
+        CachedResult cachedResult = cachedResults.getIfPresent(latexFile);
+        if ((cachedResult != null) && cachedResult.isUpToDate(attributes)) {
+            return Optional.of(cachedResult.result());
+        }
+
+        Optional<LatexParserResult> result = parser.parse(latexFile);
+        result.ifPresentOrElse(
+                value -> cachedResults.put(latexFile, new CachedResult(attributes.lastModifiedTime(), attributes.size(), value)),
+                () -> cachedResults.invalidate(latexFile));
+        return result;
+    }
+
+    /**
+     * Removes the result of the given file, e.g., because the file was deleted.
+     */
+    public void invalidate(Path latexFile) {
+        cachedResults.invalidate(latexFile);
+    }
+
+    private record CachedResult(FileTime lastModifiedTime, long size, LatexParserResult result) {
+
+        boolean isUpToDate(BasicFileAttributes attributes) {
+            return lastModifiedTime.equals(attributes.lastModifiedTime()) && (size == attributes.size());
+        }
+    }
+}
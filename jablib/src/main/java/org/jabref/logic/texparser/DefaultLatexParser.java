@@ -10,13 +10,11 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.model.texparser.LatexParserResult;
-import org.jabref.model.texparser.LatexParserResults;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -97,13 +95,6 @@ public class DefaultLatexParser implements LatexParser {
         return Optional.of(latexParserResult);
     }
 
-    @Override
-    public LatexParserResults parse(List<Path> latexFiles) {
-        LatexParserResults results = new LatexParserResults();
-        latexFiles.forEach(file -> parse(file).ifPresent(result -> results.add(file, result)));
-        return results;
-    }
-
     /**
      * Find cites along a specific line and store them.
      */
@@ -30,9 +30,20 @@ public interface LatexParser {
 
     /**
      * Parse a list of LaTeX files.
+     * <p>
+     * The files are parsed in parallel using {@link #parse(Path)}, thus, implementations have to be able to parse several files at once.
      *
      * @param latexFiles List of Path objects linked to a LaTeX file
      * @return a LatexParserResults, which contains all data related to the bibliographic entries
      */
-    LatexParserResults parse(List<Path> latexFiles);
+    default LatexParserResults parse(List<Path> latexFiles) {
+        LatexParserResults results = new LatexParserResults();
+        latexFiles.stream()
+                  .distinct()
+                  .parallel()
+                  .map(this::parse)
+                  .toList()
+                  .forEach(result -> result.ifPresent(value -> results.add(value.getPath(), value)));
+        return results;
+    }
 }
@@ -7,6 +7,9 @@ public enum BackupFileType implements FileType {
     // Used at BackupManager
     BACKUP("Backup", "bak"),
 
+    // Used at BackupManager for the changes since the latest backup
+    JOURNAL("BackupJournal", "journal"),
+
     // Used when writing the .bib file. See {@link org.jabref.logic.exporter.AtomicFileWriter}
     // Used for copying the .bib away before overwriting on save.
     SAVE("AutoSaveFile", "sav");
@@ -60,6 +60,14 @@ public class Directories {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    public static Path getHttpCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserCacheDir(
+                                             OS.APP_DIR_APP_NAME,
+                                             "http",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getCitationsRelationsDirectory() {
         return Path.of(
                 AppDirsFactory.getInstance()
@@ -0,0 +1,123 @@
+package org.jabref.logic.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Runs the phases of the application startup and records how long each phase took.
+///
+/// Phases which do not depend on each other are started using [#startPhase(String, Supplier)] and run concurrently.
+/// Their result is requested as late as possible (e.g., when the service is registered) using [CompletableFuture#join()].
+/// Milestones (e.g., "first window shown") record the time since the orchestrator was created.
+///
+/// All methods are thread-safe.
+public class StartupOrchestrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+    private final Executor executor;
+    private final long startTime = System.nanoTime();
+    private final Map<String, Duration> phaseDurations = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Duration> milestones = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final List<CompletableFuture<?>> startedPhases = Collections.synchronizedList(new ArrayList<>());
+
+    public StartupOrchestrator(Executor executor) {
+        this.executor = executor;
+    }
+
+    /// Runs the phase in the current thread
+    ///
+    /// @return the result of the phase
+    public <T> T runPhase(String name, Supplier<T> phase) {
+        long phaseStart = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            recordPhase(name, phaseStart);
+        }
+    }
+
+    /// Runs the phase in the current thread
+    public void runPhase(String name, Runnable phase) {
+        runPhase(name, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /// Starts the phase in the background
+    ///
+    /// @return the future result of the phase
+    public <T> CompletableFuture<T> startPhase(String name, Supplier<T> phase) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            long phaseStart = System.nanoTime();
+            try {
+                return phase.get();
+            } finally {
+                recordPhase(name, phaseStart);
+            }
+        }, executor);
+        future.exceptionally(throwable -> {
+            LOGGER.error("Startup phase '{}' failed", name, throwable);
+            return null;
+        });
+        startedPhases.add(future);
+        return future;
+    }
+
+    /// Starts the phase in the background
+    ///
+    /// @return a future completing when the phase is finished
+    public CompletableFuture<Void> startPhase(String name, Runnable phase) {
+        return startPhase(name, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /// Waits until all phases started in the background are finished
+    public void awaitStartedPhases() {
+        CompletableFuture<?>[] phases;
+        synchronized (startedPhases) {
+            phases = startedPhases.toArray(CompletableFuture<?>[]::new);
+        }
+        CompletableFuture.allOf(phases).join();
+    }
+
+    /// Records the time elapsed since the start
+    public void reachMilestone(String name) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        if (milestones.putIfAbsent(name, elapsed) == null) {
+            LOGGER.info("Startup milestone '{}' reached after {} ms", name, elapsed.toMillis());
+        }
+    }
+
+    /// @return the durations of the finished phases in the order they finished
+    public Map<String, Duration> getPhaseDurations() {
+        synchronized (phaseDurations) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(phaseDurations));
+        }
+    }
+
+    /// @return the time elapsed since the start for each milestone in the order they were reached
+    public Map<String, Duration> getMilestones() {
+        synchronized (milestones) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(milestones));
+        }
+    }
+
+    private void recordPhase(String name, long phaseStart) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - phaseStart);
+        phaseDurations.put(name, duration);
+        LOGGER.debug("Startup phase '{}' took {} ms", name, duration.toMillis());
+    }
+}
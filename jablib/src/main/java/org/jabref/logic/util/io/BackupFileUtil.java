@@ -72,6 +72,8 @@ public class BackupFileUtil {
             mostRecentFile = Files.list(backupDir)
                                   // just list the .sav belonging to the given targetFile
                                   .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                  // other files belonging to the targetFile (e.g., the journal of a backup) are of other types
+                                  .filter(p -> p.getFileName().toString().endsWith(extension))
                                   .sorted()
                                   .reduce((first, second) -> second);
         } catch (IOException e) {
@@ -13,6 +13,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,6 +22,7 @@ import org.jabref.logic.util.strings.StringUtil;
 import org.jabref.model.entry.BibEntry;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,9 +31,18 @@ class CitationKeyBasedFileFinder implements FileFinder {
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationKeyBasedFileFinder.class);
 
     private final boolean exactKeyOnly;
+    private final @Nullable DirectorySnapshot directorySnapshot;
 
     CitationKeyBasedFileFinder(boolean exactKeyOnly) {
+        this(exactKeyOnly, null);
+    }
+
+    /**
+     * @param directorySnapshot the snapshot to find the files of the directories in, <code>null</code> to search the directories
+     */
+    CitationKeyBasedFileFinder(boolean exactKeyOnly, @Nullable DirectorySnapshot directorySnapshot) {
         this.exactKeyOnly = exactKeyOnly;
+        this.directorySnapshot = directorySnapshot;
     }
 
     @Override
@@ -55,7 +66,7 @@ class CitationKeyBasedFileFinder implements FileFinder {
             filteringFunction = (Path p) -> matches(p.getFileName().toString(), citeKey);
         }
 
-        SortedSet<Path> result = findFilesByExtension(directories, extensions, filteringFunction);
+        SortedSet<Path> result = findFilesByExtension(directories, extensions, citeKey, filteringFunction);
 
         return result.stream().toList();
     }
@@ -76,13 +87,23 @@ class CitationKeyBasedFileFinder implements FileFinder {
      */
     private SortedSet<Path> findFilesByExtension(List<Path> directories,
                                                  @NonNull Collection<String> extensions,
+                                                 String citeKey,
                                                  Function<Path, Boolean> filteringFunction) throws IOException {
+        Predicate<Path> hasCorrectExtension = path -> extensions.contains(FileUtil.getFileExtension(path).orElse(""));
         BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, _) -> !Files.isDirectory(path)
-                && extensions.contains(FileUtil.getFileExtension(path).orElse("")) && filteringFunction.apply(path);
+                && hasCorrectExtension.test(path) && filteringFunction.apply(path);
 
+        DirectorySnapshot snapshot = directorySnapshot;
         SortedSet<Path> result = new TreeSet<>();
         for (Path directory : directories) {
-            if (Files.exists(directory)) {
+            if ((snapshot != null) && snapshot.contains(directory)) {
+                // All matching files start with the key (see filteringFunction), thus, only these files need to be checked
+                Stream.of(citeKey, FileNameCleaner.cleanFileName(citeKey))
+                      .distinct()
+                      .flatMap(prefix -> snapshot.getFilesWithNamePrefix(prefix).stream())
+                      .filter(path -> path.startsWith(directory) && hasCorrectExtension.test(path) && filteringFunction.apply(path))
+                      .forEach(result::add);
+            } else if (Files.exists(directory)) {
                 try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
                     result.addAll(pathStream.collect(Collectors.toSet()));
                 } catch (UncheckedIOException e) {
@@ -0,0 +1,182 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+/// A snapshot of the files in a set of directory trees. Finding files in the snapshot does not access the file system.
+/// Thus, finding the files of many entries (e.g., when automatically setting the file links) walks the directory trees
+/// once only instead of once per entry.
+///
+/// The directories are listed in parallel. [#refresh()] updates the snapshot, but lists only the directories whose
+/// modification time changed. The modification time of a directory changes whenever a file is added to, removed from
+/// or renamed in the directory.
+///
+/// Symbolic links are followed. This class is thread-safe.
+public class DirectorySnapshot {
+
+    private final List<Path> rootDirectories;
+    private final Map<Path, DirectoryListing> listings = new ConcurrentHashMap<>();
+
+    /// The files of the snapshot by their file name (ignoring the case), built on demand
+    private @Nullable NavigableMap<String, List<Path>> filesByName;
+
+    private DirectorySnapshot(List<Path> rootDirectories) {
+        this.rootDirectories = rootDirectories;
+    }
+
+    /// Takes a snapshot of the given directories and all their subdirectories. Directories which do not exist are ignored.
+    public static DirectorySnapshot of(List<Path> rootDirectories) throws IOException {
+        DirectorySnapshot snapshot = new DirectorySnapshot(List.copyOf(rootDirectories));
+        snapshot.refresh();
+        return snapshot;
+    }
+
+    /// Updates the snapshot to the current content of the directories
+    public synchronized void refresh() throws IOException {
+        Set<Path> visitedDirectories = ConcurrentHashMap.newKeySet();
+        boolean changed;
+        try {
+            changed = rootDirectories.parallelStream()
+                                     .filter(Files::isDirectory)
+                                     .map(directory -> update(directory, Set.of(), visitedDirectories))
+                                     .reduce(false, Boolean::logicalOr);
+        } catch (UncheckedIOException e) {
+            throw new IOException("Problem in listing directories", e.getCause());
+        }
+        changed |= listings.keySet().retainAll(visitedDirectories);
+        if (changed) {
+            filesByName = null;
+        }
+    }
+
+    /// Lists the given directory again if it changed and updates its subdirectories
+    ///
+    /// @param ancestorKeys the keys of the directories containing the given directory, used to detect cycles of symbolic links
+    /// @return whether the directory or one of its subdirectories changed
+    private boolean update(Path directory, Set<Object> ancestorKeys, Set<Path> visitedDirectories) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(directory, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // Removed since its parent was listed
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Object fileKey = attributes.fileKey();
+        if ((fileKey != null) && ancestorKeys.contains(fileKey)) {
+            return false;
+        }
+        visitedDirectories.add(directory);
+
+        DirectoryListing listing = listings.get(directory);
+        boolean changed = false;
+        if ((listing == null) || !listing.lastModifiedTime().equals(attributes.lastModifiedTime())) {
+            listing = list(directory, attributes.lastModifiedTime());
+            listings.put(directory, listing);
+            changed = true;
+        }
+
+        Set<Object> subdirectoryAncestorKeys = ancestorKeys;
+        if (fileKey != null) {
+            subdirectoryAncestorKeys = new HashSet<>(ancestorKeys);
+            subdirectoryAncestorKeys.add(fileKey);
+        }
+        Set<Object> keys = subdirectoryAncestorKeys;
+        boolean subdirectoriesChanged = listing.subdirectories().parallelStream()
+                                               .map(subdirectory -> update(subdirectory, keys, visitedDirectories))
+                                               .reduce(false, Boolean::logicalOr);
+        return changed || subdirectoriesChanged;
+    }
+
+    private static DirectoryListing list(Path directory, FileTime lastModifiedTime) {
+        List<Path> files = new ArrayList<>();
+        List<Path> subdirectories = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                if (Files.isDirectory(path)) {
+                    subdirectories.add(path);
+                } else {
+                    files.add(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new DirectoryListing(lastModifiedTime, List.copyOf(files), List.copyOf(subdirectories));
+    }
+
+    /// @return whether the given directory is part of the snapshot, i.e., whether its files can be found in the snapshot
+    public boolean contains(Path directory) {
+        return listings.containsKey(directory);
+    }
+
+    /// Returns the files directly contained in the given directory
+    public List<Path> getFiles(Path directory) {
+        DirectoryListing listing = listings.get(directory);
+        return listing == null ? List.of() : listing.files();
+    }
+
+    /// Returns the subdirectories of the given directory up to the given depth, in the order [Files#walk] returns them
+    ///
+    /// @param maxDepth 1 for the direct subdirectories only
+    public List<Path> getSubdirectories(Path directory, int maxDepth) {
+        List<Path> subdirectories = new ArrayList<>();
+        collectSubdirectories(directory, maxDepth, subdirectories);
+        return subdirectories;
+    }
+
+    private void collectSubdirectories(Path directory, int maxDepth, List<Path> subdirectories) {
+        DirectoryListing listing = listings.get(directory);
+        if ((listing == null) || (maxDepth < 1)) {
+            return;
+        }
+        for (Path subdirectory : listing.subdirectories()) {
+            subdirectories.add(subdirectory);
+            collectSubdirectories(subdirectory, maxDepth - 1, subdirectories);
+        }
+    }
+
+    /// Returns all files of the snapshot whose file name starts with the given prefix, ignoring the case
+    ///
+    /// @return the files sorted by their path
+    public List<Path> getFilesWithNamePrefix(String prefix) {
+        return getFilesByName().subMap(prefix, true, prefix + Character.MAX_VALUE, true)
+                               .values().stream()
+                               .flatMap(List::stream)
+                               .sorted()
+                               .toList();
+    }
+
+    private synchronized NavigableMap<String, List<Path>> getFilesByName() {
+        if (filesByName == null) {
+            NavigableMap<String, List<Path>> index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (DirectoryListing listing : listings.values()) {
+                for (Path file : listing.files()) {
+                    index.computeIfAbsent(file.getFileName().toString(), _ -> new ArrayList<>()).add(file);
+                }
+            }
+            filesByName = index;
+        }
+        return filesByName;
+    }
+
+    private record DirectoryListing(FileTime lastModifiedTime, List<Path> files, List<Path> subdirectories) {
+    }
+}
@@ -14,4 +14,19 @@ public class FileFinders {
                     new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator());
         };
     }
+
+    /**
+     * Creates a preconfigured file finder based on the given AutoLink preferences. The files of the directories contained
+     * in the given snapshot are found in the snapshot instead of searching the directories.
+     */
+    public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences, DirectorySnapshot directorySnapshot) {
+        return switch (autoLinkPreferences.getCitationKeyDependency()) {
+            case START ->
+                    new CitationKeyBasedFileFinder(false, directorySnapshot);
+            case EXACT ->
+                    new CitationKeyBasedFileFinder(true, directorySnapshot);
+            case REGEX ->
+                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator(), directorySnapshot);
+        };
+    }
 }
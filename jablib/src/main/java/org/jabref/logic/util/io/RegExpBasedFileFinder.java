@@ -19,6 +19,8 @@ import org.jabref.logic.citationkeypattern.BracketedPattern;
 import org.jabref.logic.util.strings.StringUtil;
 import org.jabref.model.entry.BibEntry;
 
+import org.jspecify.annotations.Nullable;
+
 class RegExpBasedFileFinder implements FileFinder {
 
     private static final String EXT_MARKER = "__EXTENSION__";
@@ -27,13 +29,23 @@ class RegExpBasedFileFinder implements FileFinder {
 
     private final String regExp;
     private final Character keywordDelimiter;
+    private final @Nullable DirectorySnapshot directorySnapshot;
 
     /**
      * @param regExp The expression deciding which names are acceptable.
      */
     RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
+        this(regExp, keywordDelimiter, null);
+    }
+
+    /**
+     * @param regExp            The expression deciding which names are acceptable.
+     * @param directorySnapshot The snapshot to find the files of the directories in, <code>null</code> to search the directories
+     */
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, @Nullable DirectorySnapshot directorySnapshot) {
         this.regExp = regExp;
         this.keywordDelimiter = keywordDelimiter;
+        this.directorySnapshot = directorySnapshot;
     }
 
     /**
@@ -174,33 +186,15 @@ class RegExpBasedFileFinder implements FileFinder {
                 case "*" -> { // for all direct subdirs
                     String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
-                    final Path rootDirectory = currentDirectory;
-                    try (Stream<Path> pathStream = Files.walk(currentDirectory, 1)) {
-                        List<Path> subDirs = pathStream
-                                .filter(path -> isSubDirectory(rootDirectory, path))  // We only want to transverse directories (and not the current one; this is already done below)
-                                .toList();
-
-                        for (Path subDir : subDirs) {
-                            resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
-                        }
-                    } catch (UncheckedIOException ioe) {
-                        throw ioe.getCause();
+                    for (Path subDir : getSubDirectories(currentDirectory, 1)) {
+                        resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
                     }
                 }
                 case "**" -> { // for all direct and indirect subdirs
                     String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
-                    final Path rootDirectory = currentDirectory;
-                    try (Stream<Path> pathStream = Files.walk(currentDirectory)) {
-                        List<Path> subDirs = pathStream
-                                .filter(path -> isSubDirectory(rootDirectory, path))  // We only want to transverse directories (and not the current one; this is already done below)
-                                .toList();
-
-                        for (Path subDir : subDirs) {
-                            resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
-                        }
-                    } catch (UncheckedIOException ioe) {
-                        throw ioe.getCause();
+                    for (Path subDir : getSubDirectories(currentDirectory, Integer.MAX_VALUE)) {
+                        resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
                     }
                 }
             } // End process directory information
@@ -208,6 +202,12 @@ class RegExpBasedFileFinder implements FileFinder {
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        if ((directorySnapshot != null) && directorySnapshot.contains(currentDirectory)) {
+            directorySnapshot.getFiles(currentDirectory).stream()
+                             .filter(path -> toMatch.matcher(path.getFileName().toString()).matches())
+                             .forEach(resultFiles::add);
+            return resultFiles;
+        }
         BiPredicate<Path, BasicFileAttributes> matcher = (path, _) -> toMatch.matcher(path.getFileName().toString()).matches();
         try (Stream<Path> pathStream = Files.find(currentDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.toList());
@@ -218,6 +218,22 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
+    /**
+     * Returns the subdirectories of the given directory up to the given depth, taken from the snapshot if it contains the directory
+     */
+    private List<Path> getSubDirectories(Path directory, int maxDepth) throws IOException {
+        if ((directorySnapshot != null) && directorySnapshot.contains(directory)) {
+            return directorySnapshot.getSubdirectories(directory, maxDepth);
+        }
+        try (Stream<Path> pathStream = Files.walk(directory, maxDepth)) {
+            return pathStream
+                    .filter(path -> isSubDirectory(directory, path))  // We only want to transverse directories (and not the current one; this is already done below)
+                    .toList();
+        } catch (UncheckedIOException ioe) {
+            throw ioe.getCause();
+        }
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
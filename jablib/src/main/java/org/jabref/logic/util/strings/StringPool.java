@@ -0,0 +1,124 @@
+package org.jabref.logic.util.strings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Deduplicates short strings while text is parsed.
+///
+/// Libraries contain many repeated values (journal names, publishers, months, years, field names, ...).
+/// Instead of keeping a new [String] for each occurrence, [#deduplicate(CharSequence)] returns the already pooled instance
+/// with the same characters. The characters are looked up without creating a string; a string is created only for
+/// characters not pooled yet.
+///
+/// Strings longer than the configured maximum length (e.g., abstracts) are passed through, because they are rarely repeated.
+/// The pool stops growing after reaching the configured maximum number of strings; further strings are passed through, too.
+///
+/// A pool is meant to be used for a single parse run, which might use several threads. Thus, it is thread-safe and lock-free.
+/// The pooled strings can be garbage collected together with the pool after the parse run.
+public class StringPool {
+
+    public static final int DEFAULT_MAX_LENGTH = 64;
+    public static final int DEFAULT_MAX_SIZE = 1 << 20;
+
+    /// Object header, hash, coder and array reference of a [String] plus the header of its backing array
+    private static final int STRING_OVERHEAD_IN_BYTES = 40;
+
+    private final int maxLength;
+    private final int maxSize;
+
+    /// Keys are the pooled strings. They are looked up by [Lookup] keys, too.
+    private final Map<Object, String> pool = new ConcurrentHashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    public StringPool() {
+        this(DEFAULT_MAX_LENGTH, DEFAULT_MAX_SIZE);
+    }
+
+    public StringPool(int maxLength, int maxSize) {
+        this.maxLength = maxLength;
+        this.maxSize = maxSize;
+    }
+
+    /// @return a string with the same characters as the given sequence; the pooled instance if there is one
+    public String deduplicate(CharSequence chars) {
+        if (chars.length() > maxLength) {
+            return chars.toString();
+        }
+        lookups.increment();
+
+        String pooled = pool.get(Lookup.of(chars));
+        if (pooled == null) {
+            String string = chars.toString();
+            if (pool.size() >= maxSize) {
+                return string;
+            }
+            pooled = pool.putIfAbsent(string, string);
+            if (pooled == null) {
+                return string;
+            }
+        }
+        deduplicated.increment();
+        savedBytes.add(estimatedSize(pooled));
+        return pooled;
+    }
+
+    /// @return the number of pooled strings. Might exceed the maximum size slightly if strings are added concurrently.
+    public int size() {
+        return pool.size();
+    }
+
+    /// @return the number of strings looked up in the pool, i.e., strings not longer than the maximum length
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    /// @return the number of lookups which returned an already pooled string
+    public long getDeduplicatedCount() {
+        return deduplicated.sum();
+    }
+
+    /// @return an estimate of the heap memory not retained because pooled strings were reused
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    /// Assumes compact strings, i.e., one byte per character for Latin-1 strings and two bytes otherwise
+    private static long estimatedSize(String string) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING_OVERHEAD_IN_BYTES + ((long) string.length() * bytesPerChar);
+    }
+
+    /// Key to look up characters in the pool. It has the same hash code as a [String] with the same characters and is
+    /// equal to such a string. This suffices for lookups, because [Map#get(Object)] compares the given key with the
+    /// keys of the map using `equals` of the given key.
+    private record Lookup(CharSequence chars, int hash) {
+
+        static Lookup of(CharSequence chars) {
+            int hash = 0;
+            for (int i = 0; i < chars.length(); i++) {
+                hash = (31 * hash) + chars.charAt(i);
+            }
+            return new Lookup(chars, hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof String string) && (CharSequence.compare(chars, string) == 0);
+        }
+    }
+}
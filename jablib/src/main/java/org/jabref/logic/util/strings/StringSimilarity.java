@@ -9,9 +9,10 @@ import org.slf4j.LoggerFactory;
 public class StringSimilarity {
     private static final Logger LOGGER = LoggerFactory.getLogger(StringSimilarity.class);
 
-    private final Levenshtein METRIC_DISTANCE = new Levenshtein();
     // edit distance threshold for entry title comparison
-    private final int METRIC_THRESHOLD = 4;
+    public static final int METRIC_THRESHOLD = 4;
+
+    private final Levenshtein METRIC_DISTANCE = new Levenshtein();
 
     /**
      * String similarity based on Levenshtein, ignoreCase, and fixed metric threshold of 4.
@@ -286,13 +286,6 @@ public class XmpUtilWriter {
                          List<BibEntry> bibtexEntries,
                          BibDatabase database)
             throws IOException, TransformerException {
-        List<BibEntry> resolvedEntries;
-        if (database == null) {
-            resolvedEntries = bibtexEntries;
-        } else {
-            resolvedEntries = database.resolveForStrings(bibtexEntries, false);
-        }
-
         // Read from another file
         // Reason: Apache PDFBox does not support writing while the file is opened
         // See https://issues.apache.org/jira/browse/PDFBOX-4028
@@ -302,11 +295,7 @@ public class XmpUtilWriter {
                 throw new EncryptedPdfsNotSupportedException();
             }
 
-            // Write schemas (PDDocumentInformation and DublinCoreSchema) to the document metadata
-            if (!resolvedEntries.isEmpty()) {
-                writeDocumentInformation(document, resolvedEntries.getFirst(), null);
-                writeDublinCore(document, resolvedEntries, null);
-            }
+            writeXmp(document, bibtexEntries, database);
 
             // Save updates to original file
             try {
@@ -320,6 +309,34 @@ public class XmpUtilWriter {
         Files.delete(newFile);
     }
 
+    /**
+     * Writes the given BibTeX entries to the document information and the XMP metadata of the given, already loaded
+     * document. The document is not saved.
+     *
+     * @param document      The document to write the entries to.
+     * @param bibtexEntries The entries to write to the document.
+     * @param database      An optional database which the given bibtex entries belong to, which will be used
+     *                      to resolve strings. If the database is null the strings will not be resolved.
+     * @throws TransformerException If the entry was malformed or unsupported.
+     */
+    public void writeXmp(PDDocument document,
+                         List<BibEntry> bibtexEntries,
+                         BibDatabase database)
+            throws IOException, TransformerException {
+        List<BibEntry> resolvedEntries;
+        if (database == null) {
+            resolvedEntries = bibtexEntries;
+        } else {
+            resolvedEntries = database.resolveForStrings(bibtexEntries, false);
+        }
+
+        // Write schemas (PDDocumentInformation and DublinCoreSchema) to the document metadata
+        if (!resolvedEntries.isEmpty()) {
+            writeDocumentInformation(document, resolvedEntries.getFirst(), null);
+            writeDublinCore(document, resolvedEntries, null);
+        }
+    }
+
     private BibEntry getDefaultOrDatabaseEntry(BibEntry defaultEntry, BibDatabase database) {
         if (database == null) {
             return defaultEntry;
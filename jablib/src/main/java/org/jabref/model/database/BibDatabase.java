@@ -34,14 +34,12 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.ParsedEntryLink;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
-import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -197,7 +195,7 @@ public class BibDatabase {
         }
 
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.registerDatabase(this);
         }
         eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         entries.addAll(newEntries);
@@ -249,6 +247,7 @@ public class BibDatabase {
         newEntries.removeIf(entry -> idsToBeDeleted.contains(entry.getId()));
 
         toBeDeleted.forEach(entry -> {
+            entry.unregisterDatabase(this);
             entriesId.remove(entry.getId());
             removeEntryFromIndex(entry);
         });
@@ -616,11 +615,6 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
-    }
-
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -91,26 +91,39 @@ public class BibEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    // The caches, the event bus, and the type property are created on first use only.
+    // Most entries never need them (e.g., when converting a large library using JabKit), but they would dominate the heap footprint of an entry.
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private @Nullable Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile @Nullable Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private @Nullable MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    private volatile @Nullable EventBus eventBus;
+
+    /**
+     * The databases containing this entry. Field changes are posted to their event buses directly, so that an entry does not need an event bus of its own for that.
+     */
+    private volatile List<BibDatabase> databases = List.of();
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    /**
+     * The entry type as long as {@link #typeProperty} was not requested. Afterwards, the property holds the type.
+     */
+    private volatile EntryType type = DEFAULT_TYPE;
+
+    private volatile @Nullable ObjectProperty<EntryType> typeProperty;
 
     private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
 
@@ -124,6 +137,19 @@ public class BibEntry {
      */
     private String parsedSerialization = "";
 
+    /**
+     * Position (counted in characters) of the parsed serialization in the text the entry was read from. -1 if unknown.
+     * Used to copy unchanged entries directly from the file when saving.
+     */
+    private long parsedSerializationPosition = -1;
+
+    /**
+     * Position (counted in bytes) of the parsed serialization in the file written last. -1 if unknown. Only valid for
+     * the version of the file identified by {@link #parsedSerializationFileVersion}.
+     */
+    private long parsedSerializationBytePosition = -1;
+    private long parsedSerializationFileVersion;
+
     /**
      * Marks whether the complete serialization, which was read from file, should be used.
      * <p>
@@ -163,10 +189,13 @@ public class BibEntry {
      * Does <em>not</em> port the listeners.
      */
     public BibEntry(BibEntry other) {
-        this(other.type.getValue());
+        this(other.getType());
         this.fields = FXCollections.observableMap(new ConcurrentHashMap<>(other.fields));
         this.commentsBeforeEntry = other.commentsBeforeEntry;
         this.parsedSerialization = other.parsedSerialization;
+        this.parsedSerializationPosition = other.parsedSerializationPosition;
+        this.parsedSerializationBytePosition = other.parsedSerializationBytePosition;
+        this.parsedSerializationFileVersion = other.parsedSerializationFileVersion;
         this.changed = other.changed;
     }
 
@@ -334,7 +363,7 @@ public class BibEntry {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(getType().getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -347,8 +376,8 @@ public class BibEntry {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().getType();
+                EntryType targetEntry = getType();
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -384,7 +413,7 @@ public class BibEntry {
     public void setId(@NonNull String id) {
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -425,11 +454,15 @@ public class BibEntry {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        ObjectProperty<EntryType> property = typeProperty;
+        return property == null ? type : property.getValue();
     }
 
-    public ObjectProperty<EntryType> typeProperty() {
-        return type;
+    public synchronized ObjectProperty<EntryType> typeProperty() {
+        if (typeProperty == null) {
+            typeProperty = new SimpleObjectProperty<>(type);
+        }
+        return typeProperty;
     }
 
     /**
@@ -444,16 +477,26 @@ public class BibEntry {
      * If the new entry type equals the old entry type no changed flag is set.
      */
     public Optional<FieldChange> setType(@NonNull EntryType newType, EntriesEventSource eventSource) {
-        EntryType oldType = type.get();
+        EntryType oldType = getType();
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        ObjectProperty<EntryType> property;
+        synchronized (this) {
+            // Synchronized with typeProperty(), which copies the type into the property
+            property = typeProperty;
+            if (property == null) {
+                this.type = newType;
+            }
+        }
+        if (property != null) {
+            property.setValue(newType);
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -483,8 +526,15 @@ public class BibEntry {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+            return Optional.of(getType().getDisplayName());
+        }
+
+        Map<Field, String> latexFreeFields = this.latexFreeFields;
+        if (latexFreeFields == null) {
+            latexFreeFields = new ConcurrentHashMap<>();
+            this.latexFreeFields = latexFreeFields;
+        }
+        if (latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
@@ -639,9 +689,9 @@ public class BibEntry {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -684,7 +734,7 @@ public class BibEntry {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -795,8 +845,54 @@ public class BibEntry {
     }
 
     public void setParsedSerialization(String parsedSerialization) {
+        setParsedSerialization(parsedSerialization, -1);
+    }
+
+    /**
+     * @param position the position (counted in characters) of the serialization in the text the entry was read from
+     */
+    public void setParsedSerialization(String parsedSerialization, long position) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
+        this.parsedSerializationPosition = position;
+        this.parsedSerializationBytePosition = -1;
+    }
+
+    /**
+     * @return the position (counted in characters) of the parsed serialization in the text the entry was read from, -1 if unknown
+     */
+    public long getParsedSerializationPosition() {
+        return parsedSerializationPosition;
+    }
+
+    /**
+     * Updates the position of the parsed serialization after it has been written unchanged at another position, e.g., when the file was saved.
+     */
+    public void setParsedSerializationPosition(long position) {
+        this.parsedSerializationPosition = position;
+    }
+
+    /**
+     * @return the position (counted in bytes) of the parsed serialization in the file written last, -1 if unknown.
+     *         The position is only valid for the version of the file returned by {@link #getParsedSerializationFileVersion()}.
+     */
+    public long getParsedSerializationBytePosition() {
+        return parsedSerializationBytePosition;
+    }
+
+    public long getParsedSerializationFileVersion() {
+        return parsedSerializationFileVersion;
+    }
+
+    /**
+     * Updates the byte position of the parsed serialization after it has been written unchanged to a file
+     *
+     * @param bytePosition the position of the serialization in the file, counted in bytes
+     * @param fileVersion  identifies the version of the file the position is valid for
+     */
+    public void setParsedSerializationBytePosition(long bytePosition, long fileVersion) {
+        this.parsedSerializationBytePosition = bytePosition;
+        this.parsedSerializationFileVersion = fileVersion;
     }
 
     public void setCommentsBeforeEntry(String parsedComments) {
@@ -938,7 +1034,7 @@ public class BibEntry {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(getType(), entry.getType())
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -956,22 +1052,73 @@ public class BibEntry {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(getType(), fields, commentsBeforeEntry);
     }
 
-    public void registerListener(Object object) {
-        this.eventBus.register(object);
+    public synchronized void registerListener(Object object) {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
+        eventBus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus eventBus = this.eventBus;
+        if (eventBus == null) {
+            LOGGER.debug("No listener registered, thus cannot unregister {}", object);
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            eventBus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Relays the changes of this entry to the given database. Called by {@link BibDatabase} when inserting this entry.
+     */
+    public synchronized void registerDatabase(@NonNull BibDatabase database) {
+        if (databases.contains(database)) {
+            return;
+        }
+        List<BibDatabase> newDatabases = new ArrayList<>(databases);
+        newDatabases.add(database);
+        databases = List.copyOf(newDatabases);
+    }
+
+    /**
+     * Stops relaying the changes of this entry to the given database. Called by {@link BibDatabase} when removing this entry.
+     */
+    public synchronized void unregisterDatabase(@NonNull BibDatabase database) {
+        if (!databases.contains(database)) {
+            return;
+        }
+        List<BibDatabase> newDatabases = new ArrayList<>(databases);
+        newDatabases.remove(database);
+        databases = List.copyOf(newDatabases);
+    }
+
+    @VisibleForTesting
+    boolean hasEventBus() {
+        return eventBus != null;
+    }
+
+    /**
+     * Posts the event to the registered listeners and to the databases containing this entry.
+     * Without any listener, there is no event bus of this entry.
+     */
+    private void postEvent(FieldChangedEvent event) {
+        EventBus eventBus = this.eventBus;
+        if (eventBus != null) {
+            eventBus.post(event);
+        }
+        for (BibDatabase database : databases) {
+            database.postEvent(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -1022,6 +1169,9 @@ public class BibEntry {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1038,6 +1188,9 @@ public class BibEntry {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
+        if (fieldsAsKeywords == null) {
+            fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+        }
         if (field instanceof StandardField standardField) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
@@ -1060,10 +1213,13 @@ public class BibEntry {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField standardField) {
+        if (latexFreeFields != null) {
+            latexFreeFields.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if ((fieldsAsKeywords != null) && (field instanceof StandardField standardField)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
@@ -1163,7 +1319,7 @@ public class BibEntry {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
         return EasyBind.valueAt(fields, field);
     }
@@ -1180,7 +1336,7 @@ public class BibEntry {
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {fields, typeProperty()};
     }
 
     /**
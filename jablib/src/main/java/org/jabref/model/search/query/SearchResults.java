@@ -12,10 +12,31 @@ import org.jabref.model.entry.BibEntry;
 
 public class SearchResults {
 
-    private final Map<String, List<SearchResult>> searchResults = new ConcurrentHashMap<>();
+    private final Map<String, List<SearchResult>> searchResults;
 
+    public SearchResults() {
+        this.searchResults = new ConcurrentHashMap<>();
+    }
+
+    private SearchResults(Map<String, List<SearchResult>> searchResults) {
+        this.searchResults = searchResults;
+    }
+
+    /**
+     * Adds the results of the given search results. The given search results are not modified by later changes of this one.
+     */
     public void mergeSearchResults(SearchResults additionalResults) {
-        this.searchResults.putAll(additionalResults.searchResults);
+        additionalResults.searchResults.forEach((entryId, results) ->
+                this.searchResults.computeIfAbsent(entryId, _ -> new ArrayList<>()).addAll(results));
+    }
+
+    /**
+     * @return a copy which cannot be changed, e.g., to share it between several searches
+     */
+    public SearchResults unmodifiableCopy() {
+        Map<String, List<SearchResult>> copy = new HashMap<>();
+        searchResults.forEach((entryId, results) -> copy.put(entryId, List.copyOf(results)));
+        return new SearchResults(Map.copyOf(copy));
     }
 
     public void addSearchResult(String entryId, SearchResult result) {
@@ -51,6 +72,20 @@ public class SearchResults {
         return results;
     }
 
+    /**
+     * @return the results of the given entries only
+     */
+    public SearchResults getSearchResultsForEntries(Collection<BibEntry> entries) {
+        SearchResults results = new SearchResults();
+        for (BibEntry entry : entries) {
+            List<SearchResult> entryResults = searchResults.get(entry.getId());
+            if (entryResults != null) {
+                entryResults.forEach(result -> results.addSearchResult(entry.getId(), result));
+            }
+        }
+        return results;
+    }
+
     public Set<String> getMatchedEntries() {
         return searchResults.keySet();
     }
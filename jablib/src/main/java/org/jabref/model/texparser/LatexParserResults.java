@@ -32,6 +32,10 @@ public class LatexParserResults {
         parsedTexFiles.put(texFile, parsedFile);
     }
 
+    public void addAll(LatexParserResults results) {
+        parsedTexFiles.putAll(results.parsedTexFiles);
+    }
+
     public LatexParserResult remove(Path texFile) {
         return parsedTexFiles.remove(texFile);
     }
@@ -19,6 +19,16 @@ public interface FileUpdateMonitor {
      */
     void removeListener(Path path, FileUpdateListener listener);
 
+    /**
+     * Records the current content of the given file as its known state, e.g., because JabRef has just written the file.
+     * The listeners of the file are notified only about changes to a different content.
+     *
+     * @param file The monitored file.
+     */
+    default void markAsUnchanged(Path file) {
+        // empty
+    }
+
     /**
      * Indicates whether the native system's file monitor has successfully started.
      *
@@ -0,0 +1,137 @@
+package org.jabref.logic.crawler;
+
+import java.net.MalformedURLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.FetcherClientException;
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherServerException;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.logic.util.URLUtil;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.http.SimpleHttpResponse;
+import org.jabref.model.paging.Page;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudyFetcherTest {
+
+    @Test
+    void resultsAreOrderedByQueryAndFetcher() throws FetcherException, InterruptedException {
+        SearchBasedFetcher first = fetcherReturningTitle("First");
+        SearchBasedFetcher second = fetcherReturningTitle("Second");
+
+        List<QueryResult> results = new StudyFetcher(List.of(first, second), List.of("a", "b")).crawl();
+
+        assertEquals(List.of("a", "b"), results.stream().map(QueryResult::getQuery).toList());
+        for (QueryResult result : results) {
+            assertEquals(List.of("First", "Second"), result.getResultsPerFetcher().stream().map(FetchResult::getFetcherName).toList());
+        }
+    }
+
+    @Test
+    void resultsAreConsumedInQueryAndFetcherOrder() throws Exception {
+        SearchBasedFetcher slow = mock(SearchBasedFetcher.class);
+        when(slow.getName()).thenReturn("Slow");
+        when(slow.performSearch(anyString())).thenAnswer(_ -> {
+            Thread.sleep(100);
+            return List.of(new BibEntry());
+        });
+        SearchBasedFetcher fast = fetcherReturningTitle("Fast");
+        List<String> consumed = new ArrayList<>();
+
+        new StudyFetcher(List.of(slow, fast), List.of("a", "b")).crawl((query, fetchResult) -> consumed.add(query + " " + fetchResult.getFetcherName()));
+
+        assertEquals(List.of("a Slow", "a Fast", "b Slow", "b Fast"), consumed);
+    }
+
+    @Test
+    void pagesAreConcatenatedInOrder() throws FetcherException, InterruptedException {
+        PagedSearchBasedFetcher fetcher = mock(PagedSearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn("Paged");
+        when(fetcher.getPageSize()).thenReturn(50);
+        when(fetcher.performSearchPaged(anyString(), anyInt())).thenAnswer(invocation -> {
+            int page = invocation.getArgument(1);
+            if (page == 0) {
+                // Make the first page arrive last
+                Thread.sleep(100);
+            }
+            return new Page<>("query", page, List.of(new BibEntry().withField(StandardField.TITLE, "Page " + page)));
+        });
+
+        List<QueryResult> results = new StudyFetcher(List.of(fetcher), List.of("query")).crawl();
+
+        List<String> titles = results.getFirst().getResultsPerFetcher().getFirst().getFetchResult().getEntries().stream()
+                                     .map(entry -> entry.getField(StandardField.TITLE).orElseThrow())
+                                     .toList();
+        assertEquals(List.of("Page 0", "Page 1"), titles);
+    }
+
+    @Test
+    void concurrentRequestsPerCatalogAreLimited() throws FetcherException, InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        SearchBasedFetcher fetcher = mock(SearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn("Limited");
+        when(fetcher.performSearch(anyString())).thenAnswer(_ -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return List.of();
+        });
+
+        new StudyFetcher(List.of(fetcher), List.of("a", "b", "c", "d", "e", "f"), 2, Duration.ZERO).crawl();
+
+        assertTrue(maxRunning.get() <= 2, "max running: " + maxRunning.get());
+    }
+
+    @Test
+    void serverErrorsAreRetried() throws FetcherException, MalformedURLException, InterruptedException {
+        SearchBasedFetcher fetcher = mock(SearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn("Flaky");
+        when(fetcher.performSearch("query"))
+                .thenThrow(new FetcherServerException(URLUtil.create("https://example.org/api"), new SimpleHttpResponse(503, "Service Unavailable", "")))
+                .thenReturn(List.of(new BibEntry()));
+
+        List<QueryResult> results = new StudyFetcher(List.of(fetcher), List.of("query"), 1, Duration.ZERO).crawl();
+
+        assertEquals(1, results.getFirst().getResultsPerFetcher().getFirst().getFetchResult().getEntryCount());
+        verify(fetcher, times(2)).performSearch("query");
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() throws FetcherException, MalformedURLException, InterruptedException {
+        SearchBasedFetcher fetcher = mock(SearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn("Broken");
+        when(fetcher.performSearch("query"))
+                .thenThrow(new FetcherClientException(URLUtil.create("https://example.org/api"), new SimpleHttpResponse(400, "Bad Request", "")));
+
+        List<QueryResult> results = new StudyFetcher(List.of(fetcher), List.of("query"), 1, Duration.ZERO).crawl();
+
+        assertEquals(List.of(), results.getFirst().getResultsPerFetcher());
+        verify(fetcher, times(1)).performSearch("query");
+    }
+
+    private static SearchBasedFetcher fetcherReturningTitle(String name) throws FetcherException {
+        SearchBasedFetcher fetcher = mock(SearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn(name);
+        when(fetcher.performSearch(anyString())).thenReturn(List.of(new BibEntry().withField(StandardField.TITLE, name)));
+        return fetcher;
+    }
+}
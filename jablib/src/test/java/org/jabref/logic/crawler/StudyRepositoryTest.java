@@ -47,6 +47,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class StudyRepositoryTest {
@@ -201,6 +202,19 @@ class StudyRepositoryTest {
         assertEquals(new HashSet<>(getNonDuplicateBibEntryResult().getEntries()), new HashSet<>(getTestStudyRepository().getStudyResultEntries().getEntries()));
     }
 
+    @Test
+    void abortRevertsOnlyWrittenResultFiles() throws GitAPIException, SaveException, IOException {
+        Path userFile = tempRepositoryDirectory.resolve("notes.txt");
+        Files.writeString(userFile, "untracked notes of the user");
+
+        studyRepository.startPersisting(List.of("Quantum"));
+        studyRepository.persistFetchResult("Quantum", new FetchResult("ArXiv", new BibDatabase(stripCitationKeys(getArXivQuantumMockResults()))));
+        studyRepository.abortPersisting();
+
+        verify(gitHandler).revertFiles(List.of(tempRepositoryDirectory.resolve(hashCodeQuantum + " - Quantum").resolve("ArXiv.bib")));
+        assertEquals("untracked notes of the user", Files.readString(userFile));
+    }
+
     private StudyRepository getTestStudyRepository() throws IOException, URISyntaxException, JabRefException {
         setUpTestStudyDefinitionFile();
         studyRepository = new StudyRepository(
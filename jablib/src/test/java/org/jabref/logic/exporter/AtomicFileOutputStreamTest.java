@@ -4,8 +4,10 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import com.google.common.base.Strings;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,22 @@ class AtomicFileOutputStreamTest {
         assertEquals(FIVE_THOUSAND_CHARS, Files.readString(out));
     }
 
+    @Test
+    void transferFromCopiesBytesOfSourceFile(@TempDir Path tempDir) throws IOException {
+        Path out = tempDir.resolve("transfer.txt");
+        Files.writeString(out, FIFTY_CHARS);
+
+        // The source is closed first, as the target file cannot be replaced while it is open on some platforms
+        try (AtomicFileOutputStream atomicFileOutputStream = new AtomicFileOutputStream(out);
+             FileChannel source = FileChannel.open(out, StandardOpenOption.READ)) {
+            atomicFileOutputStream.write("start ".getBytes());
+            atomicFileOutputStream.transferFrom(source, 10, 20);
+            atomicFileOutputStream.write(" end".getBytes());
+        }
+
+        assertEquals("start " + FIFTY_CHARS.substring(10, 30) + " end", Files.readString(out));
+    }
+
     @Test
     void originalContentExistsAtWriteError(@TempDir Path tempDir) throws IOException {
         Path pathToTestFile = tempDir.resolve("error-during-save.txt");
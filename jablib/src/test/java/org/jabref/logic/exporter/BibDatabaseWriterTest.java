@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
@@ -29,6 +30,7 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.os.OS;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -56,8 +58,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -210,6 +216,25 @@ class BibDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void writeDatabaseWithIteratorWritesEntriesInIteratorOrder() throws IOException {
+        database.setPreamble("Test preamble");
+        database.addString(new BibtexString("name", "content"));
+        database.setEpilog("Test epilog");
+        database.insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("notWritten"));
+        BibEntry second = new BibEntry(StandardEntryType.Article).withCitationKey("second").withField(StandardField.TITLE, "Second");
+        BibEntry first = new BibEntry(StandardEntryType.Book).withCitationKey("first").withField(StandardField.TITLE, "First");
+
+        databaseWriter.writeDatabase(bibtexContext, List.of(second, new BibEntry(), first).iterator());
+
+        StringWriter expected = new StringWriter();
+        new BibDatabaseWriter(new BibWriter(expected, OS.NEWLINE), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .writePartOfDatabase(bibtexContext, List.of(second, first));
+        assertEquals(expected.toString(), stringWriter.toString());
+        assertTrue(stringWriter.toString().indexOf("@Article{second,") < stringWriter.toString().indexOf("@Book{first,"));
+        assertFalse(stringWriter.toString().contains("notWritten"));
+    }
+
     @Test
     void writeEpilogue() throws IOException {
         database.setEpilog("Test epilog");
@@ -1086,4 +1111,192 @@ class BibDatabaseWriterTest {
         // returns tu original entry, not to the last saved one
         assertEquals(bibtexEntry, stringWriter.toString());
     }
+
+    @Test
+    void savingToFileReadFromCopiesUnchangedEntries(@TempDir Path bibFolder) throws IOException {
+        Path file = bibFolder.resolve("complex.bib");
+        Files.copy(Path.of("src/test/resources/testbib/complex.bib"), file);
+        BibDatabaseContext context = importAndChangeFirstEntry(file);
+        List<BibEntry> entries = context.getDatabase().getEntries();
+        assertTrue(entries.stream().filter(entry -> !entry.hasChanged()).anyMatch(entry -> entry.getParsedSerializationPosition() >= 0));
+        String expected = writeToString(context);
+
+        writeToFile(context, file, StandardCharsets.UTF_8);
+
+        assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void savingToFileModifiedAfterReadingWritesAllEntries(@TempDir Path bibFolder) throws IOException {
+        Path file = bibFolder.resolve("complex.bib");
+        Files.copy(Path.of("src/test/resources/testbib/complex.bib"), file);
+        BibDatabaseContext context = importAndChangeFirstEntry(file);
+        String expected = writeToString(context);
+        Files.writeString(file, "% Modified by another application" + OS.NEWLINE + Files.readString(file, StandardCharsets.UTF_8).substring(100), StandardCharsets.UTF_8);
+
+        writeToFile(context, file, StandardCharsets.UTF_8);
+
+        assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void savingTwiceToFileReadFromCopiesFromUpdatedPositions(@TempDir Path bibFolder) throws IOException {
+        Path file = bibFolder.resolve("complex.bib");
+        Files.copy(Path.of("src/test/resources/testbib/complex.bib"), file);
+        BibDatabaseContext context = importAndChangeFirstEntry(file);
+        writeToFile(context, file, StandardCharsets.UTF_8).updateParsedSerializationPositions();
+        String firstSave = Files.readString(file, StandardCharsets.UTF_8);
+
+        for (BibEntry entry : context.getDatabase().getEntries()) {
+            if (!entry.hasChanged()) {
+                long position = entry.getParsedSerializationPosition();
+                assertEquals(entry.getParsedSerialization(), firstSave.substring((int) position, (int) position + entry.getParsedSerialization().length()));
+            }
+        }
+
+        writeToFile(context, file, StandardCharsets.UTF_8);
+
+        assertEquals(firstSave, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void savingRecordsBytePositionsOfUnchangedEntries(@TempDir Path bibFolder) throws IOException {
+        Path file = bibFolder.resolve("complex.bib");
+        Files.copy(Path.of("src/test/resources/testbib/complex.bib"), file);
+        BibDatabaseContext context = importAndChangeFirstEntry(file);
+        writeToFile(context, file, StandardCharsets.UTF_8).updateParsedSerializationPositions();
+        byte[] firstSave = Files.readAllBytes(file);
+
+        for (BibEntry entry : context.getDatabase().getEntries()) {
+            if (!entry.hasChanged()) {
+                byte[] serialization = entry.getParsedSerialization().getBytes(StandardCharsets.UTF_8);
+                int bytePosition = (int) entry.getParsedSerializationBytePosition();
+                assertArrayEquals(serialization, Arrays.copyOfRange(firstSave, bytePosition, bytePosition + serialization.length));
+            }
+        }
+    }
+
+    @Test
+    void savingToFileModifiedAfterSavingDoesNotUseBytePositions(@TempDir Path bibFolder) throws IOException {
+        Path file = bibFolder.resolve("complex.bib");
+        Files.copy(Path.of("src/test/resources/testbib/complex.bib"), file);
+        BibDatabaseContext context = importAndChangeFirstEntry(file);
+        writeToFile(context, file, StandardCharsets.UTF_8).updateParsedSerializationPositions();
+        String expected = writeToString(context);
+        Files.writeString(file, "% Modified by another application" + OS.NEWLINE + Files.readString(file, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        writeToFile(context, file, StandardCharsets.UTF_8);
+
+        assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void reformattingLargeLibraryInParallelWritesSameOutputAsSequentially() throws IOException {
+        insertEntries(1000);
+        saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, true);
+        String expected = writeReformatted(null);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, writeReformatted(pool));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void reformattingLargeLibraryInParallelReportsInvalidField() {
+        insertEntries(1000);
+        database.getEntries().get(700).setField(StandardField.TITLE, "Unbalanced {braces");
+        saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, true);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThrows(IOException.class, () -> writeReformatted(pool));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void saveActionsAppliedInParallelChangeSameFieldsAsSequentially() throws IOException {
+        insertEntries(1000);
+        metaData.setSaveActions(new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new UpperCaseFormatter()))));
+        BibDatabaseContext copy = new BibDatabaseContext(new BibDatabase(database.getEntries().stream().map(BibEntry::new).toList()), metaData);
+
+        BibDatabaseWriter sequentialWriter = new BibDatabaseWriter(new BibWriter(new StringWriter(), OS.NEWLINE), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+        sequentialWriter.setWorkerPool(null);
+        sequentialWriter.writeDatabase(copy);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            databaseWriter.setWorkerPool(pool);
+            databaseWriter.writeDatabase(bibtexContext);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(copy.getDatabase().getEntries(), database.getEntries());
+        assertEquals(1000, databaseWriter.getSaveActionsFieldChanges().size());
+        assertEquals(sequentialWriter.getSaveActionsFieldChanges().stream().map(FieldChange::getNewValue).sorted().toList(),
+                databaseWriter.getSaveActionsFieldChanges().stream().map(FieldChange::getNewValue).sorted().toList());
+        assertSame(database.getEntries().getFirst(), databaseWriter.getSaveActionsFieldChanges().getFirst().getEntry());
+    }
+
+    @Test
+    void saveActionsAreAppliedToEntriesChangedSinceLastSaveOnly() throws IOException {
+        insertEntries(10);
+        metaData.setSaveActions(new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new UpperCaseFormatter()))));
+        DirtyEntriesTracker tracker = new DirtyEntriesTracker(bibtexContext);
+        databaseWriter.setDirtyEntriesTracker(tracker);
+        databaseWriter.writeDatabase(bibtexContext);
+        assertEquals(10, databaseWriter.getSaveActionsFieldChanges().size());
+
+        BibEntry changedEntry = database.getEntries().get(3);
+        changedEntry.setField(StandardField.TITLE, "Changed title");
+        initializeDatabaseWriter();
+        databaseWriter.setDirtyEntriesTracker(tracker);
+        databaseWriter.writeDatabase(bibtexContext);
+
+        assertEquals(List.of(new FieldChange(changedEntry, StandardField.TITLE, "Changed title", "CHANGED TITLE")), databaseWriter.getSaveActionsFieldChanges());
+    }
+
+    private void insertEntries(int count) {
+        for (int i = 0; i < count; i++) {
+            database.insertEntry(new BibEntry((i % 2) == 0 ? StandardEntryType.Article : StandardEntryType.Book)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Author " + i)
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withUserComments((i % 10) == 0 ? "% Comment " + i : ""));
+        }
+    }
+
+    private String writeReformatted(ForkJoinPool pool) throws IOException {
+        StringWriter writer = new StringWriter();
+        BibDatabaseWriter reformattingWriter = new BibDatabaseWriter(new BibWriter(writer, OS.NEWLINE), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+        reformattingWriter.setWorkerPool(pool);
+        reformattingWriter.writeDatabase(bibtexContext);
+        return writer.toString();
+    }
+
+    private BibDatabaseContext importAndChangeFirstEntry(Path file) throws IOException {
+        ParserResult result = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(file);
+        result.getDatabase().getEntries().getFirst().setField(StandardField.TITLE, "Changed title");
+        return new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+    }
+
+    private String writeToString(BibDatabaseContext context) throws IOException {
+        StringWriter writer = new StringWriter();
+        new BibDatabaseWriter(new BibWriter(writer, context.getDatabase().getNewLineSeparator()), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .writeDatabase(context);
+        return writer.toString();
+    }
+
+    private BibDatabaseWriter writeToFile(BibDatabaseContext context, Path file, Charset charset) throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, charset)) {
+            BibDatabaseWriter writer = new BibDatabaseWriter(new BibWriter(fileWriter, context.getDatabase().getNewLineSeparator()), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+            writer.writeDatabase(context);
+            return writer;
+        }
+    }
 }
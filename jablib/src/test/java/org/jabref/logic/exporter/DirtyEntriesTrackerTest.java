@@ -0,0 +1,75 @@
+package org.jabref.logic.exporter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.cleanup.FieldFormatterCleanup;
+import org.jabref.logic.cleanup.FieldFormatterCleanups;
+import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
+import org.jabref.logic.formatter.casechanger.UpperCaseFormatter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DirtyEntriesTrackerTest {
+
+    private static final Optional<FieldFormatterCleanups> SAVE_ACTIONS = Optional.of(
+            new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()))));
+
+    private final BibEntry first = new BibEntry().withField(StandardField.TITLE, "First");
+    private final BibEntry second = new BibEntry().withField(StandardField.TITLE, "Second");
+    private BibDatabase database;
+    private DirtyEntriesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(first, second));
+        tracker = new DirtyEntriesTracker(new BibDatabaseContext(database));
+    }
+
+    @Test
+    void allEntriesAreDirtyInitially() {
+        assertEquals(List.of(first, second), tracker.getDirtyEntries(database.getEntries(), SAVE_ACTIONS));
+    }
+
+    @Test
+    void cleanEntriesAreNotDirty() {
+        tracker.markClean(List.of(first), SAVE_ACTIONS);
+
+        assertEquals(List.of(second), tracker.getDirtyEntries(database.getEntries(), SAVE_ACTIONS));
+    }
+
+    @Test
+    void changedEntryIsDirtyAgain() {
+        tracker.markClean(database.getEntries(), SAVE_ACTIONS);
+
+        second.setField(StandardField.TITLE, "Changed");
+
+        assertEquals(List.of(second), tracker.getDirtyEntries(database.getEntries(), SAVE_ACTIONS));
+    }
+
+    @Test
+    void addedEntryIsDirty() {
+        tracker.markClean(database.getEntries(), SAVE_ACTIONS);
+        BibEntry third = new BibEntry().withField(StandardField.TITLE, "Third");
+
+        database.insertEntry(third);
+
+        assertEquals(List.of(third), tracker.getDirtyEntries(database.getEntries(), SAVE_ACTIONS));
+    }
+
+    @Test
+    void otherSaveActionsMakeAllEntriesDirty() {
+        tracker.markClean(database.getEntries(), SAVE_ACTIONS);
+        Optional<FieldFormatterCleanups> otherSaveActions = Optional.of(
+                new FieldFormatterCleanups(true, List.of(new FieldFormatterCleanup(StandardField.TITLE, new UpperCaseFormatter()))));
+
+        assertEquals(List.of(first, second), tracker.getDirtyEntries(database.getEntries(), otherSaveActions));
+    }
+}
@@ -0,0 +1,134 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.pdf.PdfEmbeddedBibFileImporter;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilWriter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LinkedPdfsMetadataWriterTest {
+
+    private LinkedPdfsMetadataWriter writer;
+    private PdfEmbeddedBibFileImporter importer;
+    private BibDatabaseContext databaseContext;
+    private FilePreferences filePreferences;
+    private Path pdfFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        filePreferences = mock(FilePreferences.class);
+        when(filePreferences.getUserAndHost()).thenReturn(tempDir.toAbsolutePath().toString());
+        when(filePreferences.shouldStoreFilesRelativeToBibFile()).thenReturn(false);
+
+        XmpPreferences xmpPreferences = new XmpPreferences(false, Set.of(), new SimpleObjectProperty<>(','));
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(StandardField.MONTH), List.of());
+        writer = new LinkedPdfsMetadataWriter(
+                new XmpUtilWriter(xmpPreferences),
+                new EmbeddedBibFilePdfExporter(BibDatabaseMode.BIBTEX, new BibEntryTypesManager(), fieldPreferences),
+                true,
+                true);
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences().getNonWrappableFields()).thenReturn(FXCollections.emptyObservableList());
+        importer = new PdfEmbeddedBibFileImporter(importFormatPreferences);
+
+        pdfFile = tempDir.resolve("paper.pdf");
+        try (PDDocument pdf = new PDDocument()) {
+            pdf.addPage(new PDPage());
+            pdf.save(pdfFile.toFile());
+        }
+
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article)
+                .withCitationKey("Darwin1888")
+                .withField(StandardField.AUTHOR, "Charles Darwin")
+                .withField(StandardField.TITLE, "The Descent of Man")
+                .withFiles(List.of(new LinkedFile("", pdfFile, "PDF"))));
+        databaseContext.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article)
+                .withCitationKey("NoFile")
+                .withFiles(List.of(new LinkedFile("", tempDir.resolve("missing.pdf"), "PDF"))));
+    }
+
+    @Test
+    void findsExistingLinkedPdfsOnly() {
+        Map<Path, List<BibEntry>> entriesByFile = LinkedPdfsMetadataWriter.findLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences);
+
+        assertEquals(Map.of(pdfFile.toAbsolutePath().normalize(), List.of(databaseContext.getEntries().getFirst())), entriesByFile);
+    }
+
+    @Test
+    void writesEmbeddedBibFile() throws IOException {
+        LinkedPdfsMetadataWriter.Report report = writeAll();
+
+        assertEquals(1, report.count(LinkedPdfsMetadataWriter.Status.WRITTEN));
+        List<BibEntry> importedEntries = importer.importDatabase(pdfFile).getDatabase().getEntries();
+        assertEquals(List.of("Darwin1888"), importedEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList());
+        assertFalse(Files.exists(pdfFile.resolveSibling("paper.pdf.tmp")));
+    }
+
+    @Test
+    void fileWithUpToDateMetadataIsNotWritten() throws IOException {
+        writeAll();
+        FileTime lastModifiedTime = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(pdfFile, lastModifiedTime);
+        byte[] content = Files.readAllBytes(pdfFile);
+
+        LinkedPdfsMetadataWriter.Report report = writeAll();
+
+        assertEquals(1, report.count(LinkedPdfsMetadataWriter.Status.UNCHANGED));
+        assertEquals(lastModifiedTime, Files.getLastModifiedTime(pdfFile));
+        assertArrayEquals(content, Files.readAllBytes(pdfFile));
+    }
+
+    @Test
+    void invalidPdfIsReportedAndNotChanged() throws IOException {
+        Files.writeString(pdfFile, "no pdf");
+        List<LinkedPdfsMetadataWriter.FileResult> finishedFiles = new ArrayList<>();
+
+        LinkedPdfsMetadataWriter.Report report = writer.write(databaseContext, Map.of(pdfFile, databaseContext.getEntries()), finishedFiles::add);
+
+        assertEquals(List.of(pdfFile), report.getFailures().stream().map(LinkedPdfsMetadataWriter.FileResult::file).toList());
+        assertEquals(report.results(), finishedFiles);
+        assertEquals("no pdf", Files.readString(pdfFile));
+    }
+
+    private LinkedPdfsMetadataWriter.Report writeAll() {
+        return writer.write(databaseContext,
+                LinkedPdfsMetadataWriter.findLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences),
+                _ -> {
+                });
+    }
+}
@@ -15,13 +15,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 class ProtectTermsFormatterTest {
 
+    private ProtectedTermsLoader protectedTermsLoader;
     private ProtectTermsFormatter formatter;
 
     @BeforeEach
     void setUp() {
-        formatter = new ProtectTermsFormatter(
-                new ProtectedTermsLoader(new ProtectedTermsPreferences(ProtectedTermsLoader.getInternalLists(),
-                        List.of(), List.of(), List.of())));
+        protectedTermsLoader = new ProtectedTermsLoader(new ProtectedTermsPreferences(ProtectedTermsLoader.getInternalLists(),
+                List.of(), List.of(), List.of()));
+        formatter = new ProtectTermsFormatter(protectedTermsLoader);
     }
 
     @Test
@@ -56,4 +57,18 @@ class ProtectTermsFormatterTest {
         assertEquals("{Testing {BPEL} Engine Performance: A Survey}",
                 formatter.format("{Testing BPEL Engine Performance: A Survey}"));
     }
+
+    @Test
+    void protectsRepeatedTerms() {
+        assertEquals("{VLSI} {VLSI}", formatter.format("VLSI VLSI"));
+    }
+
+    @Test
+    void doNotProtectTermsOfDisabledLists() {
+        assertEquals("{VLSI}", formatter.format("VLSI"));
+
+        protectedTermsLoader.getProtectedTermsLists().forEach(list -> list.setEnabled(false));
+
+        assertEquals("VLSI", formatter.format("VLSI"));
+    }
 }
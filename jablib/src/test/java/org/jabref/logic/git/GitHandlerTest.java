@@ -5,6 +5,7 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.JabRefException;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GitHandlerTest {
@@ -149,4 +151,20 @@ class GitHandlerTest {
         assertEquals(repositoryPath.toRealPath(), handlerOpt.get().repositoryPath.toRealPath(),
                 "Expected repositoryPath to match Git root");
     }
+
+    @Test
+    void revertFilesRevertsOnlyGivenFiles() throws IOException, GitAPIException {
+        Path committedResult = repositoryPath.resolve("initial.txt");
+        Files.writeString(committedResult, "result of aborted crawl");
+        Path newResult = repositoryPath.resolve("result.bib");
+        Files.writeString(newResult, "result of aborted crawl");
+        Path userFile = repositoryPath.resolve("notes.txt");
+        Files.writeString(userFile, "untracked notes of the user");
+
+        gitHandler.revertFiles(List.of(committedResult, newResult));
+
+        assertEquals("init", Files.readString(committedResult));
+        assertFalse(Files.exists(newResult));
+        assertEquals("untracked notes of the user", Files.readString(userFile));
+    }
 }
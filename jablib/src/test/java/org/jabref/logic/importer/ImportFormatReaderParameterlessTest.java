@@ -1,6 +1,8 @@
 package org.jabref.logic.importer;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import javafx.collections.FXCollections;
@@ -11,8 +13,10 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -46,6 +50,18 @@ class ImportFormatReaderParameterlessTest {
         assertThrows(NullPointerException.class, () -> reader.importUnknownFormat(null));
     }
 
+    @Test
+    void importUnknownFormatRecognizesFileLargerThanSniffedPrefix(@TempDir Path tempDir) throws IOException, ImportException {
+        Path file = tempDir.resolve("large.ris");
+        int entryCount = 30_000;
+        Files.writeString(file, "TY  - JOUR\nTI  - Some rather long title to make the file exceed the sniffed prefix\nER  - \n".repeat(entryCount));
+
+        ImportFormatReader.UnknownFormatImport unknownFormatImport = reader.importUnknownFormat(file, fileMonitor);
+
+        assertEquals("RIS", unknownFormatImport.format());
+        assertEquals(entryCount, unknownFormatImport.parserResult().getDatabase().getEntryCount());
+    }
+
     @Test
     void importFromFileWithUnknownFormatThrowsException() {
         assertThrows(ImportException.class, () -> reader.importFromFile("someunknownformat", Path.of("somepath")));
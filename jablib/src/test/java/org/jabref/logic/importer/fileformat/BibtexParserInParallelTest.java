@@ -0,0 +1,137 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/// Compares the results of [BibtexParser#parseInParallel(java.io.Reader, ForkJoinPool)] with the ones of [BibtexParser#parse(java.io.Reader)]
+class BibtexParserInParallelTest {
+
+    /// Large enough to be split into several chunks
+    private static final int NUMBER_OF_ENTRIES = 5000;
+
+    private static ForkJoinPool pool;
+
+    private ImportFormatPreferences importFormatPreferences;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+    }
+
+    @Test
+    void largeLibraryResultsInSameResult() throws IOException {
+        assertSameResult(createLibrary(NUMBER_OF_ENTRIES, ""));
+    }
+
+    @Test
+    void libraryWithWindowsLineEndingsResultsInSameResult() throws IOException {
+        assertSameResult(createLibrary(NUMBER_OF_ENTRIES, "").replace("\n", "\r\n"));
+    }
+
+    @Test
+    void libraryWithBrokenEntryInTheMiddleResultsInSameResult() throws IOException {
+        String library = createLibrary(NUMBER_OF_ENTRIES / 2, "")
+                + "@Article{broken, title = {missing brace}\n\n"
+                + createLibrary(NUMBER_OF_ENTRIES / 2, "second");
+        assertSameResult(library);
+    }
+
+    @Test
+    void libraryWithStringDefinedTwiceResultsInSameResult() throws IOException {
+        String library = createLibrary(NUMBER_OF_ENTRIES / 2, "")
+                + "@String{acm = {ACM}}\n\n"
+                + createLibrary(NUMBER_OF_ENTRIES / 2, "second");
+        assertSameResult(library);
+    }
+
+    @Test
+    void smallLibraryResultsInSameResult() throws IOException {
+        assertSameResult(createLibrary(3, ""));
+    }
+
+    private void assertSameResult(String library) throws IOException {
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(library));
+        ParserResult actual = new BibtexParser(importFormatPreferences).parseInParallel(new StringReader(library), pool);
+
+        List<BibEntry> expectedEntries = expected.getDatabase().getEntries();
+        List<BibEntry> actualEntries = actual.getDatabase().getEntries();
+        assertEquals(expectedEntries, actualEntries);
+        assertEquals(expectedEntries.stream().map(BibEntry::getParsedSerialization).toList(),
+                actualEntries.stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(expectedEntries.stream().map(BibEntry::getCommentsBeforeEntry).toList(),
+                actualEntries.stream().map(BibEntry::getCommentsBeforeEntry).toList());
+        assertEquals(expectedEntries.stream().map(expected.getArticleRanges()::get).toList(),
+                actualEntries.stream().map(actual.getArticleRanges()::get).toList());
+        assertEquals(expectedEntries.stream().map(expected.getFieldRanges()::get).toList(),
+                actualEntries.stream().map(actual.getFieldRanges()::get).toList());
+
+        assertEquals(stringsOf(expected), stringsOf(actual));
+        assertEquals(expected.getDatabase().getPreamble(), actual.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), actual.getDatabase().getEpilog());
+        assertEquals(expected.getDatabase().getSharedDatabaseID(), actual.getDatabase().getSharedDatabaseID());
+        assertEquals(expected.getMetaData(), actual.getMetaData());
+        assertEquals(expected.getEntryTypes(), actual.getEntryTypes());
+        assertEquals(expected.getWarningsMap(), actual.getWarningsMap());
+    }
+
+    private static Map<String, String> stringsOf(ParserResult result) {
+        return result.getDatabase().getStringValues().stream()
+                     .collect(Collectors.toMap(BibtexString::getName, BibtexString::getContent));
+    }
+
+    private static String createLibrary(int numberOfEntries, String keyPrefix) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("% DBID: 2mvhh73ge3hc5fosdsvuoa808t\n\n");
+        builder.append("@Preamble{\"\\newcommand{\\noop}[1]{}\"}\n\n");
+        builder.append("@String{").append(keyPrefix).append("acm = {Association for Computing Machinery}}\n\n");
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (i % 100 == 0) {
+                builder.append("% Comment in front of entry ").append(i).append('\n');
+                builder.append("@Comment{Comment block ").append(i).append("}\n\n");
+            }
+            builder.append("@Article{").append(keyPrefix).append("key").append(i).append(",\n")
+                   .append("  author    = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i).append("},\n")
+                   .append("  title     = \"This is my {Title} ").append(i).append("\",\n")
+                   .append("  journal   = {Journal Title ").append(i % 100).append("},\n")
+                   .append("  publisher = ").append(keyPrefix).append("acm,\n")
+                   .append("  year      = ").append(1950 + (i % 75)).append(",\n")
+                   .append("  file      = {:c\\\\temp\\\\file.pdf:PDF},\n")
+                   .append("}\n");
+            if (i % 3 == 0) {
+                builder.append('\n');
+            }
+        }
+        builder.append("@Comment{jabref-meta: databaseType:bibtex;}\n");
+        return builder.toString();
+    }
+}
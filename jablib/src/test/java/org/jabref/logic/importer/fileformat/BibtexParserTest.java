@@ -1,5 +1,6 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.nio.file.Path;
@@ -10,6 +11,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 
@@ -30,6 +33,7 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.util.strings.StringPool;
 import org.jabref.model.TreeNode;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
@@ -58,6 +62,7 @@ import org.jabref.model.groups.TexGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.UserHostInfo;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -69,6 +74,7 @@ import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -108,6 +114,21 @@ class BibtexParserTest {
         assertEquals(List.of(expected), result);
     }
 
+    @Test
+    void sharedStringPoolDeduplicatesValuesAcrossLibraries() throws ParseException {
+        StringPool stringPool = new StringPool();
+        String library = "@article{%s, journal = {Journal of Informetrics}, year = 2024}";
+        BibEntry first = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), stringPool)
+                .parseEntries(library.formatted("first")).getFirst();
+        BibEntry second = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), stringPool)
+                .parseEntries(library.formatted("second")).getFirst();
+
+        assertEquals(Optional.of("Journal of Informetrics"), second.getField(StandardField.JOURNAL));
+        assertSame(first.getField(StandardField.JOURNAL).get(), second.getField(StandardField.JOURNAL).get());
+        // at least the field names, the journal and the year were reused by the second parser
+        assertTrue(stringPool.getDeduplicatedCount() >= 4);
+    }
+
     @Test
     void fromStringReturnsEmptyListFromEmptyString() throws ParseException {
         Collection<BibEntry> parsed = parser.parseEntries("");
@@ -339,6 +360,77 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseSetsParsedSerializationOfManyEntries() throws IOException {
+        List<String> entries = IntStream.range(0, 2000)
+                                        .mapToObj(i -> "@article{key" + i + "," + OS.NEWLINE
+                                                + "  title = {Title " + i + "}}" + OS.NEWLINE)
+                                        .toList();
+        List<BibEntry> parsedEntries = parser.parse(Reader.of(String.join("", entries)))
+                                             .getDatabase().getEntries();
+
+        assertEquals(entries, parsedEntries.stream().map(BibEntry::getParsedSerialization).toList());
+    }
+
+    @Test
+    void parseSetsParsedSerializationAfterFixingCitationKeyWithoutComma() throws IOException {
+        String entry = "@article{key title = {Title A}}" + OS.NEWLINE;
+        ParserResult result = parser.parse(Reader.of(entry + "@article{second, title = {Title B}}"));
+
+        assertEquals(Optional.of("Title B"), result.getDatabase().getEntries().get(1).getField(StandardField.TITLE));
+        assertTrue(result.getDatabase().getEntries().getFirst().getParsedSerialization().startsWith("@article{key title"));
+    }
+
+    @Test
+    void streamEntriesReturnsSameResultAsParse() throws IOException {
+        String library = "% DBID: 2mvhh73ge3hc5fosdsvuoa808t" + OS.NEWLINE + OS.NEWLINE
+                + "@Preamble{\"\\newcommand{\\noop}[1]{}\"}" + OS.NEWLINE + OS.NEWLINE
+                + "@String{acm = {Association for Computing Machinery}}" + OS.NEWLINE + OS.NEWLINE
+                + IntStream.range(0, 500)
+                           .mapToObj(i -> "% Comment " + i + OS.NEWLINE
+                                   + "@article{key" + i + "," + OS.NEWLINE
+                                   + "  title = {Title " + i + "}, publisher = acm}" + OS.NEWLINE)
+                           .collect(Collectors.joining())
+                + "@article{key title = {Citation key without comma}}" + OS.NEWLINE
+                + "@article{broken, title = {Missing brace}" + OS.NEWLINE + OS.NEWLINE
+                + "@article{last, title = {Last}}" + OS.NEWLINE
+                + "@Comment{jabref-meta: databaseType:bibtex;}" + OS.NEWLINE
+                + "Epilog";
+        ParserResult expected = parser.parse(Reader.of(library));
+
+        // Hands out a few characters at a time only, thus the parser has to refill its buffer often
+        Reader slowReader = new FilterReader(Reader.of(library)) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 7));
+            }
+        };
+        BibtexParser streamingParser = new BibtexParser(importFormatPreferences);
+        List<BibEntry> entries = streamingParser.streamEntries(slowReader).toList();
+        ParserResult actual = streamingParser.getParserResult();
+
+        assertEquals(expected.getDatabase().getEntries(), entries);
+        assertEquals(expected.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                entries.stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(List.of(), actual.getDatabase().getEntries());
+        assertEquals(expected.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).toList(),
+                actual.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).toList());
+        assertEquals(expected.getDatabase().getPreamble(), actual.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), actual.getDatabase().getEpilog());
+        assertEquals(expected.getDatabase().getSharedDatabaseID(), actual.getDatabase().getSharedDatabaseID());
+        assertEquals(expected.getMetaData(), actual.getMetaData());
+        assertEquals(expected.getWarningsMap(), actual.getWarningsMap());
+    }
+
+    @Test
+    void streamEntriesParsesLazily() {
+        BibtexParser streamingParser = new BibtexParser(importFormatPreferences);
+        Iterator<BibEntry> entries = streamingParser.streamEntries(Reader.of("@article{first}" + OS.NEWLINE + "@article{second")).iterator();
+
+        assertEquals(Optional.of("first"), entries.next().getCitationKey());
+        assertFalse(streamingParser.getParserResult().hasWarnings());
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
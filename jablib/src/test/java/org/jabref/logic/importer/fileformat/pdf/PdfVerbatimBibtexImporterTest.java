@@ -1,5 +1,6 @@
 package org.jabref.logic.importer.fileformat.pdf;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.List;
@@ -7,10 +8,13 @@ import java.util.List;
 import javafx.collections.FXCollections;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.xmp.XmpUtilReader;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
@@ -56,4 +60,16 @@ class PdfVerbatimBibtexImporterTest {
         assertEquals(List.of(expected), result);
         assertEquals(List.of(expected), resultSecondImport);
     }
+
+    @Test
+    void givenFirstPageContentsAreImported() throws URISyntaxException, IOException, ParseException {
+        Path file = Path.of(PdfVerbatimBibtexImporter.class.getResource("/pdfs/minimal.pdf").toURI());
+        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(file)) {
+            List<BibEntry> result = importer.importDatabase(file, document, "@Misc{given, title = {Given}}").getDatabase().getEntries();
+
+            assertEquals(List.of(new BibEntry(StandardEntryType.Misc)
+                    .withCitationKey("given")
+                    .withField(StandardField.TITLE, "Given")), result);
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package org.jabref.logic.journals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+import info.debatty.java.stringsimilarity.Levenshtein;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "Journal of Physics A",
+            "Journal of Physics B",
+            "Journal of Physics C",
+            "Physical Review Letters",
+            "Physical Review B",
+            "Nature",
+            "Cell",
+            "Science",
+            "IEEE Transactions on Software Engineering",
+            "ieee transactions on software engineering",
+            "中国物理学报",
+            "aaaaaaaaaa",
+            "A"
+    );
+
+    private final JournalNameIndex index = new JournalNameIndex(NAMES);
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "ournal f hysics A",
+            "Journal of Physics",
+            "Physical Review Letter",
+            "Phys Rev B",
+            "Natur",
+            "Cells",
+            "C",
+            "",
+            "IEEE Transactions on Sofware Engineering",
+            "国物理学报",
+            "aaaaaaa",
+            "aaaaaaaaaaaaaa",
+            "Completely Unknown Journal"
+    })
+    void findsSameNamesAsLinearScan(String query) {
+        Set<String> expected = NAMES.stream()
+                                    .filter(name -> similarity.isSimilar(query, name))
+                                    .collect(Collectors.toSet());
+
+        assertEquals(expected, Set.copyOf(index.findWithinDistance(query, StringSimilarity.METRIC_THRESHOLD)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "kitten", "sitting", "Journal", "journal of physics"})
+    void editDistanceMatchesLevenshtein(String other) {
+        String text = "Journal of Physics";
+        int expected = (int) new Levenshtein().distance(text, other);
+
+        assertEquals(Math.min(expected, 5), Math.min(JournalNameIndex.editDistance(text, other, 4), 5));
+    }
+}
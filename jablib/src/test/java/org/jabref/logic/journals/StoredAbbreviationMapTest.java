@@ -0,0 +1,89 @@
+package org.jabref.logic.journals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.journals.ltwa.LtwaRepository;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/// Compares a repository reading the prebuilt indexes of a journal list with one loading the journal list into memory
+class StoredAbbreviationMapTest {
+
+    private static final List<Abbreviation> ABBREVIATIONS = List.of(
+            new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL"),
+            new Abbreviation("Journal of Physics A", "J. Phys. A", "JPA"),
+            new Abbreviation("Journal of Physics B", "J. Phys. B", "JPB"),
+            new Abbreviation("Nature", "Nature"));
+
+    private static JournalAbbreviationRepository inMemoryRepository;
+    private static JournalAbbreviationRepository indexedRepository;
+
+    @BeforeAll
+    static void createRepositories() throws IOException {
+        inMemoryRepository = new JournalAbbreviationRepository(createJournalList(false), new LtwaRepository());
+        indexedRepository = new JournalAbbreviationRepository(createJournalList(true), new LtwaRepository());
+    }
+
+    @AfterAll
+    static void closeRepositories() {
+        inMemoryRepository.close();
+        indexedRepository.close();
+    }
+
+    /// The indexed repository keeps the file open until it is closed, thus it is deleted on exit only (as done by [JournalAbbreviationLoader])
+    private static Path createJournalList(boolean withIndexes) throws IOException {
+        Path journalList = Files.createTempFile("journal-list", ".mv");
+        journalList.toFile().deleteOnExit();
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP);
+            ABBREVIATIONS.forEach(abbreviation -> fullToAbbreviation.put(abbreviation.getName(), abbreviation));
+            if (withIndexes) {
+                JournalAbbreviationRepository.writeIndexes(store);
+            }
+        }
+        return journalList;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Physical Review Letters", "Phys. Rev. Lett.", "Phys Rev Lett", "PRL", "J. Phys. B", "Nature", "Physical Review Leters", "Unknown Journal"})
+    void lookupsAreSameAsInMemory(String name) {
+        assertEquals(inMemoryRepository.get(name), indexedRepository.get(name));
+        assertEquals(inMemoryRepository.isKnownName(name), indexedRepository.isKnownName(name));
+        assertEquals(inMemoryRepository.isAbbreviatedName(name), indexedRepository.isAbbreviatedName(name));
+    }
+
+    @Test
+    void lookupByShortestUniqueAbbreviation() {
+        assertEquals(Optional.of(new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL")), indexedRepository.get("PRL"));
+    }
+
+    @Test
+    void lookupsByDifferentNamesReturnSameAbbreviation() {
+        assertSame(indexedRepository.get("Physical Review Letters").orElseThrow(), indexedRepository.get("PRL").orElseThrow());
+    }
+
+    @Test
+    void fuzzyLookupUsesStoredIndex() {
+        assertEquals(Optional.of(new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL")), indexedRepository.get("Physical Review Leters"));
+    }
+
+    @Test
+    void allAbbreviationsAreSameAsInMemory() {
+        assertEquals(inMemoryRepository.getFullNames(), indexedRepository.getFullNames());
+        assertEquals(Set.copyOf(inMemoryRepository.getAllLoaded()), Set.copyOf(indexedRepository.getAllLoaded()));
+    }
+}
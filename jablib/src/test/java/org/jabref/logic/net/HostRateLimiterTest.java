@@ -0,0 +1,46 @@
+package org.jabref.logic.net;
+
+import java.net.URI;
+import java.net.URL;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HostRateLimiterTest {
+
+    @Test
+    void requestsToSameHostAreThrottled() throws Exception {
+        HostRateLimiter limiter = new HostRateLimiter(1000.0);
+        limiter.setRate("example.org", 4.0);
+        URL url = URI.create("https://example.org/api").toURL();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(url);
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        // First permit is immediate, the other four are spaced 250 ms apart
+        assertTrue(elapsedSeconds >= 0.9, "elapsed: " + elapsedSeconds);
+    }
+
+    @Test
+    void hostsAreThrottledIndependently() throws Exception {
+        HostRateLimiter limiter = new HostRateLimiter(1.0);
+        limiter.acquire(URI.create("https://example.org/").toURL());
+
+        assertEquals(0.0, limiter.acquire(URI.create("https://example.com/").toURL()));
+    }
+
+    @Test
+    void localFilesAreNotThrottled() throws Exception {
+        HostRateLimiter limiter = new HostRateLimiter(0.1);
+        URL url = URI.create("file:///tmp/test.bib").toURL();
+
+        limiter.acquire(url);
+
+        assertEquals(0.0, limiter.acquire(url));
+    }
+}
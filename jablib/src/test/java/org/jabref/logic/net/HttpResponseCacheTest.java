@@ -0,0 +1,195 @@
+package org.jabref.logic.net;
+
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.util.URLUtil;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    private WireMockServer wireMockServer;
+    private Path cacheDirectory;
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp(@TempDir Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        wireMockServer = new WireMockServer(options().dynamicPort());
+        wireMockServer.start();
+        cache = new HttpResponseCache(cacheDirectory, HttpResponseCache.DEFAULT_MAX_SIZE);
+        URLDownload.setResponseCache(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        URLDownload.setResponseCache(null);
+        wireMockServer.stop();
+    }
+
+    @Test
+    void freshResponseIsServedWithoutRequest() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/fresh"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("Cache-Control", "max-age=3600")
+                                       .withBody("fresh content")));
+
+        assertEquals("fresh content\n", download("/fresh"));
+        assertEquals("fresh content\n", download("/fresh"));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/fresh")));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedUsingETag() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/etag"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("ETag", "\"v1\"")
+                                       .withBody("etag content")));
+        wireMockServer.stubFor(get(urlEqualTo("/etag"))
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+
+        assertEquals("etag content\n", download("/etag"));
+        assertEquals("etag content\n", download("/etag"));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/etag")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/etag")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(1, cache.getRevalidationCount());
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/no-store"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("Cache-Control", "no-store")
+                                       .withHeader("ETag", "\"v1\"")
+                                       .withBody("secret")));
+
+        download("/no-store");
+        download("/no-store");
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/no-store")));
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void differentRequestHeadersAreCachedSeparately() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/negotiate"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("Cache-Control", "max-age=3600")
+                                       .withBody("html")));
+        wireMockServer.stubFor(get(urlEqualTo("/negotiate"))
+                .withHeader("Accept", equalTo("application/x-bibtex"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("Cache-Control", "max-age=3600")
+                                       .withBody("bibtex")));
+
+        URLDownload bibtexDownload = new URLDownload(URLUtil.create(wireMockServer.baseUrl() + "/negotiate"));
+        bibtexDownload.addHeader("Accept", "application/x-bibtex");
+
+        assertEquals("html\n", download("/negotiate"));
+        assertEquals("bibtex\n", bibtexDownload.asString());
+    }
+
+    @Test
+    void fileDownloadIsStreamedWithoutCaching() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/paper.pdf"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("Cache-Control", "max-age=3600")
+                                       .withBody("%PDF-1.7")));
+        URLDownload fileDownload = new URLDownload(URLUtil.create(wireMockServer.baseUrl() + "/paper.pdf"));
+
+        try (ProgressInputStream first = fileDownload.asInputStream();
+             ProgressInputStream second = fileDownload.asInputStream()) {
+            assertEquals(8, first.getMaxNumBytes());
+            assertEquals("%PDF-1.7", new String(second.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/paper.pdf")));
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void apiResponseIsCached() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/api"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("Cache-Control", "max-age=3600")
+                                       .withBody("{}")));
+        URLDownload apiDownload = new URLDownload(URLUtil.create(wireMockServer.baseUrl() + "/api"));
+
+        try (InputStream first = apiDownload.asApiInputStream();
+             InputStream second = apiDownload.asApiInputStream()) {
+            assertEquals("{}", new String(second.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api")));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void responseListenerIsCalledForServerResponsesOnly() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/api"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("Cache-Control", "max-age=3600")
+                                       .withHeader("X-Rate-Limit-Limit", "50")
+                                       .withBody("{}")));
+        URLDownload apiDownload = new URLDownload(URLUtil.create(wireMockServer.baseUrl() + "/api"));
+        AtomicInteger serverResponses = new AtomicInteger();
+
+        assertEquals("{}\n", apiDownload.asApiString(connection -> {
+            assertEquals("50", connection.getHeaderField("X-Rate-Limit-Limit"));
+            serverResponses.incrementAndGet();
+        }));
+        assertEquals("{}\n", apiDownload.asApiString(_ -> serverResponses.incrementAndGet()));
+
+        assertEquals(1, serverResponses.get());
+    }
+
+    @Test
+    void cacheDirectoryContainsNoTemporaryFiles() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/etag"))
+                .willReturn(aResponse().withStatus(200)
+                                       .withHeader("ETag", "\"v1\"")
+                                       .withBody("etag content")));
+        wireMockServer.stubFor(get(urlEqualTo("/etag"))
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+
+        download("/etag");
+        download("/etag");
+
+        List<String> fileNames;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            fileNames = files.map(file -> file.getFileName().toString()).toList();
+        }
+        assertEquals(2, fileNames.size());
+        assertTrue(fileNames.stream().allMatch(name -> name.endsWith(".body") || name.endsWith(".properties")));
+    }
+
+    private String download(String path) throws FetcherException, MalformedURLException {
+        return new URLDownload(URLUtil.create(wireMockServer.baseUrl() + path)).asString();
+    }
+}
@@ -0,0 +1,36 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProtectedTermsMatcherTest {
+
+    private final ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(List.of("3G", "3GPP", "New York", "York", "H.264", "IEEE", ""));
+
+    @ParameterizedTest
+    @CsvSource(delimiterString = "->", textBlock = """
+            3G -> {3G}
+            3GPP 3G -> {3GPP} {3G}
+            New York -> {New York}
+            in York -> in {York}
+            H.264 and H5264 -> {H.264} and H5264
+            (IEEE) -> ({IEEE})
+            "IEEE" -> "{IEEE}"
+            }IEEE -> }{IEEE}
+            IEEE-IEEE/IEEE -> {IEEE}-{IEEE}/{IEEE}
+            xIEEE -> xIEEE
+            IEEEx -> IEEEx
+            IEEE} -> IEEE}
+            {IEEE} -> {IEEE}
+            IEEE1 -> {IEEE}1
+            ieee -> ieee
+            nothing to protect -> nothing to protect
+            """)
+    void protect(String input, String expected) {
+        assertEquals(expected, matcher.protect(input));
+    }
+}
@@ -0,0 +1,173 @@
+package org.jabref.logic.search;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResults;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class IndexManagerTest {
+
+    private final CliPreferences preferences = mock(CliPreferences.class);
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer");
+    private final BibEntry diez = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "diez");
+    private final BibEntry otherHarrer = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "harrer");
+    private BibDatabaseContext databaseContext;
+    private PostgreServer postgreServer;
+    private IndexManager indexManager;
+
+    @TempDir
+    private Path indexDir;
+
+    @BeforeEach
+    void setUp() {
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(true));
+
+        databaseContext = spy(new BibDatabaseContext());
+        when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
+        doReturn(List.of(Path.of("src/test/resources/org/jabref/logic/search"))).when(databaseContext).getFileDirectories(filePreferences);
+        databaseContext.getDatabase().insertEntries(List.of(harrer, diez, otherHarrer));
+
+        postgreServer = new PostgreServer();
+        indexManager = new IndexManager(databaseContext, new CurrentThreadTaskExecutor(), preferences, postgreServer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexManager.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void matchesEvaluatesGivenEntriesOnly() {
+        SearchResults results = indexManager.matches(List.of(harrer, diez), new SearchQuery("author = harrer"));
+
+        assertTrue(results.isMatched(harrer));
+        assertFalse(results.isMatched(diez));
+        assertFalse(results.isMatched(otherHarrer));
+    }
+
+    @Test
+    void matchesFindsExactlyMatchingEntries() {
+        SearchResults results = indexManager.matches(List.of(harrer, diez, otherHarrer), new SearchQuery("author = diez"));
+
+        assertEquals(Set.of(diez.getId()), results.getMatchedEntries());
+    }
+
+    @Test
+    void matchesFindsAllEntriesMatchingAnyField() {
+        SearchResults results = indexManager.matches(List.of(harrer, diez, otherHarrer), new SearchQuery("harrer"));
+
+        assertEquals(Set.of(harrer.getId(), otherHarrer.getId()), results.getMatchedEntries());
+    }
+
+    @Test
+    void searchRestrictedToEntriesFindsMatchesOfGivenEntries() {
+        SearchResults results = indexManager.search(new SearchQuery("author = harrer"), List.of(otherHarrer));
+
+        assertEquals(Set.of(otherHarrer.getId()), results.getMatchedEntries());
+    }
+
+    @Test
+    void repeatedSearchIsAnsweredFromCache() {
+        SearchResults first = indexManager.search(new SearchQuery("author = harrer"));
+        SearchResults second = indexManager.search(new SearchQuery("author = harrer"));
+
+        assertSame(first, second);
+        assertEquals(1, indexManager.getSearchResultsCacheStats().hitCount());
+    }
+
+    @Test
+    void changingMergedResultsDoesNotChangeCachedResults() {
+        SearchResults merged = new SearchResults();
+        merged.mergeSearchResults(indexManager.search(new SearchQuery("author = harrer")));
+        merged.addSearchResult(harrer.getId(), new SearchResult());
+        merged.addSearchResult(diez.getId(), new SearchResult());
+
+        SearchResults cached = indexManager.search(new SearchQuery("author = harrer"));
+
+        assertEquals(Set.of(harrer.getId(), otherHarrer.getId()), cached.getMatchedEntries());
+        assertThrows(UnsupportedOperationException.class, () -> cached.addSearchResult(diez.getId(), new SearchResult()));
+    }
+
+    @Test
+    void searchAfterIndexChangeFindsNewEntries() {
+        indexManager.search(new SearchQuery("author = harrer"));
+        BibEntry newHarrer = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "harrer");
+        databaseContext.getDatabase().insertEntry(newHarrer);
+        indexManager.addToIndex(List.of(newHarrer));
+
+        SearchResults results = indexManager.search(new SearchQuery("author = harrer"));
+
+        assertEquals(Set.of(harrer.getId(), otherHarrer.getId(), newHarrer.getId()), results.getMatchedEntries());
+        assertEquals(0, indexManager.getSearchResultsCacheStats().hitCount());
+    }
+
+    @Test
+    void fullTextSearchRightAfterLinkingFileFindsFile() {
+        indexManager.search(new SearchQuery("comma", EnumSet.of(SearchFlags.FULLTEXT)));
+        BibEntry entryWithFile = new BibEntry(StandardEntryType.Misc)
+                .withFiles(List.of(new LinkedFile("", "minimal-sentence-case.pdf", StandardFileType.PDF.getName())));
+        databaseContext.getDatabase().insertEntry(entryWithFile);
+        indexManager.addToIndex(List.of(entryWithFile));
+
+        SearchResults results = indexManager.search(new SearchQuery("comma", EnumSet.of(SearchFlags.FULLTEXT)));
+
+        assertTrue(results.hasFulltextResults(entryWithFile));
+    }
+
+    @Test
+    void creationDoesNotWaitForSearchServer() {
+        CompletableFuture<Void> serverStarted = new CompletableFuture<>();
+        PostgreServer startingServer = mock(PostgreServer.class);
+        when(startingServer.startInBackground()).thenReturn(serverStarted);
+        when(startingServer.getConnection()).thenAnswer(_ -> postgreServer.getConnection());
+        BibDatabaseContext otherContext = spy(new BibDatabaseContext());
+        when(otherContext.getFulltextIndexPath()).thenReturn(indexDir.resolve("other"));
+
+        IndexManager otherIndexManager = new IndexManager(otherContext, mock(TaskExecutor.class), preferences, startingServer);
+
+        assertFalse(otherIndexManager.isEntryMatched(harrer, new SearchQuery("author = harrer")));
+        serverStarted.complete(null);
+        otherIndexManager.closeAndWait();
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.search.indexing;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +16,11 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
 
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -31,13 +37,16 @@ public class LinkedFilesIndexerTest {
     private final FilePreferences filePreferences = mock(FilePreferences.class);
 
     private LuceneIndexer indexer;
+    private BibDatabaseContext context;
+    private Path indexDir;
 
     @BeforeEach
     void setUp(@TempDir Path indexDir) throws IOException {
+        this.indexDir = indexDir;
         when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
         when(preferences.getFilePreferences()).thenReturn(filePreferences);
 
-        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        context = mock(BibDatabaseContext.class);
         when(context.getDatabasePath()).thenReturn(Optional.of(Path.of("src/test/resources/pdfs/")));
         when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
@@ -182,4 +191,78 @@ public class LinkedFilesIndexerTest {
             assertEquals(0, reader.numDocs());
         }
     }
+
+    @Test
+    void addedFileBecomesVisibleToSearchesWithoutRefresh() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+
+        indexer.addToIndex(List.of(entry), mock(BackgroundTask.class));
+        indexer.waitForChangesToBeSearchable();
+
+        IndexSearcher searcher = indexer.acquireSearcher();
+        try {
+            assertEquals(33, searcher.getIndexReader().numDocs());
+        } finally {
+            indexer.getSearcherManager().release(searcher);
+        }
+    }
+
+    @Test
+    void changesAreCommittedWhenMaximumNumberOfUncommittedFilesIsReached() throws IOException {
+        indexer.closeAndWait();
+        indexer = new DefaultLinkedFilesIndexer(context, filePreferences, Duration.ofSeconds(1), Duration.ofHours(1), 1);
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+
+        indexer.addToIndex(List.of(entry), mock(BackgroundTask.class));
+
+        try (Directory directory = FSDirectory.open(indexDir);
+             DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertEquals(33, reader.numDocs());
+        }
+    }
+
+    @Test
+    void changesAreCommittedWhenCommitIntervalExpiresWithoutFurtherChanges() throws IOException, InterruptedException {
+        indexer.closeAndWait();
+        indexer = new DefaultLinkedFilesIndexer(context, filePreferences, Duration.ofMillis(100), Duration.ofMillis(200), 100);
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+
+        indexer.addToIndex(List.of(entry), mock(BackgroundTask.class));
+
+        assertEquals(33, waitForCommittedDocuments(33));
+    }
+
+    @Test
+    void waitingForSearchableChangesReturnsWhenIndexIsClosed() {
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        indexer.addToIndex(List.of(entry), mock(BackgroundTask.class));
+
+        indexer.closeAndWait();
+
+        assertTimeout(Duration.ofSeconds(5), indexer::waitForChangesToBeSearchable);
+    }
+
+    /// Returns the number of committed documents as soon as it is the expected number, but waits at most 10 seconds
+    private int waitForCommittedDocuments(int expected) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        int committed = 0;
+        do {
+            try (Directory directory = FSDirectory.open(indexDir)) {
+                if (DirectoryReader.indexExists(directory)) {
+                    try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                        committed = reader.numDocs();
+                    }
+                }
+            }
+            if (committed == expected) {
+                return committed;
+            }
+            Thread.sleep(50);
+        } while (System.nanoTime() - deadline < 0);
+        return committed;
+    }
 }
@@ -0,0 +1,84 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.texparser.LatexParserResults;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CachingLatexParserTest {
+
+    private CachingLatexParser parser;
+    private Path texFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        parser = new CachingLatexParser();
+        texFile = tempDir.resolve("paper.tex");
+        Files.writeString(texFile, "\\cite{Darwin1888}\n");
+    }
+
+    @Test
+    void unchangedFileIsNotParsedAgain() {
+        LatexParserResult firstResult = parser.parse(texFile).get();
+
+        assertSame(firstResult, parser.parse(texFile).get());
+    }
+
+    @Test
+    void modifiedFileIsParsedAgain() throws IOException {
+        LatexParserResult firstResult = parser.parse(texFile).get();
+        Files.writeString(texFile, "\\cite{Einstein1920}\n");
+        Files.setLastModifiedTime(texFile, FileTime.fromMillis(Files.getLastModifiedTime(texFile).toMillis() + 1000));
+
+        LatexParserResult secondResult = parser.parse(texFile).get();
+
+        assertNotSame(firstResult, secondResult);
+        assertEquals(1, secondResult.getCitationsByKey("Einstein1920").size());
+    }
+
+    @Test
+    void invalidatedFileIsParsedAgain() {
+        LatexParserResult firstResult = parser.parse(texFile).get();
+        parser.invalidate(texFile);
+
+        assertNotSame(firstResult, parser.parse(texFile).get());
+    }
+
+    @Test
+    void deletedFileIsNotFound() throws IOException {
+        parser.parse(texFile);
+        Files.delete(texFile);
+
+        assertEquals(Optional.empty(), parser.parse(texFile));
+    }
+
+    @Test
+    void manyFilesAreParsedLikeOneAfterAnother(@TempDir Path tempDir) throws IOException {
+        List<Path> texFiles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Path file = tempDir.resolve("chapter" + i + ".tex");
+            Files.writeString(file, "\\cite{Key" + i + "}\n\\input{chapter" + (i + 1) + "}\n");
+            texFiles.add(file);
+        }
+
+        LatexParserResults expected = new LatexParserResults();
+        DefaultLatexParser defaultLatexParser = new DefaultLatexParser();
+        texFiles.forEach(file -> defaultLatexParser.parse(file).ifPresent(result -> expected.add(file, result)));
+
+        assertEquals(expected, parser.parse(texFiles));
+    }
+}
@@ -0,0 +1,23 @@
+package org.jabref.logic.util;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+
+import org.jabref.logic.xmp.XmpUtilReader;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PdfUtilsTest {
+
+    @Test
+    void firstPageContentsAreSortedByPosition() throws URISyntaxException, IOException {
+        Path file = Path.of(PdfUtilsTest.class.getResource("/pdfs/minimal.pdf").toURI());
+        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(file)) {
+            assertEquals(PdfUtils.getPageContents(document, 1, true), PdfUtils.getFirstPageContents(document));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.logic.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupOrchestratorTest {
+
+    private ExecutorService executor;
+    private StartupOrchestrator startup;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        startup = new StartupOrchestrator(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runPhaseReturnsResultAndRecordsDuration() {
+        assertEquals("result", startup.runPhase("phase", () -> "result"));
+        assertEquals(List.of("phase"), List.copyOf(startup.getPhaseDurations().keySet()));
+    }
+
+    @Test
+    void startedPhasesRunConcurrently() throws InterruptedException {
+        // Each phase waits for the other one. Thus, both only finish if they run at the same time.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable phase = () -> {
+            bothStarted.countDown();
+            try {
+                assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        startup.startPhase("first", phase);
+        startup.startPhase("second", phase);
+
+        startup.awaitStartedPhases();
+
+        assertEquals(2, startup.getPhaseDurations().size());
+    }
+
+    @Test
+    void failingPhaseIsReportedToCaller() {
+        CompletableFuture<Object> phase = startup.startPhase("failing", () -> {
+            throw new IllegalStateException("failure");
+        });
+
+        assertThrows(Exception.class, phase::join);
+        assertTrue(startup.getPhaseDurations().containsKey("failing"));
+    }
+
+    @Test
+    void milestoneIsRecordedOnlyOnce() {
+        startup.reachMilestone("first window");
+        Duration firstTime = startup.getMilestones().get("first window");
+        startup.reachMilestone("first window");
+
+        assertEquals(firstTime, startup.getMilestones().get("first window"));
+    }
+}
@@ -0,0 +1,76 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectorySnapshotTest {
+
+    private Path rootDir;
+    private Path pdfsDir;
+    private Path subDir;
+    private Path pdfFile;
+    private Path subDirPdfFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        pdfsDir = Files.createDirectory(rootDir.resolve("pdfs"));
+        subDir = Files.createDirectory(pdfsDir.resolve("sub"));
+        pdfFile = Files.createFile(pdfsDir.resolve("HipKro03 - Hello.pdf"));
+        subDirPdfFile = Files.createFile(subDir.resolve("HipKro03-sub.pdf"));
+        Files.createFile(rootDir.resolve("other.pdf"));
+    }
+
+    @Test
+    void containsAllDirectoriesOfTheTree() throws IOException {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir));
+
+        assertTrue(snapshot.contains(rootDir));
+        assertTrue(snapshot.contains(subDir));
+        assertFalse(snapshot.contains(rootDir.resolve("missing")));
+        assertEquals(List.of(pdfsDir, subDir), snapshot.getSubdirectories(rootDir, Integer.MAX_VALUE));
+        assertEquals(List.of(pdfsDir), snapshot.getSubdirectories(rootDir, 1));
+        assertEquals(List.of(pdfFile), snapshot.getFiles(pdfsDir));
+    }
+
+    @Test
+    void findsFilesByNamePrefixIgnoringCase() throws IOException {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir));
+
+        assertEquals(List.of(pdfFile, subDirPdfFile), snapshot.getFilesWithNamePrefix("hipkro03"));
+    }
+
+    @Test
+    void refreshFindsAddedAndRemovedFiles() throws IOException {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir));
+        Files.delete(subDirPdfFile);
+        Path addedFile = Files.createFile(rootDir.resolve("HipKro03 - Added.pdf"));
+
+        snapshot.refresh();
+
+        assertEquals(List.of(addedFile, pdfFile), snapshot.getFilesWithNamePrefix("HipKro03"));
+    }
+
+    @Test
+    void finderFindsSameFilesInSnapshotAsInDirectories() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("HipKro03");
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(pdfsDir));
+
+        List<Path> expected = new CitationKeyBasedFileFinder(false).findAssociatedFiles(entry, List.of(pdfsDir), List.of("pdf"));
+
+        assertEquals(expected, new CitationKeyBasedFileFinder(false, snapshot).findAssociatedFiles(entry, List.of(pdfsDir), List.of("pdf")));
+    }
+}
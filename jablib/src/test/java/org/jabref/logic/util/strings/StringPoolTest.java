@@ -0,0 +1,99 @@
+package org.jabref.logic.util.strings;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringPoolTest {
+
+    @Test
+    void equalCharactersResultInSameInstance() {
+        StringPool pool = new StringPool();
+        String first = pool.deduplicate(new StringBuilder("Journal of Informetrics"));
+        String second = pool.deduplicate(new StringBuilder("Journal of Informetrics"));
+
+        assertEquals("Journal of Informetrics", first);
+        assertSame(first, second);
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.getDeduplicatedCount());
+        assertEquals(40 + "Journal of Informetrics".length(), pool.getSavedBytes());
+    }
+
+    @Test
+    void pooledCharactersAreFoundWithoutCreatingString() {
+        StringPool pool = new StringPool();
+        String pooled = pool.deduplicate("Nature");
+        CharSequence chars = new CharSequence() {
+            @Override
+            public int length() {
+                return pooled.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                return pooled.charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String toString() {
+                throw new AssertionError("Pooled characters should not be converted to a string");
+            }
+        };
+
+        assertSame(pooled, pool.deduplicate(chars));
+    }
+
+    @Test
+    void longStringsAreNotPooled() {
+        StringPool pool = new StringPool(4, StringPool.DEFAULT_MAX_SIZE);
+        String first = pool.deduplicate(new StringBuilder("abstract"));
+        String second = pool.deduplicate(new StringBuilder("abstract"));
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(0, pool.getLookupCount());
+    }
+
+    @Test
+    void poolStopsGrowingAtMaximumSize() {
+        StringPool pool = new StringPool(StringPool.DEFAULT_MAX_LENGTH, 2);
+        IntStream.range(0, 10).forEach(i -> pool.deduplicate(String.valueOf(i)));
+
+        assertEquals(2, pool.size());
+        assertSame(pool.deduplicate("0"), pool.deduplicate("0"));
+        assertEquals(pool.deduplicate("9"), pool.deduplicate("9"));
+    }
+
+    @Test
+    void poolKeepsStringsAfterGrowing() {
+        StringPool pool = new StringPool();
+        String first = pool.deduplicate("2024");
+        IntStream.range(0, 5000).forEach(i -> pool.deduplicate("key" + i));
+
+        assertSame(first, pool.deduplicate(new StringBuilder("2024")));
+        assertEquals(5001, pool.size());
+    }
+
+    @Test
+    void concurrentLookupsResultInSameInstance() {
+        StringPool pool = new StringPool();
+        List<String> results = IntStream.range(0, 1000).parallel()
+                                        .mapToObj(_ -> pool.deduplicate(new StringBuilder("Nature")))
+                                        .toList();
+
+        assertTrue(results.stream().allMatch(result -> result == results.getFirst()));
+        assertEquals(1, pool.size());
+        assertEquals(999, pool.getDeduplicatedCount());
+    }
+}
@@ -22,6 +22,7 @@ import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.event.EventListenerTest;
 
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
@@ -54,6 +56,52 @@ class BibEntryTest {
         assertThrows(NullPointerException.class, () -> entry.setType(null));
     }
 
+    @Test
+    void typePropertyReflectsTypeSetBeforeAndAfterItsCreation() {
+        entry.setType(StandardEntryType.Book);
+        assertEquals(StandardEntryType.Book, entry.typeProperty().get());
+
+        entry.setType(StandardEntryType.Article);
+        assertEquals(StandardEntryType.Article, entry.typeProperty().get());
+
+        entry.typeProperty().set(StandardEntryType.InProceedings);
+        assertEquals(StandardEntryType.InProceedings, entry.getType());
+    }
+
+    @Test
+    void standaloneEntryDoesNotCreateEventBus() {
+        entry.setField(StandardField.TITLE, "A title");
+        entry.setType(StandardEntryType.Article);
+
+        assertFalse(entry.hasEventBus());
+    }
+
+    @Test
+    void databaseReceivesChangesOfEntryWithoutEventBus() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        EventListenerTest listener = new EventListenerTest();
+        database.registerListener(listener);
+
+        entry.setField(StandardField.TITLE, "A title");
+
+        assertFalse(entry.hasEventBus());
+        assertEquals(entry, listener.getChangedEntry());
+    }
+
+    @Test
+    void databaseDoesNotReceiveChangesOfRemovedEntry() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        EventListenerTest listener = new EventListenerTest();
+        database.registerListener(listener);
+
+        entry.setField(StandardField.TITLE, "A title");
+
+        assertNull(listener.getChangedEntry());
+    }
+
     @Test
     void getFieldIsCaseInsensitive() {
         entry.setField(new UnknownField("TeSt"), "value");